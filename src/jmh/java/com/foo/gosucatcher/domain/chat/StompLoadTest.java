@@ -0,0 +1,149 @@
+package com.foo.gosucatcher.domain.chat;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 실행 중인 서버에 STOMP 클라이언트를 대량으로 붙여 채팅방 fan-out 지연 시간을 잰다.
+ * 한 번의 측정은 메시지 하나를 보내고 모든 구독자가 받을 때까지의 시간이며, 백분위는 JMH 결과로 확인한다.
+ * 접속 주소, 클라이언트 수, 토큰 등은 -p 옵션으로 바꾼다. (예: -p clients=5000)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class StompLoadTest {
+
+	private static final int CONNECT_CONCURRENCY = 200;
+	private static final long RECEIVE_TIMEOUT_SECONDS = 10;
+
+	@Param("ws://localhost:8080/gs-chat")
+	private String url;
+
+	@Param("")
+	private String token;
+
+	@Param("2000")
+	private int clients;
+
+	@Param("1")
+	private long chattingRoomId;
+
+	@Param("1")
+	private long senderId;
+
+	private final List<StompSession> sessions = new CopyOnWriteArrayList<>();
+	private final AtomicLong sequence = new AtomicLong();
+
+	private WebSocketStompClient stompClient;
+	private volatile String pendingContent;
+	private volatile CountDownLatch pendingDeliveries = new CountDownLatch(0);
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Deliveries {
+
+		public long delivered;
+		public long missed;
+	}
+
+	@Setup(Level.Trial)
+	public void connect() throws InterruptedException {
+		stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+		stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+		stompClient.setDefaultHeartbeat(new long[] {0, 0});
+
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.add("Authorization", token);
+
+		Semaphore permits = new Semaphore(CONNECT_CONCURRENCY);
+		for (int i = 0; i < clients; i++) {
+			permits.acquire();
+			stompClient.connect(url, new WebSocketHttpHeaders(), connectHeaders, new SubscriberHandler())
+				.addCallback(session -> permits.release(), failure -> permits.release());
+		}
+		permits.acquire(CONNECT_CONCURRENCY);
+
+		if (sessions.isEmpty()) {
+			throw new IllegalStateException("STOMP 서버에 연결된 클라이언트가 없습니다: " + url);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void disconnect() {
+		sessions.stream()
+			.filter(StompSession::isConnected)
+			.forEach(StompSession::disconnect);
+		stompClient.stop();
+	}
+
+	@Benchmark
+	public void fanOut(Deliveries deliveries) throws InterruptedException {
+		int subscribers = (int)sessions.stream().filter(StompSession::isConnected).count();
+		CountDownLatch latch = new CountDownLatch(subscribers);
+		String content = String.valueOf(sequence.incrementAndGet());
+		pendingDeliveries = latch;
+		pendingContent = content;
+
+		sessions.get(0).send("/pub/message", Map.of(
+			"senderId", senderId,
+			"chattingRoomId", chattingRoomId,
+			"content", content));
+		latch.await(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		deliveries.delivered += subscribers - latch.getCount();
+		deliveries.missed += latch.getCount();
+	}
+
+	private class SubscriberHandler extends StompSessionHandlerAdapter {
+
+		@Override
+		public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+			session.subscribe("/sub/chat/room/" + chattingRoomId, this);
+			sessions.add(session);
+		}
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return Map.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			CountDownLatch latch = pendingDeliveries;
+			if (String.valueOf(((Map<?, ?>)payload).get("content")).equals(pendingContent)) {
+				latch.countDown();
+			}
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.foo.gosucatcher.domain.search;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.foo.gosucatcher.domain.search.domain.SuggestionTrie;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchSuggestionBenchmark {
+
+	private static final String[] WORDS = {"청소", "이사", "과외", "영어", "수학", "레슨", "수리", "인테리어", "디자인", "개발", "촬영", "번역"};
+	private static final int SUGGESTION_SIZE = 10;
+	private static final String DATABASE_URL = "jdbc:h2:mem:suggest;DB_CLOSE_DELAY=-1";
+
+	@Param({"1000", "10000"})
+	private int subItemCount;
+
+	private SuggestionTrie suggestionTrie;
+	private Connection connection;
+	private List<String> prefixes;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		Map<String, Long> weightedKeywords = new HashMap<>();
+		connection = DriverManager.getConnection(DATABASE_URL);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE sub_items (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+		}
+
+		try (PreparedStatement insert = connection.prepareStatement("INSERT INTO sub_items (id, name) VALUES (?, ?)")) {
+			for (int id = 0; id < subItemCount; id++) {
+				String name = WORDS[id % WORDS.length] + " " + WORDS[(id / WORDS.length) % WORDS.length] + " " + id;
+				weightedKeywords.put(name, (long)ThreadLocalRandom.current().nextInt(1_000));
+
+				insert.setLong(1, id);
+				insert.setString(2, name);
+				insert.addBatch();
+			}
+			insert.executeBatch();
+		}
+
+		suggestionTrie = SuggestionTrie.build(weightedKeywords, SUGGESTION_SIZE);
+
+		prefixes = new ArrayList<>();
+		for (String word : WORDS) {
+			prefixes.add(word.substring(0, 1));
+			prefixes.add(word);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE sub_items");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public List<SuggestionTrie.Suggestion> trieSuggest() {
+		return suggestionTrie.suggest(randomPrefix(), SUGGESTION_SIZE);
+	}
+
+	@Benchmark
+	public List<String> databaseLikeSearch(LikeQuery likeQuery) throws SQLException {
+		likeQuery.statement.setString(1, "%" + randomPrefix() + "%");
+
+		List<String> names = new ArrayList<>();
+		try (ResultSet resultSet = likeQuery.statement.executeQuery()) {
+			while (resultSet.next()) {
+				names.add(resultSet.getString("name"));
+			}
+		}
+
+		return names;
+	}
+
+	private String randomPrefix() {
+		return prefixes.get(ThreadLocalRandom.current().nextInt(prefixes.size()));
+	}
+
+	@State(Scope.Thread)
+	public static class LikeQuery {
+
+		private Connection connection;
+		private PreparedStatement statement;
+
+		@Setup(Level.Trial)
+		public void setUp(SearchSuggestionBenchmark benchmark) throws SQLException {
+			connection = DriverManager.getConnection(DATABASE_URL);
+			statement = connection.prepareStatement(
+				"SELECT id, name FROM sub_items WHERE name LIKE ? ORDER BY name LIMIT " + SUGGESTION_SIZE);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws SQLException {
+			statement.close();
+			connection.close();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.foo.gosucatcher.global.aop;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.foo.gosucatcher.global.security.AuthenticatedMember;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CurrentMemberIdAdviceBenchmark {
+
+	public static class ReviewEndpoint {
+
+		public Long create(@PathVariable Long expertId, @RequestParam Long subItemId, String content, Long memberId) {
+			return memberId;
+		}
+
+		@CurrentMemberId
+		public Long createWithCurrentMemberId(@PathVariable Long expertId, @RequestParam Long subItemId,
+			String content, Long memberId) {
+			return memberId;
+		}
+	}
+
+	private ReviewEndpoint target;
+	private ReviewEndpoint advised;
+	private Method createMethod;
+	private CurrentArgumentBinder memberIdBinder;
+
+	@Setup(Level.Trial)
+	public void setUp() throws NoSuchMethodException {
+		AuthenticatedMember principal = new AuthenticatedMember(1L, 2L, "sjun@naver.com", "ROLE_USER");
+		SecurityContextHolder.getContext()
+			.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+		target = new ReviewEndpoint();
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(new CurrentMemberIdAop());
+		advised = proxyFactory.getProxy();
+
+		createMethod = ReviewEndpoint.class.getMethod("createWithCurrentMemberId", Long.class, Long.class,
+			String.class, Long.class);
+		memberIdBinder = new CurrentArgumentBinder(Long.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public Long directCall() {
+		return target.create(10L, 20L, "리뷰", null);
+	}
+
+	@Benchmark
+	public Long advisedCall() {
+		return advised.createWithCurrentMemberId(10L, 20L, "리뷰", null);
+	}
+
+	@Benchmark
+	public int reflectiveParameterScan() {
+		Parameter[] parameters = createMethod.getParameters();
+		int argumentIndex = -1;
+		for (int i = 0; i < parameters.length; i++) {
+			if (parameters[i].getType().equals(Long.class) && parameters[i].getAnnotations().length == 0) {
+				argumentIndex = i;
+			}
+		}
+
+		return argumentIndex;
+	}
+
+	@Benchmark
+	public int cachedBindingPlan() {
+		return memberIdBinder.argumentIndexOf(createMethod);
+	}
+}
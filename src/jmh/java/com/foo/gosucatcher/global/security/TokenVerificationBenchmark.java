@@ -0,0 +1,87 @@
+package com.foo.gosucatcher.global.security;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+@State(Scope.Benchmark)
+@Threads(16)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerificationBenchmark {
+
+	private static final String SECRET_KEY = Base64.getEncoder()
+		.encodeToString("DEV_COURSE_TEAM_F_PROJECT_GOSU_CATCHER_BENCHMARK_SECRET".getBytes());
+
+	@Param({"100", "5000"})
+	private int activeTokenCount;
+
+	private SecretKey signingKey;
+	private String[] tokens;
+	private VerifiedTokenParser verifiedTokenParser;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+		tokens = new String[activeTokenCount];
+		Date now = new Date();
+		for (int i = 0; i < activeTokenCount; i++) {
+			tokens[i] = Jwts.builder()
+				.setSubject("GosuCatcher")
+				.claim("memberId", (long)i)
+				.claim("memberEmail", "member" + i + "@gosu.com")
+				.claim("expertId", (long)i)
+				.claim("role", "ROLE_USER")
+				.setIssuedAt(now)
+				.setIssuer("GosuCatcher-server")
+				.setExpiration(new Date(now.getTime() + Duration.ofHours(1).toMillis()))
+				.signWith(signingKey, SignatureAlgorithm.HS256)
+				.compact();
+		}
+
+		verifiedTokenParser = new VerifiedTokenParser(SECRET_KEY);
+	}
+
+	private String nextToken() {
+		return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+	}
+
+	@Benchmark
+	public Claims parserPerCall() {
+		return Jwts.parserBuilder()
+			.setSigningKey(signingKey)
+			.build()
+			.parseClaimsJws(nextToken())
+			.getBody();
+	}
+
+	@Benchmark
+	public Claims prebuiltParser() {
+		return verifiedTokenParser.verify(nextToken());
+	}
+
+	@Benchmark
+	public Claims verifiedTokenCache() {
+		return verifiedTokenParser.parse(nextToken());
+	}
+}
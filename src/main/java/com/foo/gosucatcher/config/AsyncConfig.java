@@ -0,0 +1,71 @@
+package com.foo.gosucatcher.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+	private static final int SEARCH_CORE_POOL_SIZE = 2;
+	private static final int SEARCH_MAX_POOL_SIZE = 4;
+	private static final int SEARCH_QUEUE_CAPACITY = 1_000;
+	private static final int MAIL_POOL_SIZE = 2;
+	private static final int MAIL_QUEUE_CAPACITY = 10;
+	private static final int SMS_QUEUE_CAPACITY = 1;
+	private static final int MESSAGE_QUEUE_CAPACITY = 1;
+
+	@Bean
+	public ThreadPoolTaskExecutor searchTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(SEARCH_CORE_POOL_SIZE);
+		executor.setMaxPoolSize(SEARCH_MAX_POOL_SIZE);
+		executor.setQueueCapacity(SEARCH_QUEUE_CAPACITY);
+		executor.setThreadNamePrefix("search-");
+		executor.setRejectedExecutionHandler((task, threadPoolExecutor) -> log.warn("검색 기록 작업 큐가 가득 차 요청을 버립니다."));
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+
+		return executor;
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor mailTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(MAIL_POOL_SIZE);
+		executor.setMaxPoolSize(MAIL_POOL_SIZE);
+		executor.setQueueCapacity(MAIL_QUEUE_CAPACITY);
+		executor.setThreadNamePrefix("mail-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+
+		return executor;
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor smsTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(SMS_QUEUE_CAPACITY);
+		executor.setThreadNamePrefix("sms-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+
+		return executor;
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor messageTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(MESSAGE_QUEUE_CAPACITY);
+		executor.setThreadNamePrefix("chat-message-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+
+		return executor;
+	}
+}
@@ -0,0 +1,34 @@
+package com.foo.gosucatcher.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.foo.gosucatcher.domain.chat.application.ChattingRoomInboxCache;
+import com.foo.gosucatcher.domain.expert.application.ExpertGeoIndex;
+import com.foo.gosucatcher.domain.search.application.SubItemSearchIndex;
+import com.foo.gosucatcher.global.security.PrincipalCache;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+	@Bean
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+		@Qualifier("cacheRedisConnectionFactory") RedisConnectionFactory cacheRedisConnectionFactory,
+		PrincipalCache principalCache, ExpertGeoIndex expertGeoIndex, SubItemSearchIndex subItemSearchIndex,
+		ChattingRoomInboxCache chattingRoomInboxCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(cacheRedisConnectionFactory);
+		container.setTaskExecutor(new SyncTaskExecutor());
+		container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.INVALIDATION_CHANNEL));
+		container.addMessageListener(expertGeoIndex, new ChannelTopic(ExpertGeoIndex.CHANGED_CHANNEL));
+		container.addMessageListener(subItemSearchIndex, new ChannelTopic(SubItemSearchIndex.CHANGED_CHANNEL));
+		container.addMessageListener(chattingRoomInboxCache, new ChannelTopic(ChattingRoomInboxCache.CHANGED_CHANNEL));
+
+		return container;
+	}
+}
@@ -0,0 +1,46 @@
+package com.foo.gosucatcher.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.foo.gosucatcher.domain.chat.infrastructure.RedisChatMessagePublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "chat.broker", name = "mode", havingValue = "redis")
+public class ChatBrokerConfig {
+
+	@Bean
+	public RedisTemplate<String, String> chatRedisTemplate(
+		@Qualifier("redisConnectionFactory") RedisConnectionFactory redisConnectionFactory,
+		MeterRegistry meterRegistry) {
+		MeteredRedisTemplate chatRedisTemplate = new MeteredRedisTemplate("chat", meterRegistry);
+		chatRedisTemplate.setConnectionFactory(redisConnectionFactory);
+		chatRedisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+		chatRedisTemplate.setValueSerializer(StringRedisSerializer.UTF_8);
+
+		return chatRedisTemplate;
+	}
+
+	@Bean
+	public RedisMessageListenerContainer chatRedisMessageListenerContainer(
+		@Qualifier("redisConnectionFactory") RedisConnectionFactory redisConnectionFactory,
+		RedisChatMessagePublisher redisChatMessagePublisher) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.setTaskExecutor(new SyncTaskExecutor());
+		container.addMessageListener(redisChatMessagePublisher,
+			new PatternTopic(RedisChatMessagePublisher.CHANNEL_PATTERN));
+
+		return container;
+	}
+}
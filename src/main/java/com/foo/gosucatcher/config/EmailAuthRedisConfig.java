@@ -1,43 +0,0 @@
-package com.foo.gosucatcher.config;
-
-import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
-@EnableRedisRepositories(redisTemplateRef = "emailRedisTemplate")
-@Configuration
-public class EmailAuthRedisConfig {
-
-	private final ObjectMapper objectMapper;
-	private final RedisProperties redisProperties;
-
-	@Bean
-	public RedisConnectionFactory emailRedisConnectionFactory() {
-		LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisProperties.getHost(),
-			redisProperties.getPort());
-		lettuceConnectionFactory.setDatabase(0);
-
-		return lettuceConnectionFactory;
-	}
-
-	@Bean
-	public RedisTemplate<String, Object> emailRedisTemplate() {
-		final RedisTemplate<String, Object> template = new RedisTemplate<>();
-		template.setConnectionFactory(emailRedisConnectionFactory());
-		template.setKeySerializer(new StringRedisSerializer());
-		template.setValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper));
-
-		return template;
-	}
-}
@@ -0,0 +1,29 @@
+package com.foo.gosucatcher.config;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+class MeteredRedisTemplate extends RedisTemplate<String, String> {
+
+	private final Timer commandTimer;
+
+	MeteredRedisTemplate(String templateName, MeterRegistry meterRegistry) {
+		this.commandTimer = Timer.builder("redis.template.command")
+			.description("RedisTemplate 호출 한 번(파이프라인 포함)에 걸린 시간")
+			.tag("template", templateName)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+		Timer.Sample sample = Timer.start();
+		try {
+			return super.execute(action, exposeConnection, pipeline);
+		} finally {
+			sample.stop(commandTimer);
+		}
+	}
+}
@@ -1,15 +1,29 @@
 package com.foo.gosucatcher.config;
 
+import java.time.Duration;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -17,23 +31,129 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RedisConfig {
 
+	private static final int VERIFICATION_DATABASE = 0;
+	private static final int SEARCH_DATABASE = 2;
+	private static final int CACHE_DATABASE = 3;
+	private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(2);
+	private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+	private static final int PIPELINE_FLUSH_BUFFER_SIZE = 256;
+
 	private final RedisProperties redisProperties;
+	private final MeterRegistry meterRegistry;
+
+	@Bean(destroyMethod = "shutdown")
+	public ClientResources lettuceClientResources() {
+		MicrometerOptions micrometerOptions = MicrometerOptions.builder()
+			.localDistinction(false)
+			.build();
+
+		return DefaultClientResources.builder()
+			.commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, micrometerOptions))
+			.build();
+	}
 
 	@Bean
-	public RedisConnectionFactory redisConnectionFactory() {
-		LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisProperties.getHost(), redisProperties.getPort());
-		lettuceConnectionFactory.setDatabase(2);
+	public LettuceConnectionFactory redisConnectionFactory() {
+		LettuceConnectionFactory lettuceConnectionFactory = createConnectionFactory(SEARCH_DATABASE);
+		lettuceConnectionFactory.setPipeliningFlushPolicy(
+			LettuceConnection.PipeliningFlushPolicy.buffered(PIPELINE_FLUSH_BUFFER_SIZE));
 
 		return lettuceConnectionFactory;
 	}
 
 	@Bean
-	public RedisTemplate<String, String> searchRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
-		RedisTemplate<String, String> searchRedisTemplate = new RedisTemplate<>();
-		searchRedisTemplate.setConnectionFactory(redisConnectionFactory);
+	public LettuceConnectionFactory verificationRedisConnectionFactory() {
+		return createConnectionFactory(VERIFICATION_DATABASE);
+	}
+
+	@Bean
+	public LettuceConnectionFactory cacheRedisConnectionFactory() {
+		return createConnectionFactory(CACHE_DATABASE);
+	}
+
+	@Bean
+	public RedisTemplate<String, String> searchRedisTemplate() {
+		MeteredRedisTemplate searchRedisTemplate = new MeteredRedisTemplate("search", meterRegistry);
+		searchRedisTemplate.setConnectionFactory(redisConnectionFactory());
 		searchRedisTemplate.setKeySerializer(new StringRedisSerializer());
 		searchRedisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(String.class));
 
 		return searchRedisTemplate;
 	}
+
+	@Bean
+	public RedisTemplate<String, String> verificationRedisTemplate() {
+		MeteredRedisTemplate verificationRedisTemplate = new MeteredRedisTemplate("verification", meterRegistry);
+		verificationRedisTemplate.setConnectionFactory(verificationRedisConnectionFactory());
+		verificationRedisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+		verificationRedisTemplate.setValueSerializer(StringRedisSerializer.UTF_8);
+
+		return verificationRedisTemplate;
+	}
+
+	@Bean
+	public RedisTemplate<String, String> cacheRedisTemplate() {
+		MeteredRedisTemplate cacheRedisTemplate = new MeteredRedisTemplate("cache", meterRegistry);
+		cacheRedisTemplate.setConnectionFactory(cacheRedisConnectionFactory());
+		cacheRedisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+		cacheRedisTemplate.setValueSerializer(StringRedisSerializer.UTF_8);
+
+		return cacheRedisTemplate;
+	}
+
+	private LettuceConnectionFactory createConnectionFactory(int database) {
+		RedisStandaloneConfiguration standaloneConfiguration = new RedisStandaloneConfiguration(
+			redisProperties.getHost(), redisProperties.getPort());
+		standaloneConfiguration.setDatabase(database);
+		if (redisProperties.getPassword() != null) {
+			standaloneConfiguration.setPassword(redisProperties.getPassword());
+		}
+
+		return new LettuceConnectionFactory(standaloneConfiguration, createClientConfiguration());
+	}
+
+	private LettuceClientConfiguration createClientConfiguration() {
+		Duration commandTimeout = redisProperties.getTimeout() == null
+			? DEFAULT_COMMAND_TIMEOUT : redisProperties.getTimeout();
+		Duration connectTimeout = redisProperties.getConnectTimeout() == null
+			? DEFAULT_CONNECT_TIMEOUT : redisProperties.getConnectTimeout();
+
+		ClientOptions clientOptions = ClientOptions.builder()
+			.autoReconnect(true)
+			.disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+			.socketOptions(SocketOptions.builder()
+				.connectTimeout(connectTimeout)
+				.keepAlive(true)
+				.build())
+			.timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+			.build();
+
+		RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+		if (pool == null || Boolean.FALSE.equals(pool.getEnabled())) {
+			return LettuceClientConfiguration.builder()
+				.clientResources(lettuceClientResources())
+				.clientOptions(clientOptions)
+				.commandTimeout(commandTimeout)
+				.build();
+		}
+
+		return LettucePoolingClientConfiguration.builder()
+			.poolConfig(createPoolConfig(pool))
+			.clientResources(lettuceClientResources())
+			.clientOptions(clientOptions)
+			.commandTimeout(commandTimeout)
+			.build();
+	}
+
+	private GenericObjectPoolConfig<?> createPoolConfig(RedisProperties.Pool pool) {
+		GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMaxTotal(pool.getMaxActive());
+		poolConfig.setMaxIdle(pool.getMaxIdle());
+		poolConfig.setMinIdle(pool.getMinIdle());
+		if (pool.getMaxWait() != null) {
+			poolConfig.setMaxWait(pool.getMaxWait());
+		}
+
+		return poolConfig;
+	}
 }
@@ -0,0 +1,156 @@
+package com.foo.gosucatcher.config;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class StompMetrics implements WebSocketHandlerDecoratorFactory {
+
+	private static final String NO_DESTINATION = "none";
+	private static final String OTHER_DESTINATION = "other";
+	private static final String ID_SEGMENT = "{id}";
+	private static final Set<String> KNOWN_DESTINATIONS = Set.of(
+		"/pub/message",
+		"/sub/chat/room/" + ID_SEGMENT
+	);
+
+	private final MeterRegistry meterRegistry;
+	private final AtomicInteger activeSessions = new AtomicInteger();
+	private final Counter evictedCounter;
+	private final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
+
+	public StompMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+
+		Gauge.builder("stomp.sessions.active", activeSessions, AtomicInteger::get)
+			.description("연결된 WebSocket 세션 수")
+			.register(meterRegistry);
+		this.evictedCounter = Counter.builder("stomp.sessions.evicted")
+			.description("전송 시간 또는 버퍼 한도를 넘겨 강제로 끊은 느린 구독자 수")
+			.register(meterRegistry);
+	}
+
+	public void monitor(String channel, ThreadPoolTaskExecutor executor) {
+		Gauge.builder("stomp.channel.queue.size", executor, StompMetrics::queueSize)
+			.description("채널 실행기에서 처리를 기다리는 메시지 수")
+			.tag("channel", channel)
+			.register(meterRegistry);
+		Gauge.builder("stomp.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+			.tag("channel", channel)
+			.register(meterRegistry);
+	}
+
+	public RejectedExecutionHandler rejectionCounter(String channel) {
+		Counter rejectedCounter = Counter.builder("stomp.channel.rejected")
+			.description("채널 실행기가 가득 차 처리하지 않고 거절한 메시지 수")
+			.tag("channel", channel)
+			.register(meterRegistry);
+
+		return (task, executor) -> {
+			rejectedCounter.increment();
+			throw new RejectedExecutionException("STOMP " + channel + " 채널 실행기가 가득 찼습니다.");
+		};
+	}
+
+	public ChannelInterceptor messageCounter(String channel) {
+		return new ChannelInterceptor() {
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel messageChannel) {
+				count(channel, message);
+
+				return message;
+			}
+		};
+	}
+
+	@Override
+	public WebSocketHandler decorate(WebSocketHandler handler) {
+		return new WebSocketHandlerDecorator(handler) {
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				activeSessions.incrementAndGet();
+				super.afterConnectionEstablished(session);
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+				activeSessions.decrementAndGet();
+				if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+					evictedCounter.increment();
+				}
+				super.afterConnectionClosed(session, closeStatus);
+			}
+		};
+	}
+
+	static String normalize(String destination) {
+		if (destination == null) {
+			return NO_DESTINATION;
+		}
+
+		String[] segments = destination.split("/", -1);
+		for (int i = 0; i < segments.length; i++) {
+			if (isNumeric(segments[i])) {
+				segments[i] = ID_SEGMENT;
+			}
+		}
+
+		String normalized = String.join("/", segments);
+
+		return KNOWN_DESTINATIONS.contains(normalized) ? normalized : OTHER_DESTINATION;
+	}
+
+	private void count(String channel, Message<?> message) {
+		SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+		String destination = normalize(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+		String type = messageType == null ? SimpMessageType.OTHER.name() : messageType.name();
+
+		messageCounters.computeIfAbsent(channel + ':' + type + ':' + destination,
+				key -> meterRegistry.counter("stomp.messages", "channel", channel, "type", type,
+					"destination", destination))
+			.increment();
+	}
+
+	private static int queueSize(ThreadPoolTaskExecutor executor) {
+		try {
+			return executor.getThreadPoolExecutor().getQueue().size();
+		} catch (IllegalStateException e) {
+			return 0;
+		}
+	}
+
+	private static boolean isNumeric(String segment) {
+		if (segment.isEmpty()) {
+			return false;
+		}
+
+		for (int i = 0; i < segment.length(); i++) {
+			if (!Character.isDigit(segment.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,28 @@
+package com.foo.gosucatcher.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "stomp")
+public class StompProperties {
+
+	private static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+	private int inboundCorePoolSize = DEFAULT_POOL_SIZE;
+	private int inboundMaxPoolSize = DEFAULT_POOL_SIZE;
+	private int inboundQueueCapacity = 10_000;
+	private int outboundCorePoolSize = DEFAULT_POOL_SIZE;
+	private int outboundMaxPoolSize = DEFAULT_POOL_SIZE;
+	private int outboundQueueCapacity = 10_000;
+	private Duration sendTimeLimit = Duration.ofSeconds(10);
+	private int sendBufferSizeLimit = 512 * 1024;
+	private int messageSizeLimit = 64 * 1024;
+}
@@ -1,9 +1,14 @@
 package com.foo.gosucatcher.config;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.foo.gosucatcher.global.security.CurrentMemberArgumentResolver;
+
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
@@ -19,4 +24,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
 			.allowCredentials(true)
 			.maxAge(MAX_AGE_SECONDS);
 	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(new CurrentMemberArgumentResolver());
+	}
 }
@@ -1,11 +1,21 @@
 package com.foo.gosucatcher.config;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,7 +24,13 @@ import lombok.RequiredArgsConstructor;
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+	private static final String INBOUND = "inbound";
+	private static final String OUTBOUND = "outbound";
+
 	private final StompHandler stompHandler;
+	private final StompProperties stompProperties;
+	private final StompMetrics stompMetrics;
+	private final ObjectMapper objectMapper;
 
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -27,10 +43,57 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
 		registry.enableSimpleBroker("/sub");
 		registry.setApplicationDestinationPrefixes("/pub");
+		registry.setPreservePublishOrder(true);
+	}
+
+	@Override
+	public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+		MappingJackson2MessageConverter jacksonMessageConverter = new MappingJackson2MessageConverter();
+		jacksonMessageConverter.setObjectMapper(objectMapper);
+		messageConverters.add(jacksonMessageConverter);
+
+		return true;
+	}
+
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration
+			.setSendTimeLimit((int)stompProperties.getSendTimeLimit().toMillis())
+			.setSendBufferSizeLimit(stompProperties.getSendBufferSizeLimit())
+			.setMessageSizeLimit(stompProperties.getMessageSizeLimit())
+			.addDecoratorFactory(stompMetrics);
 	}
 
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
-		registration.interceptors(stompHandler);
+		ThreadPoolTaskExecutor executor = createExecutor(INBOUND, stompProperties.getInboundCorePoolSize(),
+			stompProperties.getInboundMaxPoolSize(), stompProperties.getInboundQueueCapacity(),
+			stompMetrics.rejectionCounter(INBOUND));
+
+		registration.taskExecutor(executor);
+		registration.interceptors(stompHandler, stompMetrics.messageCounter(INBOUND));
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		ThreadPoolTaskExecutor executor = createExecutor(OUTBOUND, stompProperties.getOutboundCorePoolSize(),
+			stompProperties.getOutboundMaxPoolSize(), stompProperties.getOutboundQueueCapacity(),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+
+		registration.taskExecutor(executor);
+		registration.interceptors(stompMetrics.messageCounter(OUTBOUND));
+	}
+
+	private ThreadPoolTaskExecutor createExecutor(String channel, int corePoolSize, int maxPoolSize,
+		int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("stomp-" + channel + "-");
+		executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+		stompMetrics.monitor(channel, executor);
+
+		return executor;
 	}
 }
@@ -0,0 +1,14 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+
+public interface ChatMessagePublisher {
+
+	String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+
+	void publish(MessageRequest messageRequest);
+
+	static String roomDestination(Long chattingRoomId) {
+		return ROOM_DESTINATION_PREFIX + chattingRoomId;
+	}
+}
@@ -0,0 +1,6 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import java.time.LocalDateTime;
+
+public record ChatMessageSentEvent(Long senderId, Long chattingRoomId, String content, LocalDateTime sentAt) {
+}
@@ -0,0 +1,82 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_CHATTING_ROOM;
+import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_MEMBER;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+import com.foo.gosucatcher.domain.chat.domain.ChattingRoomRepository;
+import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class ChatMessageValidator implements MeterBinder {
+
+	private static final long MAXIMUM_SIZE = 10_000;
+	private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+	private final MemberRepository memberRepository;
+	private final ChattingRoomRepository chattingRoomRepository;
+
+	private final Cache<Long, Boolean> existingSenders = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(TIME_TO_LIVE)
+		.recordStats()
+		.build();
+
+	private final Cache<Long, Boolean> existingRooms = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(TIME_TO_LIVE)
+		.recordStats()
+		.build();
+
+	public ChatMessageValidator(MemberRepository memberRepository, ChattingRoomRepository chattingRoomRepository) {
+		this.memberRepository = memberRepository;
+		this.chattingRoomRepository = chattingRoomRepository;
+	}
+
+	public void validate(MessageRequest messageRequest) {
+		if (!exists(existingSenders, messageRequest.senderId(), memberRepository::existsById)) {
+			throw new EntityNotFoundException(NOT_FOUND_MEMBER);
+		}
+		if (!exists(existingRooms, messageRequest.chattingRoomId(), chattingRoomRepository::existsById)) {
+			throw new EntityNotFoundException(NOT_FOUND_CHATTING_ROOM);
+		}
+	}
+
+	public void evictRoom(Long chattingRoomId) {
+		existingRooms.invalidate(chattingRoomId);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, existingSenders, "chat.message.senders");
+		CaffeineCacheMetrics.monitor(registry, existingRooms, "chat.message.rooms");
+	}
+
+	private boolean exists(Cache<Long, Boolean> cache, Long id, Predicate<Long> loader) {
+		if (id == null) {
+			return false;
+		}
+		if (cache.getIfPresent(id) != null) {
+			return true;
+		}
+
+		boolean exists = loader.test(id);
+		if (exists) {
+			cache.put(id, Boolean.TRUE);
+		}
+
+		return exists;
+	}
+}
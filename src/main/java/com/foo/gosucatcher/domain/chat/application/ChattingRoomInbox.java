@@ -0,0 +1,46 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxResponse;
+
+public record ChattingRoomInbox(
+	Long readerId,
+	List<ChattingRoomInboxResponse> rooms
+) {
+
+	public static ChattingRoomInbox empty() {
+		return new ChattingRoomInbox(null, List.of());
+	}
+
+	public ChattingRoomInbox withMessage(ChatMessageSentEvent event) {
+		List<ChattingRoomInboxResponse> updatedRooms = new ArrayList<>(rooms.size());
+		ChattingRoomInboxResponse updatedRoom = null;
+		for (ChattingRoomInboxResponse room : rooms) {
+			if (room.id().equals(event.chattingRoomId())) {
+				updatedRoom = room.withMessage(event.senderId(), event.content(), event.sentAt(),
+					!Objects.equals(event.senderId(), readerId));
+			} else {
+				updatedRooms.add(room);
+			}
+		}
+		if (updatedRoom == null) {
+			return this;
+		}
+		updatedRooms.add(0, updatedRoom);
+
+		return new ChattingRoomInbox(readerId, List.copyOf(updatedRooms));
+	}
+
+	public ChattingRoomInbox read(Long chattingRoomId, Long memberId) {
+		if (!Objects.equals(readerId, memberId)) {
+			return this;
+		}
+
+		return new ChattingRoomInbox(readerId, rooms.stream()
+			.map(room -> room.id().equals(chattingRoomId) ? room.read() : room)
+			.toList());
+	}
+}
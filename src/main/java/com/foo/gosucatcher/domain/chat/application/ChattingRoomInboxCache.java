@@ -0,0 +1,198 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxesResponse;
+import com.foo.gosucatcher.domain.chat.infrastructure.ChattingRoomJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ChattingRoomInboxCache implements MeterBinder, MessageListener {
+
+	public static final String CHANGED_CHANNEL = "chat:inbox:changed";
+
+	private static final long MAXIMUM_SIZE = 10_000;
+	private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+	private static final String MEMBER = "member";
+	private static final String EXPERT = "expert";
+	private static final String ROOM = "room";
+	private static final String READ = "read";
+
+	private final ChattingRoomJdbcRepository chattingRoomJdbcRepository;
+	private final RedisTemplate<String, String> cacheRedisTemplate;
+	private final Map<Long, Set<InboxKey>> keysByRoom = new ConcurrentHashMap<>();
+
+	private final Cache<InboxKey, ChattingRoomInbox> inboxes = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(TIME_TO_LIVE)
+		.evictionListener((InboxKey key, ChattingRoomInbox inbox, RemovalCause cause) -> unindex(key, inbox))
+		.recordStats()
+		.build();
+
+	public ChattingRoomInboxCache(ChattingRoomJdbcRepository chattingRoomJdbcRepository,
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> cacheRedisTemplate) {
+		this.chattingRoomJdbcRepository = chattingRoomJdbcRepository;
+		this.cacheRedisTemplate = cacheRedisTemplate;
+	}
+
+	public ChattingRoomInboxesResponse get(ChattingRoomInboxType type, Long ownerId) {
+		ChattingRoomInbox inbox = inboxes.get(new InboxKey(type, ownerId), this::load);
+
+		return new ChattingRoomInboxesResponse(inbox.rooms());
+	}
+
+	public void evictMember(Long memberId) {
+		evictNowAndAfterCompletion(() -> evictMemberLocally(memberId), MEMBER + ":" + memberId);
+	}
+
+	public void evictExpert(Long expertId) {
+		evictNowAndAfterCompletion(() -> evictExpertLocally(expertId), EXPERT + ":" + expertId);
+	}
+
+	public void evictRoom(Long chattingRoomId) {
+		evictNowAndAfterCompletion(() -> evictRoomLocally(chattingRoomId), ROOM + ":" + chattingRoomId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMessageSent(ChatMessageSentEvent event) {
+		Set<InboxKey> keys = keysByRoom.get(event.chattingRoomId());
+		if (keys == null) {
+			return;
+		}
+
+		keys.forEach(key -> inboxes.asMap().computeIfPresent(key, (k, inbox) -> inbox.withMessage(event)));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onChattingRoomRead(ChattingRoomReadEvent event) {
+		readLocally(event.chattingRoomId(), event.memberId());
+		publish(READ + ":" + event.chattingRoomId() + ":" + event.memberId());
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] change = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+		try {
+			switch (change[0]) {
+				case MEMBER -> evictMemberLocally(Long.valueOf(change[1]));
+				case EXPERT -> evictExpertLocally(Long.valueOf(change[1]));
+				case ROOM -> evictRoomLocally(Long.valueOf(change[1]));
+				case READ -> readLocally(Long.valueOf(change[1]), Long.valueOf(change[2]));
+				default -> log.warn("알 수 없는 채팅방 목록 변경 메시지입니다. {}", change[0]);
+			}
+		} catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+			log.warn("다른 서버에서 전파된 채팅방 목록 변경 메시지를 읽지 못했습니다.", e);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, inboxes, "chat.inbox");
+	}
+
+	private ChattingRoomInbox load(InboxKey key) {
+		ChattingRoomInbox inbox = chattingRoomJdbcRepository.findInbox(key.type(), key.ownerId());
+		for (ChattingRoomInboxResponse room : inbox.rooms()) {
+			keysByRoom.computeIfAbsent(room.id(), id -> ConcurrentHashMap.newKeySet()).add(key);
+		}
+
+		return inbox;
+	}
+
+	private void evictMemberLocally(Long memberId) {
+		evict(new InboxKey(ChattingRoomInboxType.MEMBER, memberId));
+	}
+
+	private void evictExpertLocally(Long expertId) {
+		evict(new InboxKey(ChattingRoomInboxType.EXPERT, expertId));
+		evict(new InboxKey(ChattingRoomInboxType.EXPERT_NORMAL, expertId));
+		evict(new InboxKey(ChattingRoomInboxType.EXPERT_AUTO, expertId));
+	}
+
+	private void evictRoomLocally(Long chattingRoomId) {
+		Set<InboxKey> keys = keysByRoom.remove(chattingRoomId);
+		if (keys != null) {
+			keys.forEach(this::evict);
+		}
+	}
+
+	private void readLocally(Long chattingRoomId, Long memberId) {
+		Set<InboxKey> keys = keysByRoom.get(chattingRoomId);
+		if (keys == null) {
+			return;
+		}
+
+		keys.forEach(key -> inboxes.asMap().computeIfPresent(key, (k, inbox) -> inbox.read(chattingRoomId, memberId)));
+	}
+
+	private void evictNowAndAfterCompletion(Runnable eviction, String change) {
+		eviction.run();
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(change);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				eviction.run();
+				publish(change);
+			}
+		});
+	}
+
+	private void publish(String change) {
+		try {
+			cacheRedisTemplate.convertAndSend(CHANGED_CHANNEL, change);
+		} catch (DataAccessException e) {
+			log.error("채팅방 목록 변경을 다른 서버로 전파하지 못했습니다. {}", change, e);
+		}
+	}
+
+	private void evict(InboxKey key) {
+		ChattingRoomInbox inbox = inboxes.asMap().remove(key);
+		if (inbox != null) {
+			unindex(key, inbox);
+		}
+	}
+
+	private void unindex(InboxKey key, ChattingRoomInbox inbox) {
+		if (key == null || inbox == null) {
+			return;
+		}
+
+		for (ChattingRoomInboxResponse room : inbox.rooms()) {
+			keysByRoom.computeIfPresent(room.id(), (id, keys) -> {
+				keys.remove(key);
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+	}
+
+	private record InboxKey(ChattingRoomInboxType type, Long ownerId) {
+	}
+}
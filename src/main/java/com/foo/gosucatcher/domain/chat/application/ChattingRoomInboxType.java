@@ -0,0 +1,8 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+public enum ChattingRoomInboxType {
+	MEMBER,
+	EXPERT,
+	EXPERT_NORMAL,
+	EXPERT_AUTO
+}
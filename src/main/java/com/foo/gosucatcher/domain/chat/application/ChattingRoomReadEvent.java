@@ -0,0 +1,4 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+public record ChattingRoomReadEvent(Long chattingRoomId, Long memberId) {
+}
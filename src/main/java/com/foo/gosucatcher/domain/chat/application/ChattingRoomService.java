@@ -1,26 +1,30 @@
 package com.foo.gosucatcher.domain.chat.application;
 
+import static com.foo.gosucatcher.global.error.ErrorCode.NOT_CHATTING_ROOM_PARTICIPANT;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_CHATTING_ROOM;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_MEMBER;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_MEMBER_ESTIMATE;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.foo.gosucatcher.domain.chat.application.dto.request.ChattingRoomRequest;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxesResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomsResponse;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoom;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoomRepository;
+import com.foo.gosucatcher.domain.chat.infrastructure.ChattingRoomJdbcRepository;
 import com.foo.gosucatcher.domain.estimate.domain.ExpertEstimate;
-import com.foo.gosucatcher.domain.estimate.domain.ExpertEstimateRepository;
 import com.foo.gosucatcher.domain.estimate.domain.MemberEstimate;
 import com.foo.gosucatcher.domain.estimate.domain.MemberEstimateRepository;
-import com.foo.gosucatcher.domain.estimate.domain.Status;
-import com.foo.gosucatcher.domain.member.domain.Member;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.global.error.exception.BusinessException;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -35,7 +39,10 @@ public class ChattingRoomService {
 	private final MemberEstimateRepository memberEstimateRepository;
 	private final ChattingRoomRepository chattingRoomRepository;
 	private final MemberRepository memberRepository;
-	private final ExpertEstimateRepository expertEstimateRepository;
+	private final ChattingRoomJdbcRepository chattingRoomJdbcRepository;
+	private final ChattingRoomInboxCache chattingRoomInboxCache;
+	private final ChatMessageValidator chatMessageValidator;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public ChattingRoomsResponse create(Long memberEstimateId) {
 		MemberEstimate memberEstimate = memberEstimateRepository.findById(memberEstimateId)
@@ -50,6 +57,15 @@ public class ChattingRoomService {
 
 		chattingRooms.forEach(memberEstimate::addChattingRoom);
 
+		chattingRoomInboxCache.evictMember(memberEstimate.getMember().getId());
+		memberEstimate.getExpertEstimateList().stream()
+			.map(ExpertEstimate::getExpert)
+			.filter(Objects::nonNull)
+			.forEach(expert -> chattingRoomInboxCache.evictExpert(expert.getId()));
+		if (memberEstimate.getExpert() != null) {
+			chattingRoomInboxCache.evictExpert(memberEstimate.getExpert().getId());
+		}
+
 		return ChattingRoomsResponse.from(savedChattingRooms);
 	}
 
@@ -71,17 +87,13 @@ public class ChattingRoomService {
 	}
 
 	@Transactional(readOnly = true)
-	public ChattingRoomsResponse findAllByMemberId(Long memberId) {
-		Member member = memberRepository.findById(memberId)
-			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_MEMBER));
-
-		List<MemberEstimate> memberEstimates = memberEstimateRepository.findAllByMember(member);
+	public ChattingRoomInboxesResponse findAllByMemberId(Long memberId) {
+		ChattingRoomInboxesResponse inboxes = chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER, memberId);
+		if (inboxes.chattingRoomsResponse().isEmpty() && !memberRepository.existsById(memberId)) {
+			throw new EntityNotFoundException(NOT_FOUND_MEMBER);
+		}
 
-		List<ChattingRoom> chattingRooms = memberEstimates.stream()
-			.flatMap(x -> chattingRoomRepository.findAllByMemberEstimate(x).stream())
-			.toList();
-
-		return ChattingRoomsResponse.from(chattingRooms);
+		return inboxes;
 	}
 
 	@Transactional(readOnly = true)
@@ -93,49 +105,31 @@ public class ChattingRoomService {
 	}
 
 	@Transactional(readOnly = true)
-	public ChattingRoomsResponse findAllByExpertId(Long expertId) {
-		List<ExpertEstimate> expertEstimates = expertEstimateRepository.findAllByExpertIdAndMemberEstimateIsNotNull(expertId);
-
-		List<MemberEstimate> memberEstimates = expertEstimates.stream()
-			.map(ExpertEstimate::getMemberEstimate)
-			.toList();
-
-		List<ChattingRoom> chattingRooms = memberEstimates.stream()
-			.map(chattingRoomRepository::findAllByMemberEstimate)
-			.flatMap(List::stream)
-			.toList();
-
-		return ChattingRoomsResponse.from(chattingRooms);
+	public ChattingRoomInboxesResponse findAllByExpertId(Long expertId) {
+		return chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT, expertId);
 	}
 
 	@Transactional(readOnly = true)
-	public ChattingRoomsResponse findAllOfNormalByExpertId(Long expertId) {
-		List<MemberEstimate> memberEstimates = memberEstimateRepository.findAllByExpertId(expertId);
-
-		List<ChattingRoom> chattingRooms = memberEstimates.stream()
-			.map(chattingRoomRepository::findAllByMemberEstimate)
-			.flatMap(List::stream)
-			.toList();
-
-		return ChattingRoomsResponse.from(chattingRooms);
+	public ChattingRoomInboxesResponse findAllOfNormalByExpertId(Long expertId) {
+		return chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT_NORMAL, expertId);
 	}
 
 	@Transactional(readOnly = true)
-	public ChattingRoomsResponse findAllOfAutoByExpertId(Long expertId) {
-		List<ExpertEstimate> expertEstimates = expertEstimateRepository.findAllByExpertIdAndMemberEstimateIsNotNull(expertId);
+	public ChattingRoomInboxesResponse findAllOfAutoByExpertId(Long expertId) {
+		return chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT_AUTO, expertId);
+	}
 
-		List<MemberEstimate> memberEstimates = expertEstimates.stream()
-			.map(ExpertEstimate::getMemberEstimate)
-			.filter(memberEstimate -> memberEstimate.getExpert() == null)
-			.filter(memberEstimate -> memberEstimate.getStatus() != Status.PENDING)
-			.toList();
+	public void read(Long chattingRoomId, Long memberId) {
+		if (!chattingRoomRepository.existsById(chattingRoomId)) {
+			throw new EntityNotFoundException(NOT_FOUND_CHATTING_ROOM);
+		}
+		if (!chattingRoomJdbcRepository.isParticipant(chattingRoomId, memberId)) {
+			throw new BusinessException(NOT_CHATTING_ROOM_PARTICIPANT);
+		}
 
-		List<ChattingRoom> chattingRooms = memberEstimates.stream()
-			.map(chattingRoomRepository::findAllByMemberEstimate)
-			.flatMap(List::stream)
-			.toList();
+		chattingRoomJdbcRepository.read(chattingRoomId, memberId, LocalDateTime.now());
 
-		return ChattingRoomsResponse.from(chattingRooms);
+		eventPublisher.publishEvent(new ChattingRoomReadEvent(chattingRoomId, memberId));
 	}
 
 	public void delete(Long chattingRoomId) {
@@ -147,5 +141,8 @@ public class ChattingRoomService {
 		chattingRoomRepository.delete(chattingRoom);
 
 		memberEstimate.removeChattingRoom(chattingRoom);
+
+		chattingRoomInboxCache.evictRoom(chattingRoomId);
+		chatMessageValidator.evictRoom(chattingRoomId);
 	}
 }
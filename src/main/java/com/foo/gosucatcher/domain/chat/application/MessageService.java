@@ -6,20 +6,27 @@ import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_EXPERT;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_MEMBER;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_MESSAGE;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.CursorMessagesResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.MessageHistoryResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.MessageResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.MessagesResponse;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoom;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoomRepository;
 import com.foo.gosucatcher.domain.chat.domain.Message;
+import com.foo.gosucatcher.domain.chat.domain.MessageHistory;
 import com.foo.gosucatcher.domain.chat.domain.MessageRepository;
 import com.foo.gosucatcher.domain.estimate.application.dto.response.ExpertAutoEstimateResponse;
 import com.foo.gosucatcher.domain.estimate.application.dto.response.ExpertNormalEstimateResponse;
@@ -37,10 +44,13 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class MessageService {
 
+	private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
 	private final MessageRepository messageRepository;
 	private final ChattingRoomRepository chattingRoomRepository;
 	private final MemberRepository memberRepository;
 	private final ExpertRepository expertRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public MessageResponse create(MessageRequest messageRequest) {
 		Member sender = memberRepository.findById(messageRequest.senderId())
@@ -54,6 +64,9 @@ public class MessageService {
 
 		chattingRoom.addMessage(message);
 
+		eventPublisher.publishEvent(new ChatMessageSentEvent(sender.getId(), chattingRoom.getId(),
+			savedMessage.getContent(), LocalDateTime.now()));
+
 		return MessageResponse.from(savedMessage);
 	}
 
@@ -67,6 +80,24 @@ public class MessageService {
 		return MessagesResponse.from(messages);
 	}
 
+	@Transactional(readOnly = true)
+	public CursorMessagesResponse findHistoryByChattingRoomId(Long chattingRoomId, Long cursor, int size) {
+		if (!chattingRoomRepository.existsById(chattingRoomId)) {
+			throw new EntityNotFoundException(NOT_FOUND_CHATTING_ROOM);
+		}
+
+		int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+		Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+		List<MessageHistory> results = messageRepository.findHistoryBefore(chattingRoomId, cursor, limit);
+
+		boolean hasNext = results.size() > pageSize;
+		List<MessageHistory> page = hasNext ? results.subList(0, pageSize) : results;
+		Long nextCursor = hasNext ? page.get(pageSize - 1).id() : null;
+
+		return new CursorMessagesResponse(MessageHistoryResponse.from(page), nextCursor, hasNext);
+	}
+
 	public void delete(Long messageId) {
 		Message message = messageRepository.findById(messageId)
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_MESSAGE));
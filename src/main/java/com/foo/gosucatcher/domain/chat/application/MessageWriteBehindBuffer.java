@@ -0,0 +1,295 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+import com.foo.gosucatcher.domain.chat.infrastructure.MessageJdbcRepository;
+import com.foo.gosucatcher.domain.chat.infrastructure.MessageWriteAheadLog;
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.BusinessException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MessageWriteBehindBuffer {
+
+	private static final int MAX_PENDING_COUNT = 10_000;
+	private static final int FLUSH_THRESHOLD = 100;
+	private static final int BATCH_SIZE = 500;
+	private static final long FLUSH_INTERVAL_MILLIS = 200;
+
+	private final MessageWriteAheadLog writeAheadLog;
+	private final MessageJdbcRepository messageJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final TaskExecutor messageTaskExecutor;
+	private final Semaphore flushRequest = new Semaphore(1);
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final Map<Long, Deque<PendingMessage>> roomBuffers = new LinkedHashMap<>();
+	private final List<Path> sealedSegments = new ArrayList<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	private final Counter flushedCounter;
+	private final Counter deadLetteredCounter;
+	private final Counter rejectedCounter;
+	private final Counter recoveredCounter;
+	private final Timer flushTimer;
+	private final Timer flushLag;
+
+	public MessageWriteBehindBuffer(MessageWriteAheadLog writeAheadLog, MessageJdbcRepository messageJdbcRepository,
+		PlatformTransactionManager transactionManager,
+		@Qualifier("messageTaskExecutor") TaskExecutor messageTaskExecutor, MeterRegistry meterRegistry) {
+		this.writeAheadLog = writeAheadLog;
+		this.messageJdbcRepository = messageJdbcRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.messageTaskExecutor = messageTaskExecutor;
+
+		Gauge.builder("chat.message.pending", pendingCount, AtomicInteger::get)
+			.description("DB 반영을 기다리는 채팅 메시지 수")
+			.register(meterRegistry);
+		this.flushedCounter = meterRegistry.counter("chat.message.flushed");
+		this.deadLetteredCounter = meterRegistry.counter("chat.message.dead_lettered");
+		this.rejectedCounter = meterRegistry.counter("chat.message.rejected");
+		this.recoveredCounter = meterRegistry.counter("chat.message.recovered");
+		this.flushTimer = meterRegistry.timer("chat.message.flush");
+		this.flushLag = Timer.builder("chat.message.flush.lag")
+			.description("채팅 메시지 전송부터 DB 반영까지 걸린 시간")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void recover() {
+		List<Path> segments = writeAheadLog.open();
+
+		int recoveredCount = 0;
+		synchronized (roomBuffers) {
+			for (Path segment : segments) {
+				for (PendingMessage message : writeAheadLog.read(segment)) {
+					roomBuffers.computeIfAbsent(message.chattingRoomId(), id -> new ArrayDeque<>()).addLast(message);
+					recoveredCount++;
+				}
+			}
+			sealedSegments.addAll(segments);
+			pendingCount.addAndGet(recoveredCount);
+		}
+
+		if (recoveredCount > 0) {
+			recoveredCounter.increment(recoveredCount);
+			log.info("DB에 반영되지 않은 채팅 메시지 {}건을 로그에서 복구했습니다.", recoveredCount);
+		}
+	}
+
+	public void append(MessageRequest messageRequest) {
+		PendingMessage message = PendingMessage.from(messageRequest);
+
+		int pending;
+		long sequence;
+		synchronized (roomBuffers) {
+			if (pendingCount.get() >= MAX_PENDING_COUNT) {
+				rejectedCounter.increment();
+				throw new BusinessException(ErrorCode.CHAT_MESSAGE_BUFFER_FULL);
+			}
+
+			sequence = writeAheadLog.append(message);
+			roomBuffers.computeIfAbsent(message.chattingRoomId(), id -> new ArrayDeque<>()).addLast(message);
+			pending = pendingCount.incrementAndGet();
+		}
+		writeAheadLog.sync(sequence);
+
+		if (pending >= FLUSH_THRESHOLD) {
+			requestFlush();
+		}
+	}
+
+	@Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+	public void requestFlush() {
+		if (!flushRequest.tryAcquire()) {
+			return;
+		}
+
+		try {
+			messageTaskExecutor.execute(() -> {
+				try {
+					flush();
+				} finally {
+					flushRequest.release();
+				}
+			});
+		} catch (TaskRejectedException e) {
+			flushRequest.release();
+		}
+	}
+
+	public void flush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+
+		try {
+			flushPending();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flushLock.lock();
+		try {
+			flushPending();
+		} finally {
+			flushLock.unlock();
+			writeAheadLog.close();
+		}
+	}
+
+	public int getPendingCount() {
+		return pendingCount.get();
+	}
+
+	private void flushPending() {
+		List<PendingMessage> messages = drain();
+		if (messages.isEmpty()) {
+			return;
+		}
+
+		Timer.Sample sample = Timer.start();
+		for (int from = 0; from < messages.size(); from += BATCH_SIZE) {
+			int to = Math.min(from + BATCH_SIZE, messages.size());
+			List<PendingMessage> unpersisted = persist(messages.subList(from, to));
+			if (!unpersisted.isEmpty()) {
+				List<PendingMessage> remaining = new ArrayList<>(unpersisted);
+				remaining.addAll(messages.subList(to, messages.size()));
+				retryLater(remaining, remaining.size() < messages.size());
+				return;
+			}
+		}
+		sample.stop(flushTimer);
+
+		writeAheadLog.delete(sealedSegments);
+		sealedSegments.clear();
+	}
+
+	private List<PendingMessage> drain() {
+		synchronized (roomBuffers) {
+			List<PendingMessage> messages = new ArrayList<>();
+			roomBuffers.values().forEach(messages::addAll);
+			roomBuffers.clear();
+
+			if (!messages.isEmpty()) {
+				sealedSegments.add(writeAheadLog.seal());
+			}
+
+			return messages;
+		}
+	}
+
+	private List<PendingMessage> persist(List<PendingMessage> batch) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> messageJdbcRepository.insertAll(batch));
+		} catch (DataIntegrityViolationException e) {
+			return persistEach(batch);
+		} catch (DataAccessException e) {
+			log.warn("채팅 메시지 배치를 DB에 반영하지 못했습니다.", e);
+			return batch;
+		}
+
+		flushed(batch);
+		return List.of();
+	}
+
+	private List<PendingMessage> persistEach(List<PendingMessage> batch) {
+		List<PendingMessage> persisted = new ArrayList<>();
+		List<PendingMessage> unpersisted = List.of();
+		int deadLetteredCount = 0;
+		for (int i = 0; i < batch.size(); i++) {
+			PendingMessage message = batch.get(i);
+			try {
+				messageJdbcRepository.insert(message);
+				persisted.add(message);
+			} catch (DataIntegrityViolationException e) {
+				deadLetteredCount++;
+				log.error("저장할 수 없는 채팅 메시지를 버립니다. 채팅방: {}, 보낸 사람: {}", message.chattingRoomId(),
+					message.senderId(), e);
+			} catch (DataAccessException e) {
+				log.warn("채팅 메시지를 한 건씩 반영하던 중 실패했습니다.", e);
+				unpersisted = batch.subList(i, batch.size());
+				break;
+			}
+		}
+
+		flushed(persisted);
+		deadLetteredCounter.increment(deadLetteredCount);
+		pendingCount.addAndGet(-deadLetteredCount);
+
+		return unpersisted;
+	}
+
+	private void retryLater(List<PendingMessage> remaining, boolean partiallyPersisted) {
+		log.warn("채팅 메시지 {}건을 DB에 반영하지 못해 다음 주기에 다시 시도합니다.", remaining.size());
+		if (partiallyPersisted) {
+			try {
+				compactSealedSegments(remaining);
+			} catch (UncheckedIOException e) {
+				log.error("채팅 메시지 로그를 정리하지 못했습니다. 재시작 시 이미 저장된 메시지가 다시 저장될 수 있습니다.", e);
+			}
+		}
+		requeue(remaining);
+	}
+
+	private void compactSealedSegments(List<PendingMessage> remaining) {
+		Path firstSegment = sealedSegments.get(0);
+		writeAheadLog.rewrite(firstSegment, remaining);
+		writeAheadLog.delete(sealedSegments.subList(1, sealedSegments.size()));
+
+		sealedSegments.clear();
+		sealedSegments.add(firstSegment);
+	}
+
+	private void flushed(List<PendingMessage> messages) {
+		flushedCounter.increment(messages.size());
+		pendingCount.addAndGet(-messages.size());
+
+		LocalDateTime now = LocalDateTime.now();
+		messages.forEach(message -> flushLag.record(Duration.between(message.sentAt(), now)));
+	}
+
+	private void requeue(List<PendingMessage> messages) {
+		synchronized (roomBuffers) {
+			for (int i = messages.size() - 1; i >= 0; i--) {
+				PendingMessage message = messages.get(i);
+				roomBuffers.computeIfAbsent(message.chattingRoomId(), id -> new ArrayDeque<>()).addFirst(message);
+			}
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import java.time.LocalDateTime;
+
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+
+public record PendingMessage(
+	Long senderId,
+	Long chattingRoomId,
+	String content,
+	LocalDateTime sentAt
+) {
+
+	public static PendingMessage from(MessageRequest messageRequest) {
+		return new PendingMessage(messageRequest.senderId(), messageRequest.chattingRoomId(),
+			messageRequest.content(), LocalDateTime.now());
+	}
+}
@@ -0,0 +1,27 @@
+package com.foo.gosucatcher.domain.chat.application.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.foo.gosucatcher.domain.estimate.application.dto.response.MemberEstimateResponse;
+
+public record ChattingRoomInboxResponse(
+	Long id,
+	MemberEstimateResponse memberEstimateResponse,
+	Long lastMessageSenderId,
+	String lastMessageContent,
+	LocalDateTime lastMessageSentAt,
+	long unreadCount
+) {
+
+	public ChattingRoomInboxResponse withMessage(Long senderId, String content, LocalDateTime sentAt, boolean unread) {
+
+		return new ChattingRoomInboxResponse(id, memberEstimateResponse, senderId, content, sentAt,
+			unread ? unreadCount + 1 : unreadCount);
+	}
+
+	public ChattingRoomInboxResponse read() {
+
+		return new ChattingRoomInboxResponse(id, memberEstimateResponse, lastMessageSenderId, lastMessageContent,
+			lastMessageSentAt, 0);
+	}
+}
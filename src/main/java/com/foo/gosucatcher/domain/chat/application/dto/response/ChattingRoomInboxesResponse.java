@@ -0,0 +1,8 @@
+package com.foo.gosucatcher.domain.chat.application.dto.response;
+
+import java.util.List;
+
+public record ChattingRoomInboxesResponse(
+	List<ChattingRoomInboxResponse> chattingRoomsResponse
+) {
+}
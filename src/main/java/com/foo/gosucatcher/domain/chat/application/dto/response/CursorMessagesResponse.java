@@ -0,0 +1,10 @@
+package com.foo.gosucatcher.domain.chat.application.dto.response;
+
+import java.util.List;
+
+public record CursorMessagesResponse(
+	List<MessageHistoryResponse> messagesResponse,
+	Long nextCursor,
+	boolean hasNext
+) {
+}
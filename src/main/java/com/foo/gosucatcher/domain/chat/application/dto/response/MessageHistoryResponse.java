@@ -0,0 +1,33 @@
+package com.foo.gosucatcher.domain.chat.application.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.foo.gosucatcher.domain.chat.domain.MessageHistory;
+
+public record MessageHistoryResponse(
+	Long id,
+	Long senderId,
+	String senderName,
+	String senderProfileImage,
+	String content,
+	LocalDateTime createdAt
+) {
+
+	public static MessageHistoryResponse from(MessageHistory messageHistory) {
+		return new MessageHistoryResponse(
+			messageHistory.id(),
+			messageHistory.senderId(),
+			messageHistory.senderName(),
+			messageHistory.senderProfileImage(),
+			messageHistory.content(),
+			messageHistory.createdAt()
+		);
+	}
+
+	public static List<MessageHistoryResponse> from(List<MessageHistory> messageHistories) {
+		return messageHistories.stream()
+			.map(MessageHistoryResponse::from)
+			.toList();
+	}
+}
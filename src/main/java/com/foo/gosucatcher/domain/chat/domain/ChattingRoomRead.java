@@ -0,0 +1,39 @@
+package com.foo.gosucatcher.domain.chat.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import com.foo.gosucatcher.global.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "chatting_room_reads", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_chatting_room_reads_room_member", columnNames = {"chatting_room_id", "member_id"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChattingRoomRead extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "chatting_room_id", nullable = false)
+	private Long chattingRoomId;
+
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+
+	@Column(name = "last_read_at", nullable = false)
+	private LocalDateTime lastReadAt;
+}
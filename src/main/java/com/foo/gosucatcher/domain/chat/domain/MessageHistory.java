@@ -0,0 +1,13 @@
+package com.foo.gosucatcher.domain.chat.domain;
+
+import java.time.LocalDateTime;
+
+public record MessageHistory(
+	Long id,
+	Long senderId,
+	String senderName,
+	String senderProfileImage,
+	String content,
+	LocalDateTime createdAt
+) {
+}
@@ -1,10 +1,24 @@
 package com.foo.gosucatcher.domain.chat.domain;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    List<Message> findAllByChattingRoom(ChattingRoom ChattingRoom);
+	List<Message> findAllByChattingRoom(ChattingRoom ChattingRoom);
+
+	@Query("""
+		SELECT new com.foo.gosucatcher.domain.chat.domain.MessageHistory(
+			m.id, s.id, s.name, s.profileMemberImage.filename, m.content, m.createdAt)
+		FROM Message m
+		LEFT JOIN m.sender s
+		WHERE m.chattingRoom.id = :chattingRoomId AND (:cursorId IS NULL OR m.id < :cursorId)
+		ORDER BY m.id DESC
+		""")
+	List<MessageHistory> findHistoryBefore(@Param("chattingRoomId") Long chattingRoomId,
+		@Param("cursorId") Long cursorId, Pageable pageable);
 }
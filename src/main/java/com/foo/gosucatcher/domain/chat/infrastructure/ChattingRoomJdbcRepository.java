@@ -0,0 +1,162 @@
+package com.foo.gosucatcher.domain.chat.infrastructure;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.foo.gosucatcher.domain.chat.application.ChattingRoomInbox;
+import com.foo.gosucatcher.domain.chat.application.ChattingRoomInboxType;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxResponse;
+import com.foo.gosucatcher.domain.estimate.application.dto.response.MemberEstimateResponse;
+import com.foo.gosucatcher.domain.estimate.domain.Status;
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ChattingRoomJdbcRepository {
+
+	private static final String FIND_INBOX = """
+		SELECT %1$s AS reader_id, r.id AS chatting_room_id,
+			me.id AS member_estimate_id, me.member_id, me.expert_id, me.location, me.preferred_start_date,
+			me.detailed_description, me.status,
+			si.id AS sub_item_id, mi.name AS main_item_name, si.name AS sub_item_name,
+			si.description AS sub_item_description,
+			lm.sender_id AS last_message_sender_id, lm.content AS last_message_content,
+			lm.created_at AS last_message_sent_at,
+			(SELECT COUNT(*) FROM messages um
+				WHERE um.chatting_room_id = r.id AND um.is_deleted = false AND um.sender_id <> %1$s
+					AND (rr.last_read_at IS NULL OR um.created_at > rr.last_read_at)) AS unread_count
+		FROM chatting_rooms r
+		JOIN member_estimates me ON me.id = r.member_estimate_id AND me.is_closed = false
+		JOIN sub_items si ON si.id = me.sub_item_id
+		JOIN main_items mi ON mi.id = si.main_item_id
+		%2$s
+		LEFT JOIN messages lm ON lm.id = (
+			SELECT m.id FROM messages m WHERE m.chatting_room_id = r.id AND m.is_deleted = false
+			ORDER BY m.created_at DESC, m.id DESC LIMIT 1)
+		LEFT JOIN chatting_room_reads rr ON rr.chatting_room_id = r.id AND rr.member_id = %1$s
+		WHERE r.is_deleted = false AND %3$s
+		ORDER BY COALESCE(lm.created_at, r.created_at) DESC, r.id DESC
+		""";
+
+	private static final String MEMBER_READER = "me.member_id";
+	private static final String EXPERT_READER = "x.member_id";
+	private static final String NO_JOIN = "";
+	private static final String EXPERT_JOIN = "JOIN experts x ON x.id = :ownerId AND x.is_deleted = false";
+	private static final String ESTIMATED_BY_EXPERT = """
+		EXISTS (SELECT 1 FROM expert_estimates ee
+			WHERE ee.member_estimate_id = me.id AND ee.expert_id = :ownerId AND ee.is_deleted = false)""";
+
+	private static final String FIND_MEMBER_INBOX = FIND_INBOX.formatted(MEMBER_READER, NO_JOIN,
+		"me.member_id = :ownerId");
+	private static final String FIND_EXPERT_INBOX = FIND_INBOX.formatted(EXPERT_READER, EXPERT_JOIN,
+		ESTIMATED_BY_EXPERT);
+	private static final String FIND_EXPERT_NORMAL_INBOX = FIND_INBOX.formatted(EXPERT_READER, EXPERT_JOIN,
+		"me.expert_id = :ownerId");
+	private static final String FIND_EXPERT_AUTO_INBOX = FIND_INBOX.formatted(EXPERT_READER, EXPERT_JOIN,
+		ESTIMATED_BY_EXPERT + " AND me.expert_id IS NULL AND me.status <> 'PENDING'");
+
+	private static final String IS_PARTICIPANT = """
+		SELECT EXISTS (
+			SELECT 1 FROM chatting_rooms r
+			JOIN member_estimates me ON me.id = r.member_estimate_id
+			WHERE r.id = :chattingRoomId AND r.is_deleted = false
+				AND (me.member_id = :memberId OR EXISTS (
+					SELECT 1 FROM experts x
+					WHERE x.member_id = :memberId AND x.is_deleted = false
+						AND (x.id = me.expert_id OR EXISTS (SELECT 1 FROM expert_estimates ee
+							WHERE ee.member_estimate_id = me.id AND ee.expert_id = x.id AND ee.is_deleted = false)))))
+		""";
+
+	private static final String UPDATE_READ = """
+		UPDATE chatting_room_reads
+		SET last_read_at = GREATEST(last_read_at, :readAt), updated_at = :readAt
+		WHERE chatting_room_id = :chattingRoomId AND member_id = :memberId
+		""";
+
+	private static final String INSERT_READ = """
+		INSERT INTO chatting_room_reads (chatting_room_id, member_id, last_read_at, created_at, updated_at)
+		VALUES (:chattingRoomId, :memberId, :readAt, :readAt, :readAt)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public boolean isParticipant(Long chattingRoomId, Long memberId) {
+		Map<String, Object> params = Map.of("chattingRoomId", chattingRoomId, "memberId", memberId);
+
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTICIPANT, params, Boolean.class));
+	}
+
+	public void read(Long chattingRoomId, Long memberId, LocalDateTime readAt) {
+		Map<String, Object> params = Map.of("chattingRoomId", chattingRoomId, "memberId", memberId,
+			"readAt", Timestamp.valueOf(readAt));
+		if (jdbcTemplate.update(UPDATE_READ, params) > 0) {
+			return;
+		}
+
+		try {
+			jdbcTemplate.update(INSERT_READ, params);
+		} catch (DuplicateKeyException e) {
+			jdbcTemplate.update(UPDATE_READ, params);
+		}
+	}
+
+	public ChattingRoomInbox findInbox(ChattingRoomInboxType type, Long ownerId) {
+		String sql = switch (type) {
+			case MEMBER -> FIND_MEMBER_INBOX;
+			case EXPERT -> FIND_EXPERT_INBOX;
+			case EXPERT_NORMAL -> FIND_EXPERT_NORMAL_INBOX;
+			case EXPERT_AUTO -> FIND_EXPERT_AUTO_INBOX;
+		};
+
+		return jdbcTemplate.query(sql, Map.of("ownerId", ownerId), rs -> {
+			Long readerId = null;
+			List<ChattingRoomInboxResponse> rooms = new ArrayList<>();
+			while (rs.next()) {
+				readerId = rs.getLong("reader_id");
+				rooms.add(toInboxResponse(rs));
+			}
+
+			return readerId == null ? ChattingRoomInbox.empty() : new ChattingRoomInbox(readerId, List.copyOf(rooms));
+		});
+	}
+
+	private ChattingRoomInboxResponse toInboxResponse(ResultSet rs) throws SQLException {
+		SubItemResponse subItemResponse = new SubItemResponse(
+			rs.getLong("sub_item_id"),
+			rs.getString("main_item_name"),
+			rs.getString("sub_item_name"),
+			rs.getString("sub_item_description"));
+		MemberEstimateResponse memberEstimateResponse = new MemberEstimateResponse(
+			rs.getLong("member_estimate_id"),
+			rs.getLong("member_id"),
+			rs.getObject("expert_id", Long.class),
+			subItemResponse,
+			rs.getString("location"),
+			toLocalDateTime(rs.getTimestamp("preferred_start_date")),
+			rs.getString("detailed_description"),
+			Status.valueOf(rs.getString("status")));
+
+		return new ChattingRoomInboxResponse(
+			rs.getLong("chatting_room_id"),
+			memberEstimateResponse,
+			rs.getObject("last_message_sender_id", Long.class),
+			rs.getString("last_message_content"),
+			toLocalDateTime(rs.getTimestamp("last_message_sent_at")),
+			rs.getLong("unread_count"));
+	}
+
+	private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toLocalDateTime();
+	}
+}
@@ -0,0 +1,45 @@
+package com.foo.gosucatcher.domain.chat.infrastructure;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.foo.gosucatcher.domain.chat.application.PendingMessage;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageJdbcRepository {
+
+	private static final String INSERT_MESSAGE = """
+		INSERT INTO messages (sender_id, chatting_room_id, content, is_deleted, created_at, updated_at)
+		VALUES (:senderId, :chattingRoomId, :content, false, :sentAt, :sentAt)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public int[] insertAll(List<PendingMessage> messages) {
+		SqlParameterSource[] parameters = messages.stream()
+			.map(this::toParameters)
+			.toArray(SqlParameterSource[]::new);
+
+		return jdbcTemplate.batchUpdate(INSERT_MESSAGE, parameters);
+	}
+
+	public int insert(PendingMessage message) {
+		return jdbcTemplate.update(INSERT_MESSAGE, toParameters(message));
+	}
+
+	private SqlParameterSource toParameters(PendingMessage message) {
+		return new MapSqlParameterSource()
+			.addValue("senderId", message.senderId())
+			.addValue("chattingRoomId", message.chattingRoomId())
+			.addValue("content", message.content())
+			.addValue("sentAt", Timestamp.valueOf(message.sentAt()));
+	}
+}
@@ -0,0 +1,219 @@
+package com.foo.gosucatcher.domain.chat.infrastructure;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foo.gosucatcher.domain.chat.application.PendingMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MessageWriteAheadLog {
+
+	private static final String SEGMENT_PREFIX = "messages-";
+	private static final String SEGMENT_SUFFIX = ".wal";
+	private static final String REWRITE_SUFFIX = ".tmp";
+
+	private final Path directory;
+	private final ObjectMapper objectMapper;
+	private final Object syncLock = new Object();
+
+	private long segmentIndex;
+	private Path currentSegment;
+	private FileChannel channel;
+	private BufferedWriter writer;
+	private long appendedSequence;
+	private long syncedSequence;
+
+	public MessageWriteAheadLog(@Value("${chat.message.wal-directory:chat-wal}") String directory,
+		ObjectMapper objectMapper) {
+		this.directory = Path.of(directory);
+		this.objectMapper = objectMapper;
+	}
+
+	public synchronized List<Path> open() {
+		try {
+			Files.createDirectories(directory);
+			deleteUnfinishedRewrites();
+			List<Path> segments = findSegments();
+			segmentIndex = segments.isEmpty() ? 0 : indexOf(segments.get(segments.size() - 1));
+			openNextSegment();
+
+			return segments;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public synchronized long append(PendingMessage message) {
+		try {
+			writer.write(objectMapper.writeValueAsString(message));
+			writer.newLine();
+
+			return ++appendedSequence;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void sync(long sequence) {
+		synchronized (syncLock) {
+			if (syncedSequence >= sequence) {
+				return;
+			}
+
+			long targetSequence;
+			FileChannel targetChannel;
+			synchronized (this) {
+				targetSequence = appendedSequence;
+				targetChannel = channel;
+				try {
+					writer.flush();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			try {
+				targetChannel.force(false);
+			} catch (ClosedChannelException e) {
+				// 봉인된 세그먼트는 닫기 전에 이미 디스크에 반영된다.
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			syncedSequence = targetSequence;
+		}
+	}
+
+	public synchronized Path seal() {
+		try {
+			Path sealedSegment = currentSegment;
+			closeCurrentSegment();
+			openNextSegment();
+
+			return sealedSegment;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void rewrite(Path segment, List<PendingMessage> messages) {
+		Path rewritten = segment.resolveSibling(segment.getFileName() + REWRITE_SUFFIX);
+		try (FileChannel rewriteChannel = FileChannel.open(rewritten, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			BufferedWriter rewriteWriter = new BufferedWriter(
+				new OutputStreamWriter(Channels.newOutputStream(rewriteChannel), StandardCharsets.UTF_8));
+			for (PendingMessage message : messages) {
+				rewriteWriter.write(objectMapper.writeValueAsString(message));
+				rewriteWriter.newLine();
+			}
+			rewriteWriter.flush();
+			rewriteChannel.force(false);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		try {
+			Files.move(rewritten, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public List<PendingMessage> read(Path segment) {
+		List<PendingMessage> messages = new ArrayList<>();
+		try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+			lines.filter(line -> !line.isBlank())
+				.forEach(line -> {
+					try {
+						messages.add(objectMapper.readValue(line, PendingMessage.class));
+					} catch (JsonProcessingException e) {
+						log.warn("채팅 메시지 로그의 손상된 항목을 건너뜁니다. 파일: {}", segment, e);
+					}
+				});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return messages;
+	}
+
+	public void delete(Collection<Path> segments) {
+		for (Path segment : segments) {
+			try {
+				Files.deleteIfExists(segment);
+			} catch (IOException e) {
+				log.warn("반영이 끝난 채팅 메시지 로그를 지우지 못했습니다. 파일: {}", segment, e);
+			}
+		}
+	}
+
+	public synchronized void close() {
+		try {
+			if (writer != null) {
+				closeCurrentSegment();
+			}
+		} catch (IOException e) {
+			log.warn("채팅 메시지 로그를 닫지 못했습니다.", e);
+		}
+	}
+
+	private void openNextSegment() throws IOException {
+		segmentIndex++;
+		currentSegment = directory.resolve(SEGMENT_PREFIX + "%020d".formatted(segmentIndex) + SEGMENT_SUFFIX);
+		channel = FileChannel.open(currentSegment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.APPEND);
+		writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+	}
+
+	private void closeCurrentSegment() throws IOException {
+		writer.flush();
+		channel.force(false);
+		writer.close();
+	}
+
+	private void deleteUnfinishedRewrites() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.filter(file -> file.getFileName().toString().endsWith(REWRITE_SUFFIX)).toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	private List<Path> findSegments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+				.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+				.sorted(Comparator.comparingLong(this::indexOf))
+				.toList();
+		}
+	}
+
+	private long indexOf(Path segment) {
+		String fileName = segment.getFileName().toString();
+		String index = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+
+		return Long.parseLong(index);
+	}
+}
@@ -0,0 +1,89 @@
+package com.foo.gosucatcher.domain.chat.infrastructure;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foo.gosucatcher.domain.chat.application.ChatMessagePublisher;
+import com.foo.gosucatcher.domain.chat.application.ChatMessageSentEvent;
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.broker", name = "mode", havingValue = "redis")
+public class RedisChatMessagePublisher implements ChatMessagePublisher, MessageListener {
+
+	public static final String CHANNEL_PREFIX = "chat:room:";
+	public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+
+	private final RedisTemplate<String, String> chatRedisTemplate;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final Counter publishedCounter;
+	private final Counter relayedCounter;
+	private final Counter fallbackCounter;
+
+	public RedisChatMessagePublisher(@Qualifier("chatRedisTemplate") RedisTemplate<String, String> chatRedisTemplate,
+		SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry) {
+		this.chatRedisTemplate = chatRedisTemplate;
+		this.messagingTemplate = messagingTemplate;
+		this.objectMapper = objectMapper;
+		this.eventPublisher = eventPublisher;
+
+		this.publishedCounter = meterRegistry.counter("chat.broker.redis", "result", "published");
+		this.relayedCounter = meterRegistry.counter("chat.broker.redis", "result", "relayed");
+		this.fallbackCounter = meterRegistry.counter("chat.broker.redis", "result", "fallback");
+	}
+
+	@Override
+	public void publish(MessageRequest messageRequest) {
+		try {
+			chatRedisTemplate.convertAndSend(CHANNEL_PREFIX + messageRequest.chattingRoomId(),
+				objectMapper.writeValueAsString(messageRequest));
+			publishedCounter.increment();
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("채팅 메시지를 다른 서버로 전파하지 못해 현재 서버의 구독자에게만 전달합니다. 채팅방: {}",
+				messageRequest.chattingRoomId(), e);
+			fallbackCounter.increment();
+			deliver(messageRequest);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			MessageRequest messageRequest = objectMapper.readValue(message.getBody(), MessageRequest.class);
+			deliver(messageRequest);
+			relayedCounter.increment();
+		} catch (IOException e) {
+			log.warn("다른 서버에서 전파된 채팅 메시지를 읽지 못했습니다. 채널: {}",
+				new String(message.getChannel(), StandardCharsets.UTF_8), e);
+		}
+	}
+
+	private void deliver(MessageRequest messageRequest) {
+		messagingTemplate.convertAndSend(ChatMessagePublisher.roomDestination(messageRequest.chattingRoomId()),
+			messageRequest);
+		eventPublisher.publishEvent(new ChatMessageSentEvent(messageRequest.senderId(),
+			messageRequest.chattingRoomId(), messageRequest.content(), LocalDateTime.now()));
+	}
+}
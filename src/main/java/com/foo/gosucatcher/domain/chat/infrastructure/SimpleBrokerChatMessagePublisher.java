@@ -0,0 +1,31 @@
+package com.foo.gosucatcher.domain.chat.infrastructure;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.foo.gosucatcher.domain.chat.application.ChatMessagePublisher;
+import com.foo.gosucatcher.domain.chat.application.ChatMessageSentEvent;
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.broker", name = "mode", havingValue = "simple", matchIfMissing = true)
+public class SimpleBrokerChatMessagePublisher implements ChatMessagePublisher {
+
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public void publish(MessageRequest messageRequest) {
+		messagingTemplate.convertAndSend(ChatMessagePublisher.roomDestination(messageRequest.chattingRoomId()),
+			messageRequest);
+		eventPublisher.publishEvent(new ChatMessageSentEvent(messageRequest.senderId(),
+			messageRequest.chattingRoomId(), messageRequest.content(), LocalDateTime.now()));
+	}
+}
@@ -8,13 +8,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.foo.gosucatcher.domain.chat.application.ChattingRoomService;
+import com.foo.gosucatcher.domain.chat.application.MessageService;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxesResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomsResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.CursorMessagesResponse;
 import com.foo.gosucatcher.global.aop.CurrentExpertId;
 import com.foo.gosucatcher.global.aop.CurrentMemberId;
 
@@ -25,6 +30,7 @@ import com.foo.gosucatcher.global.aop.CurrentMemberId;
 public class ChattingRoomController {
 
 	private final ChattingRoomService chattingRoomService;
+	private final MessageService messageService;
 
 	@Operation(summary = "모든 채팅방 생성", description = "모든 채팅방을 생성합니다.", tags = {"ChattingRoomController"})
 	@GetMapping
@@ -44,6 +50,23 @@ public class ChattingRoomController {
 		return ResponseEntity.ok(chattingRoomResponse);
 	}
 
+	@Operation(summary = "채팅방 메시지 내역 조회", description = "커서 이전의 메시지를 최신순으로 조회합니다.", tags = {"ChattingRoomController"})
+	@GetMapping("/{chattingRoomId}/messages")
+	public ResponseEntity<CursorMessagesResponse> findMessagesByChattingRoomId(
+		@Parameter(description = "채팅방 ID", required = true)
+		@PathVariable Long chattingRoomId,
+
+		@Parameter(description = "이전 응답의 nextCursor")
+		@RequestParam(required = false) Long cursor,
+
+		@Parameter(description = "조회 개수", example = "30")
+		@RequestParam(defaultValue = "30") int size) {
+		CursorMessagesResponse cursorMessagesResponse = messageService.findHistoryByChattingRoomId(chattingRoomId,
+			cursor, size);
+
+		return ResponseEntity.ok(cursorMessagesResponse);
+	}
+
 	@Operation(summary = "회원 견적서 ID로 채팅방 조회", description = "채팅방 ID로 채팅방을 조회합니다.", tags = {"ChattingRoomController"})
 	@GetMapping("/memberEstimates/{memberEstimateId}")
 	public ResponseEntity<ChattingRoomsResponse> findAllByMemberEstimateId(
@@ -57,45 +80,59 @@ public class ChattingRoomController {
 	@Operation(summary = "회원 ID로 채팅방 목록 조회", description = "회원 ID로 채팅방 목록을 조회합니다.", tags = {"ChattingRoomController"})
 	@GetMapping("/members")
 	@CurrentMemberId
-	public ResponseEntity<ChattingRoomsResponse> findAllByMemberId(
+	public ResponseEntity<ChattingRoomInboxesResponse> findAllByMemberId(
 		@Parameter(description = "회원 ID", required = true)
 		Long memberId) {
-		ChattingRoomsResponse chattingRoomsResponse = chattingRoomService.findAllByMemberId(memberId);
+		ChattingRoomInboxesResponse chattingRoomInboxesResponse = chattingRoomService.findAllByMemberId(memberId);
 
-		return ResponseEntity.ok(chattingRoomsResponse);
+		return ResponseEntity.ok(chattingRoomInboxesResponse);
 	}
 
 	@Operation(summary = "고수 ID로 채팅방 목록 조회", description = "고수 ID로 채팅방 목록을 조회합니다.", tags = {"ChattingRoomController"})
 	@GetMapping("/experts")
 	@CurrentExpertId
-	public ResponseEntity<ChattingRoomsResponse> findAllByExpertId(
+	public ResponseEntity<ChattingRoomInboxesResponse> findAllByExpertId(
 		@Parameter(description = "고수 ID", required = true)
 		Long expertId) {
-		ChattingRoomsResponse chattingRoomsResponse = chattingRoomService.findAllByExpertId(expertId);
+		ChattingRoomInboxesResponse chattingRoomInboxesResponse = chattingRoomService.findAllByExpertId(expertId);
 
-		return ResponseEntity.ok(chattingRoomsResponse);
+		return ResponseEntity.ok(chattingRoomInboxesResponse);
 	}
 
 	@Operation(summary = "고수 ID로 일반 견적 채팅방 목록 조회", description = "고수 ID로 일반 견적 채팅방 목록을 조회합니다.", tags = {"ChattingRoomController"})
 	@GetMapping("/normal")
 	@CurrentExpertId
-	public ResponseEntity<ChattingRoomsResponse> findAllOfNormalByExpertId(
+	public ResponseEntity<ChattingRoomInboxesResponse> findAllOfNormalByExpertId(
 		@Parameter(description = "고수 ID", required = true)
 		Long expertId) {
-		ChattingRoomsResponse chattingRoomsResponse = chattingRoomService.findAllOfNormalByExpertId(expertId);
+		ChattingRoomInboxesResponse chattingRoomInboxesResponse = chattingRoomService.findAllOfNormalByExpertId(expertId);
 
-		return ResponseEntity.ok(chattingRoomsResponse);
+		return ResponseEntity.ok(chattingRoomInboxesResponse);
 	}
 
 	@Operation(summary = "고수 ID로 바로 견적 채팅방 목록 조회", description = "고수 ID로 바로 견적 채팅방 목록을 조회합니다.", tags = {"ChattingRoomController"})
 	@GetMapping("/auto")
 	@CurrentExpertId
-	public ResponseEntity<ChattingRoomsResponse> findAllOfAutoByExpertId(
+	public ResponseEntity<ChattingRoomInboxesResponse> findAllOfAutoByExpertId(
 		@Parameter(description = "고수 ID", required = true)
 		Long expertId) {
-		ChattingRoomsResponse chattingRoomsResponse = chattingRoomService.findAllOfAutoByExpertId(expertId);
+		ChattingRoomInboxesResponse chattingRoomInboxesResponse = chattingRoomService.findAllOfAutoByExpertId(expertId);
 
-		return ResponseEntity.ok(chattingRoomsResponse);
+		return ResponseEntity.ok(chattingRoomInboxesResponse);
+	}
+
+	@Operation(summary = "채팅방 읽음 처리", description = "채팅방의 메시지를 현재 시각까지 읽음으로 표시합니다.", tags = {"ChattingRoomController"})
+	@PatchMapping("/{chattingRoomId}/read")
+	@CurrentMemberId
+	public ResponseEntity<Void> read(
+		@Parameter(description = "채팅방 ID", required = true)
+		@PathVariable Long chattingRoomId,
+
+		@Parameter(description = "회원 ID", required = true)
+		Long memberId) {
+		chattingRoomService.read(chattingRoomId, memberId);
+
+		return ResponseEntity.ok(null);
 	}
 
 	@Operation(summary = "채팅방 삭제", description = "채팅방을 삭제합니다.", tags = {"ChattingRoomController"})
@@ -1,10 +1,11 @@
 package com.foo.gosucatcher.domain.chat.presentation;
 
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
-import com.foo.gosucatcher.domain.chat.application.MessageService;
+import com.foo.gosucatcher.domain.chat.application.ChatMessagePublisher;
+import com.foo.gosucatcher.domain.chat.application.ChatMessageValidator;
+import com.foo.gosucatcher.domain.chat.application.MessageWriteBehindBuffer;
 import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
 
 import lombok.RequiredArgsConstructor;
@@ -13,12 +14,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MessageController {
 
-	private final SimpMessagingTemplate template;
-	private final MessageService messageService;
+	private final ChatMessageValidator chatMessageValidator;
+	private final ChatMessagePublisher chatMessagePublisher;
+	private final MessageWriteBehindBuffer messageWriteBehindBuffer;
 
 	@MessageMapping("/message")
 	public void sendMessage(MessageRequest messageRequest) {
-		messageService.create(messageRequest);
-		template.convertAndSend("/sub/chat/room/" + messageRequest.chattingRoomId(), messageRequest);
+		chatMessageValidator.validate(messageRequest);
+		messageWriteBehindBuffer.append(messageRequest);
+		chatMessagePublisher.publish(messageRequest);
 	}
 }
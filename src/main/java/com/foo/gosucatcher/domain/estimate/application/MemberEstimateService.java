@@ -24,12 +24,13 @@ import com.foo.gosucatcher.domain.estimate.domain.Status;
 import com.foo.gosucatcher.domain.expert.domain.Expert;
 import com.foo.gosucatcher.domain.expert.domain.ExpertItemRepository;
 import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.item.application.ItemCatalogCache;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
-import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
 import com.foo.gosucatcher.domain.member.domain.Member;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+import com.foo.gosucatcher.global.geo.LocationGeocoder;
 
 import lombok.RequiredArgsConstructor;
 
@@ -40,21 +41,23 @@ public class MemberEstimateService {
 
 	private final MemberEstimateRepository memberEstimateRepository;
 	private final MemberRepository memberRepository;
-	private final SubItemRepository subItemRepository;
+	private final ItemCatalogCache itemCatalogCache;
 	private final ExpertEstimateRepository expertEstimateRepository;
 	private final ExpertRepository expertRepository;
 	private final ExpertItemRepository expertItemRepository;
+	private final LocationGeocoder locationGeocoder;
 
 	public MemberEstimate create(Long memberId, MemberEstimateRequest memberEstimateRequest) {
 		Member member = memberRepository.findById(memberId)
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_MEMBER));
-		SubItem subItem = subItemRepository.findById(memberEstimateRequest.subItemId())
-			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_SUB_ITEM));
+		SubItem subItem = itemCatalogCache.getSubItemReference(memberEstimateRequest.subItemId());
 
 		checkRequesterHasSameSubItem(member.getId(), subItem.getId());
 		checkDuplicatedMemberEstimate(member.getId(), subItem.getId());
 
 		MemberEstimate memberEstimate = MemberEstimateRequest.toMemberEstimate(member, subItem, memberEstimateRequest);
+		locationGeocoder.geocode(memberEstimate.getLocation())
+			.ifPresent(memberEstimate::updateCoordinate);
 
 		return memberEstimateRepository.save(memberEstimate);
 	}
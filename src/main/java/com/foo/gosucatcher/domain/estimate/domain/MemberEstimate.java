@@ -6,6 +6,7 @@ import java.util.List;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -29,6 +30,7 @@ import com.foo.gosucatcher.domain.member.domain.Member;
 import com.foo.gosucatcher.global.BaseEntity;
 import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
+import com.foo.gosucatcher.global.geo.GeoPoint;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -64,6 +66,9 @@ public class MemberEstimate extends BaseEntity {
 	@Column(nullable = false)
 	private String location;
 
+	@Embedded
+	private GeoPoint coordinate;
+
 	@Column(nullable = false)
 	private LocalDateTime preferredStartDate;
 
@@ -106,6 +111,10 @@ public class MemberEstimate extends BaseEntity {
 		this.expert = expert;
 	}
 
+	public void updateCoordinate(GeoPoint coordinate) {
+		this.coordinate = coordinate;
+	}
+
 	public void updateStatus(Status status) {
 		this.status = status;
 	}
@@ -3,6 +3,7 @@ package com.foo.gosucatcher.domain.estimate.domain;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,4 +21,16 @@ public interface MemberEstimateRepository extends JpaRepository<MemberEstimate,
 	List<MemberEstimate> findAllByPendingAndExpertId(@Param("expertId") Long expertId);
 
 	@Query("SELECT m FROM MemberEstimate m WHERE m.expert.id = :expertId")
-	List<MemberEstimate> findAllByExpertId(@Param("expertId") Long expertId);}
+	List<MemberEstimate> findAllByExpertId(@Param("expertId") Long expertId);
+
+	@Query("SELECT DISTINCT m.location FROM MemberEstimate m WHERE m.coordinate.latitude IS NULL")
+	List<String> findDistinctLocationsWithoutCoordinate();
+
+	@Modifying
+	@Query("""
+		UPDATE MemberEstimate m SET m.coordinate.latitude = :latitude, m.coordinate.longitude = :longitude
+		WHERE m.location = :location AND m.coordinate.latitude IS NULL
+		""")
+	int updateCoordinateByLocation(@Param("location") String location, @Param("latitude") double latitude,
+		@Param("longitude") double longitude);
+}
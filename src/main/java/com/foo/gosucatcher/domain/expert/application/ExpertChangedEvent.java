@@ -0,0 +1,4 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+public record ExpertChangedEvent(Long expertId) {
+}
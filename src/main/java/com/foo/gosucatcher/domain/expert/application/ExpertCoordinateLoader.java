@@ -0,0 +1,51 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.foo.gosucatcher.domain.estimate.domain.MemberEstimateRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.global.geo.GeoPoint;
+import com.foo.gosucatcher.global.geo.LocationGeocoder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpertCoordinateLoader {
+
+	private final ExpertRepository expertRepository;
+	private final MemberEstimateRepository memberEstimateRepository;
+	private final LocationGeocoder locationGeocoder;
+	private final ExpertGeoIndex expertGeoIndex;
+
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		int experts = geocode(expertRepository.findDistinctLocationsWithoutCoordinate(),
+			(location, point) -> expertRepository.updateCoordinateByLocation(location, point.getLatitude(),
+				point.getLongitude()));
+		int memberEstimates = geocode(memberEstimateRepository.findDistinctLocationsWithoutCoordinate(),
+			(location, point) -> memberEstimateRepository.updateCoordinateByLocation(location, point.getLatitude(),
+				point.getLongitude()));
+
+		log.info("좌표 적재 완료 - 고수 {}건, 견적 {}건", experts, memberEstimates);
+
+		expertGeoIndex.rebuild();
+	}
+
+	private int geocode(List<String> locations, BiFunction<String, GeoPoint, Integer> updater) {
+		return locations.stream()
+			.mapToInt(location -> locationGeocoder.geocode(location)
+				.map(point -> updater.apply(location, point))
+				.orElse(0))
+			.sum();
+	}
+}
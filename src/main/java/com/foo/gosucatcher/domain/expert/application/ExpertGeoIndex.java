@@ -0,0 +1,219 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.expert.domain.ExpertCoverage;
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.global.geo.GeoHashUtils;
+import com.foo.gosucatcher.global.geo.GeoPoint;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ExpertGeoIndex implements MessageListener {
+
+	public static final String CHANGED_CHANNEL = "expert:geo_index:changed";
+
+	static final int CELL_PRECISION = 4;
+	static final int MAX_SCANNED_CELLS = 256;
+
+	private final ExpertRepository expertRepository;
+	private final RedisTemplate<String, String> cacheRedisTemplate;
+
+	private volatile Map<Long, SubItemCells> subItemCells = new ConcurrentHashMap<>();
+
+	public ExpertGeoIndex(ExpertRepository expertRepository,
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> cacheRedisTemplate) {
+		this.expertRepository = expertRepository;
+		this.cacheRedisTemplate = cacheRedisTemplate;
+	}
+
+	public synchronized void rebuild() {
+		Map<Long, SubItemCells> rebuilt = new ConcurrentHashMap<>();
+
+		for (ExpertCoverage coverage : expertRepository.findAllCoverages()) {
+			rebuilt.computeIfAbsent(coverage.subItemId(), id -> new SubItemCells()).add(Coverage.from(coverage));
+		}
+
+		subItemCells = rebuilt;
+	}
+
+	public synchronized void reload(Long expertId) {
+		applyRemove(expertId);
+
+		for (ExpertCoverage coverage : expertRepository.findCoveragesByExpertId(expertId)) {
+			subItemCells.computeIfAbsent(coverage.subItemId(), id -> new SubItemCells()).add(Coverage.from(coverage));
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			reload(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+		} catch (NumberFormatException e) {
+			log.warn("다른 서버에서 전파된 고수 위치 색인 변경 메시지를 읽지 못했습니다.", e);
+		} catch (DataAccessException e) {
+			log.error("다른 서버에서 변경된 고수 위치 색인을 다시 읽지 못했습니다.", e);
+		}
+	}
+
+	public void put(Expert expert) {
+		Long expertId = expert.getId();
+		if (expert.getCoordinate() == null || expert.getCoordinate().getLatitude() == null) {
+			remove(expertId);
+			return;
+		}
+
+		Coverage entry = new Coverage(expertId, expert.getCoordinate(), expert.getMaxTravelDistance());
+		List<Long> subItemIds = expert.getExpertItemList()
+			.stream()
+			.map(expertItem -> expertItem.getSubItem().getId())
+			.toList();
+
+		afterCommit(() -> {
+			applyPut(entry, subItemIds);
+			publishChange(expertId);
+		});
+	}
+
+	public void remove(Long expertId) {
+		afterCommit(() -> {
+			applyRemove(expertId);
+			publishChange(expertId);
+		});
+	}
+
+	public List<NearbyExpert> findCoveringExperts(Long subItemId, GeoPoint point, int size) {
+		SubItemCells cells = subItemCells.get(subItemId);
+		if (cells == null) {
+			return List.of();
+		}
+
+		return cells.candidates(point)
+			.stream()
+			.map(coverage -> new NearbyExpert(coverage.expertId(), coverage.point().distanceKmTo(point),
+				coverage.maxTravelDistance()))
+			.filter(NearbyExpert::isCovered)
+			.sorted(Comparator.comparingDouble(NearbyExpert::distance))
+			.limit(size)
+			.toList();
+	}
+
+	private synchronized void applyPut(Coverage entry, List<Long> subItemIds) {
+		applyRemove(entry.expertId());
+
+		subItemIds.forEach(subItemId -> subItemCells.computeIfAbsent(subItemId, id -> new SubItemCells()).add(entry));
+	}
+
+	private synchronized void applyRemove(Long expertId) {
+		subItemCells.values()
+			.forEach(cells -> cells.remove(expertId));
+	}
+
+	private void publishChange(Long expertId) {
+		try {
+			cacheRedisTemplate.convertAndSend(CHANGED_CHANNEL, String.valueOf(expertId));
+		} catch (DataAccessException e) {
+			log.error("고수 위치 색인 변경을 다른 서버로 전파하지 못했습니다. 고수: {}", expertId, e);
+		}
+	}
+
+	private void afterCommit(Runnable mutation) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			mutation.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					mutation.run();
+				}
+			}
+		});
+	}
+
+	public record NearbyExpert(Long expertId, double distance, int maxTravelDistance) {
+
+		private boolean isCovered() {
+			return distance <= maxTravelDistance;
+		}
+	}
+
+	private record Coverage(Long expertId, GeoPoint point, int maxTravelDistance) {
+
+		static Coverage from(ExpertCoverage coverage) {
+			return new Coverage(coverage.expertId(), GeoPoint.of(coverage.latitude(), coverage.longitude()),
+				Objects.requireNonNullElse(coverage.maxTravelDistance(), 0));
+		}
+	}
+
+	private static class SubItemCells {
+
+		private final Map<String, Map<Long, Coverage>> cells = new ConcurrentHashMap<>();
+		private final Map<Long, Coverage> coverages = new ConcurrentHashMap<>();
+		private volatile int maxTravelDistance;
+
+		void add(Coverage coverage) {
+			coverages.put(coverage.expertId(), coverage);
+			cells.computeIfAbsent(GeoHashUtils.encode(coverage.point(), CELL_PRECISION), cell -> new ConcurrentHashMap<>())
+				.put(coverage.expertId(), coverage);
+			maxTravelDistance = Math.max(maxTravelDistance, coverage.maxTravelDistance());
+		}
+
+		void remove(Long expertId) {
+			Coverage removed = coverages.remove(expertId);
+			if (removed == null) {
+				return;
+			}
+
+			cells.computeIfPresent(GeoHashUtils.encode(removed.point(), CELL_PRECISION), (cell, members) -> {
+				members.remove(expertId);
+				return members.isEmpty() ? null : members;
+			});
+
+			if (removed.maxTravelDistance() >= maxTravelDistance) {
+				maxTravelDistance = coverages.values()
+					.stream()
+					.mapToInt(Coverage::maxTravelDistance)
+					.max()
+					.orElse(0);
+			}
+		}
+
+		Collection<Coverage> candidates(GeoPoint point) {
+			if (GeoHashUtils.countCoveringCells(point, maxTravelDistance, CELL_PRECISION) > MAX_SCANNED_CELLS) {
+				return coverages.values();
+			}
+
+			Set<String> coveringCells = GeoHashUtils.coveringCells(point, maxTravelDistance, CELL_PRECISION);
+			Map<Long, Coverage> candidates = new HashMap<>();
+			coveringCells.stream()
+				.map(cells::get)
+				.filter(Objects::nonNull)
+				.forEach(candidates::putAll);
+
+			return candidates.values();
+		}
+	}
+}
@@ -0,0 +1,188 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertProfileResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertResponse;
+import com.foo.gosucatcher.domain.expert.domain.ExpertImageRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertItemRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.image.application.dto.response.ImageResponse;
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
+import com.foo.gosucatcher.domain.member.application.MemberProfileImageChangedEvent;
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ExpertProfileCache implements MeterBinder {
+
+	private static final String PROFILE_KEY = "expert_profile::v1::{%d}";
+	private static final String VERSION_KEY = "expert_profile_version::{%d}";
+	private static final String NO_VERSION = "0";
+	private static final long LOCAL_MAXIMUM_SIZE = 10_000;
+	private static final Duration LOCAL_TIME_TO_LIVE = Duration.ofSeconds(10);
+	private static final Duration REDIS_TIME_TO_LIVE = Duration.ofMinutes(30);
+	private static final Duration VERSION_TIME_TO_LIVE = Duration.ofDays(1);
+	private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/put-expert-profile.lua"), Long.class);
+	private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/evict-expert-profile.lua"), Long.class);
+
+	private final ExpertRepository expertRepository;
+	private final ExpertItemRepository expertItemRepository;
+	private final ExpertImageRepository expertImageRepository;
+	private final RedisTemplate<String, String> cacheRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final Cache<Long, ExpertProfileResponse> profiles = Caffeine.newBuilder()
+		.maximumSize(LOCAL_MAXIMUM_SIZE)
+		.expireAfterWrite(LOCAL_TIME_TO_LIVE)
+		.recordStats()
+		.build();
+
+	private Counter redisHitCounter;
+	private Counter redisMissCounter;
+
+	public ExpertProfileCache(ExpertRepository expertRepository, ExpertItemRepository expertItemRepository,
+		ExpertImageRepository expertImageRepository,
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> cacheRedisTemplate,
+		ObjectMapper objectMapper) {
+		this.expertRepository = expertRepository;
+		this.expertItemRepository = expertItemRepository;
+		this.expertImageRepository = expertImageRepository;
+		this.cacheRedisTemplate = cacheRedisTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	public ExpertProfileResponse get(Long expertId) {
+		return profiles.get(expertId, this::load);
+	}
+
+	public void evict(Long expertId) {
+		evictNow(expertId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evictNow(expertId);
+				}
+			});
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onExpertChanged(ExpertChangedEvent event) {
+		evictNow(event.expertId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberProfileImageChanged(MemberProfileImageChangedEvent event) {
+		expertRepository.findByMemberId(event.memberId())
+			.ifPresent(expert -> evictNow(expert.getId()));
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, profiles, "expert.profiles");
+		this.redisHitCounter = registry.counter("expert.profiles.redis", "result", "hit");
+		this.redisMissCounter = registry.counter("expert.profiles.redis", "result", "miss");
+	}
+
+	private ExpertProfileResponse load(Long expertId) {
+		String profileKey = PROFILE_KEY.formatted(expertId);
+		String versionKey = VERSION_KEY.formatted(expertId);
+
+		List<String> cached;
+		try {
+			cached = cacheRedisTemplate.opsForValue().multiGet(List.of(profileKey, versionKey));
+		} catch (DataAccessException e) {
+			log.warn("고수 프로필 캐시를 조회하지 못해 DB에서 조회합니다. expertId: {}", expertId, e);
+			return loadFromDatabase(expertId);
+		}
+
+		String cachedProfile = cached == null ? null : cached.get(0);
+		if (cachedProfile != null) {
+			ExpertProfileResponse profile = deserialize(cachedProfile);
+			if (profile != null) {
+				increment(redisHitCounter);
+				return profile;
+			}
+		}
+		increment(redisMissCounter);
+
+		String version = cached == null || cached.get(1) == null ? NO_VERSION : cached.get(1);
+		ExpertProfileResponse profile = loadFromDatabase(expertId);
+		store(profileKey, versionKey, version, profile);
+
+		return profile;
+	}
+
+	private ExpertProfileResponse loadFromDatabase(Long expertId) {
+		ExpertResponse expertResponse = expertRepository.findWithMemberById(expertId)
+			.map(ExpertResponse::from)
+			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_EXPERT));
+		SubItemsResponse subItems = SubItemsResponse.from(expertItemRepository.findSubItemsByExpertId(expertId));
+		ImageResponse images = new ImageResponse(expertImageRepository.findFilenamesByExpertId(expertId));
+
+		return new ExpertProfileResponse(expertResponse, subItems, images);
+	}
+
+	private void store(String profileKey, String versionKey, String version, ExpertProfileResponse profile) {
+		try {
+			cacheRedisTemplate.execute(PUT_SCRIPT, List.of(profileKey, versionKey), version,
+				objectMapper.writeValueAsString(profile), String.valueOf(REDIS_TIME_TO_LIVE.toSeconds()));
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("고수 프로필 캐시를 저장하지 못했습니다. key: {}", profileKey, e);
+		}
+	}
+
+	private void evictNow(Long expertId) {
+		profiles.invalidate(expertId);
+
+		try {
+			cacheRedisTemplate.execute(EVICT_SCRIPT,
+				List.of(PROFILE_KEY.formatted(expertId), VERSION_KEY.formatted(expertId)),
+				String.valueOf(VERSION_TIME_TO_LIVE.toSeconds()));
+		} catch (DataAccessException e) {
+			log.warn("고수 프로필 캐시를 무효화하지 못했습니다. expertId: {}", expertId, e);
+		}
+	}
+
+	private ExpertProfileResponse deserialize(String cachedProfile) {
+		try {
+			return objectMapper.readValue(cachedProfile, ExpertProfileResponse.class);
+		} catch (JsonProcessingException e) {
+			log.warn("고수 프로필 캐시 항목을 읽지 못해 다시 적재합니다.", e);
+			return null;
+		}
+	}
+
+	private void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+}
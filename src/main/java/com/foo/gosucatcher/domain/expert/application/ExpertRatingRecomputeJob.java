@@ -0,0 +1,218 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.foo.gosucatcher.domain.expert.domain.ExpertRatingAggregate;
+import com.foo.gosucatcher.domain.expert.infrastructure.ExpertRatingJdbcRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ExpertRatingRecomputeJob {
+
+	private static final int CHUNK_SIZE = 500;
+	private static final long INCREMENTAL_INTERVAL_MILLIS = 600_000L;
+	private static final String FULL_RECOMPUTE_CRON = "0 30 4 * * *";
+	private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(5);
+	private static final String FULL = "full";
+	private static final String INCREMENTAL = "incremental";
+	static final String WATERMARK_KEY = "expert_rating_recompute::watermark";
+	static final String LOCK_KEY = "expert_rating_recompute::lock";
+	private static final Duration LOCK_TIME_TO_LIVE = Duration.ofMinutes(30);
+	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/release-lock.lua"), Long.class);
+
+	private final ExpertRatingJdbcRepository expertRatingJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MeterRegistry meterRegistry;
+	private final RedisTemplate<String, String> cacheRedisTemplate;
+
+	private LocalDateTime lastStartedAt;
+
+	public ExpertRatingRecomputeJob(ExpertRatingJdbcRepository expertRatingJdbcRepository,
+		PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry, @Qualifier("cacheRedisTemplate") RedisTemplate<String, String> cacheRedisTemplate) {
+		this.expertRatingJdbcRepository = expertRatingJdbcRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.eventPublisher = eventPublisher;
+		this.meterRegistry = meterRegistry;
+		this.cacheRedisTemplate = cacheRedisTemplate;
+	}
+
+	@Scheduled(cron = FULL_RECOMPUTE_CRON)
+	public synchronized ExpertRatingRecomputeResult recomputeAll() {
+		return withLock(FULL, this::runAll);
+	}
+
+	@Scheduled(fixedDelay = INCREMENTAL_INTERVAL_MILLIS, initialDelay = INCREMENTAL_INTERVAL_MILLIS)
+	public synchronized ExpertRatingRecomputeResult recomputeTouched() {
+		return withLock(INCREMENTAL, () -> {
+			LocalDateTime watermark = loadWatermark();
+			if (watermark == null) {
+				return runAll();
+			}
+
+			LocalDateTime startedAt = LocalDateTime.now();
+			LocalDateTime since = watermark.minus(WATERMARK_OVERLAP);
+			ExpertRatingRecomputeResult result = run(INCREMENTAL,
+				lastExpertId -> expertRatingJdbcRepository.findReviewedExpertIdsSince(since, lastExpertId, CHUNK_SIZE));
+			saveWatermark(startedAt);
+
+			return result;
+		});
+	}
+
+	private ExpertRatingRecomputeResult runAll() {
+		LocalDateTime startedAt = LocalDateTime.now();
+		ExpertRatingRecomputeResult result = run(FULL,
+			lastExpertId -> expertRatingJdbcRepository.findExpertIdsAfter(lastExpertId, CHUNK_SIZE));
+		saveWatermark(startedAt);
+
+		return result;
+	}
+
+	private ExpertRatingRecomputeResult withLock(String mode, Supplier<ExpertRatingRecomputeResult> recompute) {
+		String token = UUID.randomUUID().toString();
+		if (!acquireLock(token)) {
+			log.info("다른 서버가 고수 평점을 재계산하고 있어 이번 실행은 건너뜁니다. 방식: {}", mode);
+			return new ExpertRatingRecomputeResult(0, 0, 0, Duration.ZERO);
+		}
+
+		try {
+			return recompute.get();
+		} finally {
+			releaseLock(token);
+		}
+	}
+
+	private boolean acquireLock(String token) {
+		try {
+			return Boolean.TRUE.equals(cacheRedisTemplate.opsForValue()
+				.setIfAbsent(LOCK_KEY, token, LOCK_TIME_TO_LIVE));
+		} catch (DataAccessException e) {
+			log.warn("고수 평점 재계산 잠금을 확인하지 못해 이 서버에서 재계산합니다.", e);
+			return true;
+		}
+	}
+
+	private void releaseLock(String token) {
+		try {
+			cacheRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+		} catch (DataAccessException e) {
+			log.warn("고수 평점 재계산 잠금을 해제하지 못했습니다.", e);
+		}
+	}
+
+	private LocalDateTime loadWatermark() {
+		try {
+			String watermark = cacheRedisTemplate.opsForValue().get(WATERMARK_KEY);
+
+			return watermark == null ? null : LocalDateTime.parse(watermark);
+		} catch (DataAccessException e) {
+			log.warn("고수 평점 재계산 기준 시각을 조회하지 못해 이 서버의 마지막 실행 시각을 사용합니다.", e);
+			return lastStartedAt;
+		}
+	}
+
+	private void saveWatermark(LocalDateTime startedAt) {
+		lastStartedAt = startedAt;
+
+		try {
+			cacheRedisTemplate.opsForValue().set(WATERMARK_KEY, startedAt.toString());
+		} catch (DataAccessException e) {
+			log.warn("고수 평점 재계산 기준 시각을 저장하지 못했습니다.", e);
+		}
+	}
+
+	private ExpertRatingRecomputeResult run(String mode, LongFunction<List<Long>> nextChunk) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		long scannedCount = 0;
+		long correctedCount = 0;
+		long conflictedCount = 0;
+
+		List<Long> expertIds = nextChunk.apply(0L);
+		while (!expertIds.isEmpty()) {
+			ChunkResult chunkResult = recompute(expertIds);
+			chunkResult.correctedIds()
+				.forEach(expertId -> eventPublisher.publishEvent(new ExpertChangedEvent(expertId)));
+
+			scannedCount += expertIds.size();
+			correctedCount += chunkResult.correctedIds().size();
+			conflictedCount += chunkResult.driftedCount() - chunkResult.correctedIds().size();
+
+			if (expertIds.size() < CHUNK_SIZE) {
+				break;
+			}
+			expertIds = nextChunk.apply(expertIds.get(expertIds.size() - 1));
+		}
+
+		Duration elapsed = Duration.ofNanos(sample.stop(meterRegistry.timer("expert.rating.recompute", "mode", mode)));
+		ExpertRatingRecomputeResult result = new ExpertRatingRecomputeResult(scannedCount, correctedCount,
+			conflictedCount, elapsed);
+		record(mode, result);
+
+		return result;
+	}
+
+	private ChunkResult recompute(List<Long> expertIds) {
+		ChunkResult chunkResult = transactionTemplate.execute(status -> {
+			List<ExpertRatingAggregate> drifted = expertRatingJdbcRepository.aggregate(expertIds).stream()
+				.filter(aggregate -> !aggregate.isConsistent())
+				.toList();
+			if (drifted.isEmpty()) {
+				return new ChunkResult(0, Collections.emptyList());
+			}
+
+			int[] updatedCounts = expertRatingJdbcRepository.updateAll(drifted);
+			List<Long> correctedIds = new ArrayList<>();
+			for (int i = 0; i < updatedCounts.length; i++) {
+				if (updatedCounts[i] > 0 || updatedCounts[i] == Statement.SUCCESS_NO_INFO) {
+					correctedIds.add(drifted.get(i).expertId());
+				}
+			}
+
+			return new ChunkResult(drifted.size(), correctedIds);
+		});
+
+		return chunkResult == null ? new ChunkResult(0, Collections.emptyList()) : chunkResult;
+	}
+
+	private void record(String mode, ExpertRatingRecomputeResult result) {
+		meterRegistry.counter("expert.rating.recompute.experts", "mode", mode, "result", "scanned")
+			.increment(result.scannedCount());
+		meterRegistry.counter("expert.rating.recompute.experts", "mode", mode, "result", "corrected")
+			.increment(result.correctedCount());
+		meterRegistry.counter("expert.rating.recompute.experts", "mode", mode, "result", "conflicted")
+			.increment(result.conflictedCount());
+
+		log.info("고수 평점 재계산을 마쳤습니다. 방식: {}, 검사: {}명, 보정: {}명, 충돌: {}명, 소요: {}ms, 처리량: {}명/s",
+			mode, result.scannedCount(), result.correctedCount(), result.conflictedCount(),
+			result.elapsed().toMillis(), String.format("%.1f", result.throughputPerSecond()));
+	}
+
+	private record ChunkResult(int driftedCount, List<Long> correctedIds) {
+	}
+}
@@ -0,0 +1,17 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import java.time.Duration;
+
+public record ExpertRatingRecomputeResult(
+	long scannedCount,
+	long correctedCount,
+	long conflictedCount,
+	Duration elapsed
+) {
+
+	public double throughputPerSecond() {
+		long elapsedMillis = Math.max(elapsed.toMillis(), 1);
+
+		return scannedCount * 1_000.0 / elapsedMillis;
+	}
+}
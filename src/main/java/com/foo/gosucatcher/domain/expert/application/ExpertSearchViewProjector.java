@@ -0,0 +1,140 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchView;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchViewRepository;
+import com.foo.gosucatcher.domain.member.application.MemberProfileImageChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ExpertSearchViewProjector {
+
+	private static final String REBUILD_LOCK_KEY = "expert_search_view::rebuild";
+	private static final Duration REBUILD_LOCK_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+	private final ExpertRepository expertRepository;
+	private final ExpertSearchViewRepository expertSearchViewRepository;
+	private final RedisTemplate<String, String> cacheRedisTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public ExpertSearchViewProjector(ExpertRepository expertRepository,
+		ExpertSearchViewRepository expertSearchViewRepository,
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> cacheRedisTemplate,
+		PlatformTransactionManager transactionManager) {
+		this.expertRepository = expertRepository;
+		this.expertSearchViewRepository = expertSearchViewRepository;
+		this.cacheRedisTemplate = cacheRedisTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		if (!acquireRebuildLock()) {
+			log.info("다른 서버가 최근 고수 검색 뷰를 재구성해 이번 재구성은 건너뜁니다.");
+			return;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> reconcile(expertSearchViewRepository.findAll(),
+				withCatalogRows(expertRepository.findAllSearchViewSources())));
+		} catch (RuntimeException e) {
+			releaseRebuildLock();
+			throw e;
+		}
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onExpertChanged(ExpertChangedEvent event) {
+		refresh(event.expertId());
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberProfileImageChanged(MemberProfileImageChangedEvent event) {
+		expertRepository.findByMemberId(event.memberId())
+			.ifPresent(expert -> refresh(expert.getId()));
+	}
+
+	private void refresh(Long expertId) {
+		reconcile(expertSearchViewRepository.findAllByExpertId(expertId),
+			withCatalogRows(expertRepository.findSearchViewSourcesByExpertId(expertId)));
+	}
+
+	private void reconcile(List<ExpertSearchView> currentRows, List<ExpertSearchView> rows) {
+		Map<RowKey, ExpertSearchView> staleRows = new HashMap<>();
+		currentRows.forEach(row -> staleRows.put(RowKey.of(row), row));
+
+		List<ExpertSearchView> newRows = new ArrayList<>();
+		for (ExpertSearchView row : rows) {
+			ExpertSearchView currentRow = staleRows.remove(RowKey.of(row));
+			if (currentRow == null) {
+				newRows.add(row);
+			} else {
+				currentRow.update(row);
+			}
+		}
+
+		expertSearchViewRepository.deleteAllInBatch(staleRows.values());
+		expertSearchViewRepository.saveAll(newRows);
+	}
+
+	private List<ExpertSearchView> withCatalogRows(List<ExpertSearchView> sources) {
+		Map<Long, ExpertSearchView> catalogRows = new LinkedHashMap<>();
+		sources.forEach(source -> catalogRows.putIfAbsent(source.getExpertId(), source.toCatalogRow()));
+
+		List<ExpertSearchView> rows = new ArrayList<>(catalogRows.values());
+		sources.stream()
+			.filter(source -> !source.isCatalogRow())
+			.forEach(rows::add);
+
+		return rows;
+	}
+
+	private boolean acquireRebuildLock() {
+		try {
+			return Boolean.TRUE.equals(cacheRedisTemplate.opsForValue()
+				.setIfAbsent(REBUILD_LOCK_KEY, UUID.randomUUID().toString(), REBUILD_LOCK_TIME_TO_LIVE));
+		} catch (DataAccessException e) {
+			log.warn("고수 검색 뷰 재구성 잠금을 확인하지 못해 이 서버에서 재구성합니다.", e);
+			return true;
+		}
+	}
+
+	private void releaseRebuildLock() {
+		try {
+			cacheRedisTemplate.delete(REBUILD_LOCK_KEY);
+		} catch (DataAccessException e) {
+			log.warn("고수 검색 뷰 재구성 잠금을 해제하지 못했습니다.", e);
+		}
+	}
+
+	private record RowKey(Long expertId, Long subItemId) {
+
+		static RowKey of(ExpertSearchView row) {
+			return new RowKey(row.getExpertId(), row.getSubItemId());
+		}
+	}
+}
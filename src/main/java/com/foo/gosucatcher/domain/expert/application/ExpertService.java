@@ -4,41 +4,57 @@ import static com.foo.gosucatcher.global.error.ErrorCode.ALREADY_REGISTERED_BY_S
 import static com.foo.gosucatcher.global.error.ErrorCode.DUPLICATED_EXPERT_STORENAME;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_EXPERT;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_EXPERT_ITEM;
+import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_LOCATION_COORDINATE;
 import static com.foo.gosucatcher.global.error.ErrorCode.NOT_FOUND_SUB_ITEM;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertSubItemRequest;
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertUpdateRequest;
+import com.foo.gosucatcher.domain.expert.application.dto.response.CursorExpertsResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertProfileResponse;
 import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertResponse;
 import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertsResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.NearbyExpertResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.NearbyExpertsResponse;
 import com.foo.gosucatcher.domain.expert.application.dto.response.SlicedExpertsResponse;
 import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.expert.domain.ExpertCursor;
 import com.foo.gosucatcher.domain.expert.domain.ExpertImage;
 import com.foo.gosucatcher.domain.expert.domain.ExpertImageRepository;
 import com.foo.gosucatcher.domain.expert.domain.ExpertItem;
 import com.foo.gosucatcher.domain.expert.domain.ExpertItemRepository;
 import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchView;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchViewRepository;
+import com.foo.gosucatcher.domain.expert.domain.SortType;
 import com.foo.gosucatcher.domain.image.ImageService;
 import com.foo.gosucatcher.domain.image.application.dto.request.ImageDeleteRequest;
 import com.foo.gosucatcher.domain.image.application.dto.request.ImageUploadRequest;
 import com.foo.gosucatcher.domain.image.application.dto.response.ImageResponse;
 import com.foo.gosucatcher.domain.image.application.dto.response.ImagesResponse;
+import com.foo.gosucatcher.domain.item.application.ItemCatalogCache;
 import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
-import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
 import com.foo.gosucatcher.domain.member.application.MemberProfileService;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
 import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+import com.foo.gosucatcher.global.geo.GeoPoint;
+import com.foo.gosucatcher.global.geo.LocationGeocoder;
+import com.foo.gosucatcher.global.security.PrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -47,13 +63,21 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class ExpertService {
 
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 	private final ExpertRepository expertRepository;
 	private final MemberRepository memberRepository;
-	private final SubItemRepository subItemRepository;
+	private final ItemCatalogCache itemCatalogCache;
 	private final ExpertItemRepository expertItemRepository;
 	private final ImageService imageService;
 	private final ExpertImageRepository expertImageRepository;
 	private final MemberProfileService memberProfileService;
+	private final LocationGeocoder locationGeocoder;
+	private final ExpertGeoIndex expertGeoIndex;
+	private final ExpertSearchViewRepository expertSearchViewRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PrincipalCache principalCache;
+	private final ExpertProfileCache expertProfileCache;
 
 	public ExpertResponse create(long expertId, ExpertUpdateRequest request) {
 		Expert existingExpert = expertRepository.findById(expertId)
@@ -62,16 +86,20 @@ public class ExpertService {
 		duplicatedStoreNameCheck(request.storeName());
 
 		existingExpert.update(ExpertUpdateRequest.toExpert(request));
+		updateCoordinate(existingExpert);
+		eventPublisher.publishEvent(new ExpertChangedEvent(existingExpert.getId()));
 
 		return ExpertResponse.from(existingExpert);
 	}
 
 	@Transactional(readOnly = true)
 	public ExpertResponse findById(Long id) {
-		Expert expert = expertRepository.findById(id)
-			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_EXPERT));
+		return expertProfileCache.get(id).profile();
+	}
 
-		return ExpertResponse.from(expert);
+	@Transactional(readOnly = true)
+	public ExpertProfileResponse findProfile(Long id) {
+		return expertProfileCache.get(id);
 	}
 
 	@Transactional(readOnly = true)
@@ -90,6 +118,8 @@ public class ExpertService {
 
 		Expert updatedExpert = ExpertUpdateRequest.toExpert(request);
 		existingExpert.update(updatedExpert);
+		updateCoordinate(existingExpert);
+		eventPublisher.publishEvent(new ExpertChangedEvent(existingExpert.getId()));
 
 		return existingExpert.getId();
 	}
@@ -99,14 +129,16 @@ public class ExpertService {
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_EXPERT));
 
 		expertRepository.delete(expert);
+		expertGeoIndex.remove(id);
+		principalCache.invalidate(expert.getMember().getId());
+		eventPublisher.publishEvent(new ExpertChangedEvent(id));
 	}
 
 	public Long addSubItem(Long id, ExpertSubItemRequest addSubItemRequest) {
 		Expert expert = expertRepository.findById(id)
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_EXPERT));
 
-		SubItem subItem = subItemRepository.findByName(addSubItemRequest.subItemName())
-			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_SUB_ITEM));
+		SubItem subItem = itemCatalogCache.getSubItemReferenceByName(addSubItemRequest.subItemName());
 
 		checkAlreadyRegisteredSubItem(expert, subItem);
 
@@ -118,6 +150,8 @@ public class ExpertService {
 		expert.addExpertItem(expertItem);
 
 		expertRepository.save(expert);
+		expertGeoIndex.put(expert);
+		eventPublisher.publishEvent(new ExpertChangedEvent(expert.getId()));
 
 		return expert.getId();
 	}
@@ -126,8 +160,7 @@ public class ExpertService {
 		Expert expert = expertRepository.findById(id)
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_EXPERT));
 
-		SubItem subItem = subItemRepository.findByName(removeSubItemRequest.subItemName())
-			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_SUB_ITEM));
+		SubItem subItem = itemCatalogCache.getSubItemReferenceByName(removeSubItemRequest.subItemName());
 
 		ExpertItem expertItem = expertItemRepository.findByExpertAndSubItem(expert, subItem)
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_EXPERT_ITEM));
@@ -135,14 +168,13 @@ public class ExpertService {
 		expert.removeExpertItem(expertItem);
 
 		expertItemRepository.delete(expertItem);
+		expertGeoIndex.put(expert);
+		eventPublisher.publishEvent(new ExpertChangedEvent(expert.getId()));
 	}
 
 	@Transactional(readOnly = true)
 	public SubItemsResponse getSubItemsByExpertId(Long id) {
-		Expert foundExpert = expertRepository.findExpertWithSubItemsById(id)
-			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_SUB_ITEM));
-
-		return SubItemsResponse.from(foundExpert);
+		return expertProfileCache.get(id).subItems();
 	}
 
 	private void checkAlreadyRegisteredSubItem(Expert expert, SubItem subItem) {
@@ -159,6 +191,11 @@ public class ExpertService {
 			});
 	}
 
+	private void updateCoordinate(Expert expert) {
+		expert.updateCoordinate(locationGeocoder.geocode(expert.getLocation()).orElse(null));
+		expertGeoIndex.put(expert);
+	}
+
 	private void duplicatedStoreNameCheck(String storeName) {
 		Optional<Expert> existingExpert = expertRepository.findByStoreName(storeName);
 		if (existingExpert.isPresent()) {
@@ -168,31 +205,90 @@ public class ExpertService {
 
 	@Transactional(readOnly = true)
 	public SlicedExpertsResponse findExperts(String subItem, String location, Pageable pageable) {
-		Slice<Long> expertIdsSlice = expertRepository.findExpertIdsBySubItemAndLocation(subItem, location, pageable);
-
-		List<Long> expertIds = expertIdsSlice.getContent();
-
-		List<Object[]> results = expertRepository.findExpertsWithProfileImageByIds(expertIds);
-
-		List<ExpertResponse> expertResponses = results.stream()
-			.map(result -> {
-				Expert expert = (Expert)result[0];
-				String filename = (String)result[1];
-
-				return new ExpertResponse(
-					expert.getId(),
-					expert.getStoreName(),
-					expert.getLocation(),
-					expert.getMaxTravelDistance(),
-					expert.getDescription(),
-					expert.getRating(),
-					expert.getReviewCount(),
-					filename
-				);
-			})
+		Optional<Long> subItemId = findSearchSubItemId(subItem);
+		if (subItemId.isEmpty()) {
+			return new SlicedExpertsResponse(List.of(), false);
+		}
+
+		Slice<ExpertResponse> experts = expertSearchViewRepository.findExperts(subItemId.get(), location, pageable)
+			.map(ExpertResponse::from);
+
+		return new SlicedExpertsResponse(experts.getContent(), experts.hasNext());
+	}
+
+	@Transactional(readOnly = true)
+	public CursorExpertsResponse findExpertsByCursor(String subItem, String location, SortType sortType,
+		String cursor, int size) {
+		ExpertCursor expertCursor = ExpertCursor.decode(cursor);
+		Optional<Long> subItemId = findSearchSubItemId(subItem);
+		if (subItemId.isEmpty()) {
+			return new CursorExpertsResponse(List.of(), null, false);
+		}
+
+		int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+		Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+		List<ExpertSearchView> results = switch (sortType) {
+			case RATING -> expertSearchViewRepository.findExpertsOrderByRatingAfter(subItemId.get(),
+				location, expertCursor.reviewCount(), expertCursor.rating(), expertCursor.id(), limit);
+			case REVIEW_COUNT -> expertSearchViewRepository.findExpertsOrderByReviewCountAfter(subItemId.get(),
+				location, expertCursor.reviewCount(), expertCursor.rating(), expertCursor.id(), limit);
+		};
+
+		boolean hasNext = results.size() > pageSize;
+		List<ExpertResponse> page = results.stream()
+			.limit(pageSize)
+			.map(ExpertResponse::from)
 			.toList();
+		String nextCursor = null;
+		if (hasNext) {
+			ExpertResponse last = page.get(pageSize - 1);
+			nextCursor = new ExpertCursor(last.reviewCount(), last.rating(), last.id()).encode();
+		}
+
+		return new CursorExpertsResponse(page, nextCursor, hasNext);
+	}
 
-		return new SlicedExpertsResponse(expertResponses, expertIdsSlice.hasNext());
+	private Optional<Long> findSearchSubItemId(String subItemName) {
+		if (subItemName == null) {
+			return Optional.of(ExpertSearchView.CATALOG_SUB_ITEM_ID);
+		}
+
+		return itemCatalogCache.findSubItemIdByName(subItemName);
+	}
+
+	@Transactional(readOnly = true)
+	public NearbyExpertsResponse findNearbyExperts(String subItemName, String location, Double latitude,
+		Double longitude, int size) {
+		Long subItemId = itemCatalogCache.findSubItemIdByName(subItemName)
+			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_SUB_ITEM));
+
+		GeoPoint point = latitude != null && longitude != null
+			? GeoPoint.of(latitude, longitude)
+			: locationGeocoder.geocode(location)
+			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_LOCATION_COORDINATE));
+
+		int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+		List<ExpertGeoIndex.NearbyExpert> nearbyExperts = expertGeoIndex.findCoveringExperts(subItemId, point,
+			pageSize);
+		if (nearbyExperts.isEmpty()) {
+			return new NearbyExpertsResponse(List.of());
+		}
+
+		List<Long> expertIds = nearbyExperts.stream()
+			.map(ExpertGeoIndex.NearbyExpert::expertId)
+			.toList();
+
+		Map<Long, ExpertResponse> expertResponses = expertSearchViewRepository.findCatalogByExpertIds(expertIds)
+			.stream()
+			.map(ExpertResponse::from)
+			.collect(Collectors.toMap(ExpertResponse::id, Function.identity()));
+
+		return new NearbyExpertsResponse(nearbyExperts.stream()
+			.filter(nearbyExpert -> expertResponses.containsKey(nearbyExpert.expertId()))
+			.map(nearbyExpert -> new NearbyExpertResponse(expertResponses.get(nearbyExpert.expertId()),
+				nearbyExpert.distance()))
+			.toList());
 	}
 
 	public ImagesResponse uploadImage(Long expertId, ImageUploadRequest request) {
@@ -211,22 +307,14 @@ public class ExpertService {
 
 			expertImageRepository.save(expertImage);
 		}
+		expertProfileCache.evict(expertId);
 
 		return response;
 	}
 
 	@Transactional(readOnly = true)
 	public ImageResponse getAllImages(Long expertId) {
-
-		Expert expert = expertRepository.findById(expertId)
-			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_EXPERT));
-
-		List<ExpertImage> expertImages = expertImageRepository.findAllByExpert(expert);
-		List<String> filenames = expertImages.stream()
-			.map(ExpertImage::getFilename)
-			.collect(Collectors.toList());
-
-		return new ImageResponse(filenames);
+		return expertProfileCache.get(expertId).images();
 	}
 
 	public void deleteImage(Long expertId, String filename) {
@@ -240,5 +328,6 @@ public class ExpertService {
 		imageService.delete(new ImageDeleteRequest(List.of(filename)));
 
 		expertImageRepository.delete(expertImage);
+		expertProfileCache.evict(expertId);
 	}
 }
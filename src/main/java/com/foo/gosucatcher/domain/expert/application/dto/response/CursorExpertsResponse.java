@@ -0,0 +1,10 @@
+package com.foo.gosucatcher.domain.expert.application.dto.response;
+
+import java.util.List;
+
+public record CursorExpertsResponse(
+	List<ExpertResponse> expertsResponse,
+	String nextCursor,
+	boolean hasNext
+) {
+}
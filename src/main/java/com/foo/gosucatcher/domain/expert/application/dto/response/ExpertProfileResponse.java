@@ -0,0 +1,11 @@
+package com.foo.gosucatcher.domain.expert.application.dto.response;
+
+import com.foo.gosucatcher.domain.image.application.dto.response.ImageResponse;
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
+
+public record ExpertProfileResponse(
+	ExpertResponse profile,
+	SubItemsResponse subItems,
+	ImageResponse images
+) {
+}
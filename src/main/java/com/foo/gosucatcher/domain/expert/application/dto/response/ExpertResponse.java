@@ -1,6 +1,7 @@
 package com.foo.gosucatcher.domain.expert.application.dto.response;
 
 import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchView;
 
 public record ExpertResponse(
 	Long id,
@@ -26,4 +27,17 @@ public record ExpertResponse(
 				? expert.getMember().getProfileMemberImage().getFilename() : null
 		);
 	}
+
+	public static ExpertResponse from(ExpertSearchView expertSearchView) {
+		return new ExpertResponse(
+			expertSearchView.getExpertId(),
+			expertSearchView.getStoreName(),
+			expertSearchView.getLocation(),
+			expertSearchView.getMaxTravelDistance(),
+			expertSearchView.getDescription(),
+			expertSearchView.getRating(),
+			expertSearchView.getReviewCount(),
+			expertSearchView.getFilename()
+		);
+	}
 }
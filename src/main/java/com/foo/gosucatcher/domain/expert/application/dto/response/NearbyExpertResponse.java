@@ -0,0 +1,7 @@
+package com.foo.gosucatcher.domain.expert.application.dto.response;
+
+public record NearbyExpertResponse(
+	ExpertResponse expert,
+	double distance
+) {
+}
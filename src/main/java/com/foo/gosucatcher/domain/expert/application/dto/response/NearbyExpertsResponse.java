@@ -0,0 +1,8 @@
+package com.foo.gosucatcher.domain.expert.application.dto.response;
+
+import java.util.List;
+
+public record NearbyExpertsResponse(
+	List<NearbyExpertResponse> nearbyExpertsResponse
+) {
+}
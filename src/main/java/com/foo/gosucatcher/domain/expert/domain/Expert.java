@@ -5,6 +5,7 @@ import java.util.List;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
@@ -23,6 +24,7 @@ import com.foo.gosucatcher.domain.member.domain.Member;
 import com.foo.gosucatcher.global.BaseEntity;
 import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.InvalidValueException;
+import com.foo.gosucatcher.global.geo.GeoPoint;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -53,6 +55,9 @@ public class Expert extends BaseEntity {
 
 	private String location;
 
+	@Embedded
+	private GeoPoint coordinate;
+
 	private int maxTravelDistance;
 
 	@Lob
@@ -61,10 +66,13 @@ public class Expert extends BaseEntity {
 	@Column(name = "is_auto", nullable = false)
 	private boolean isAuto;
 
-	@Column(name = "rating", nullable = false, columnDefinition = "double default 0.0")
+	@Column(name = "rating", nullable = false, updatable = false, columnDefinition = "double default 0.0")
 	private double rating;
 
-	@Column(name = "review_count", nullable = false, columnDefinition = "int default 0")
+	@Column(name = "rating_sum", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+	private long ratingSum;
+
+	@Column(name = "review_count", nullable = false, updatable = false, columnDefinition = "int default 0")
 	private int reviewCount;
 
 	@Column(name = "is_deleted")
@@ -80,6 +88,7 @@ public class Expert extends BaseEntity {
 		this.description = description;
 		this.isAuto = false;
 		this.rating = rating;
+		this.ratingSum = Math.round(rating * reviewCount);
 		this.reviewCount = reviewCount;
 	}
 
@@ -92,30 +101,18 @@ public class Expert extends BaseEntity {
 		this.location = updatedExpert.getLocation();
 		this.maxTravelDistance = checkMaxTravelDistance(updatedExpert.getMaxTravelDistance());
 		this.description = updatedExpert.getDescription();
-		this.rating = updatedExpert.getRating();
-		this.reviewCount = updatedExpert.getReviewCount();
 	}
 
-	public void addRating(double rating) {
-		double updated = (this.rating * reviewCount + rating) / (reviewCount + 1);
-		reviewCount++;
-		this.rating = adjustRating(updated);
+	public void updateCoordinate(GeoPoint coordinate) {
+		this.coordinate = coordinate;
 	}
 
-	public void updateRating(double rating) {
-		double updated = (this.rating * reviewCount - this.rating + rating) / reviewCount;
-
-		this.rating = adjustRating(updated);
-	}
-
-	public void deleteReview(double rating) {
-		double updated = Math.max(this.rating * reviewCount - this.rating - rating, 0) / (reviewCount - 1);
-		reviewCount--;
-		this.rating = adjustRating(updated);
-	}
+	public double getRating() {
+		if (reviewCount == 0) {
+			return 0.0;
+		}
 
-	private double adjustRating(double rating) {
-		return Math.round(rating * 10) / 10.0;
+		return Math.round((double)ratingSum / reviewCount * 10) / 10.0;
 	}
 
 	public void addExpertItem(ExpertItem expertItem) {
@@ -0,0 +1,10 @@
+package com.foo.gosucatcher.domain.expert.domain;
+
+public record ExpertCoverage(
+	Long expertId,
+	Double latitude,
+	Double longitude,
+	Integer maxTravelDistance,
+	Long subItemId
+) {
+}
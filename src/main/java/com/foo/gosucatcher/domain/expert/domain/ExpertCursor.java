@@ -0,0 +1,44 @@
+package com.foo.gosucatcher.domain.expert.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.InvalidValueException;
+
+public record ExpertCursor(
+	int reviewCount,
+	double rating,
+	Long id
+) {
+
+	private static final String DELIMITER = ":";
+
+	public static ExpertCursor first() {
+		return new ExpertCursor(0, 0, null);
+	}
+
+	public static ExpertCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return first();
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] values = decoded.split(DELIMITER);
+
+			return new ExpertCursor(Integer.parseInt(values[0]), Double.parseDouble(values[1]),
+				Long.parseLong(values[2]));
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException exception) {
+			throw new InvalidValueException(ErrorCode.INVALID_EXPERT_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String value = reviewCount + DELIMITER + rating + DELIMITER + id;
+
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ExpertImageRepository extends JpaRepository<ExpertImage, Long> {
 
@@ -12,4 +14,7 @@ public interface ExpertImageRepository extends JpaRepository<ExpertImage, Long>
 	List<ExpertImage> findAllByExpert(Expert expert);
 
 	Optional<ExpertImage> findByFilenameAndExpert(String filename, Expert expert);
+
+	@Query("SELECT ei.filename FROM ExpertImage ei WHERE ei.expert.id = :expertId ORDER BY ei.id")
+	List<String> findFilenamesByExpertId(@Param("expertId") Long expertId);
 }
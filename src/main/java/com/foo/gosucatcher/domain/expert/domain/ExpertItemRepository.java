@@ -1,5 +1,6 @@
 package com.foo.gosucatcher.domain.expert.domain;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,4 +15,7 @@ public interface ExpertItemRepository extends JpaRepository<ExpertItem, Long> {
 
 	@Query("SELECT COUNT(ei) > 0 FROM ExpertItem ei WHERE ei.expert.id = :expertId AND ei.subItem.id = :subItemId")
 	boolean existsByExpertIdAndSubItemId(@Param("expertId") Long expertId, @Param("subItemId") Long subItemId);
+
+	@Query("SELECT s FROM ExpertItem ei JOIN ei.subItem s JOIN FETCH s.mainItem WHERE ei.expert.id = :expertId")
+	List<SubItem> findSubItemsByExpertId(@Param("expertId") Long expertId);
 }
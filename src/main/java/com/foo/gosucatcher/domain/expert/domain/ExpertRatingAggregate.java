@@ -0,0 +1,23 @@
+package com.foo.gosucatcher.domain.expert.domain;
+
+public record ExpertRatingAggregate(
+	Long expertId,
+	double storedRating,
+	long storedRatingSum,
+	int storedReviewCount,
+	long ratingSum,
+	int reviewCount
+) {
+
+	public double rating() {
+		if (reviewCount == 0) {
+			return 0.0;
+		}
+
+		return Math.round((double)ratingSum / reviewCount * 10) / 10.0;
+	}
+
+	public boolean isConsistent() {
+		return storedRatingSum == ratingSum && storedReviewCount == reviewCount && storedRating == rating();
+	}
+}
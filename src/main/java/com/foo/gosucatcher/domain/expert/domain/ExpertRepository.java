@@ -3,9 +3,8 @@ package com.foo.gosucatcher.domain.expert.domain;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -24,13 +23,83 @@ public interface ExpertRepository extends JpaRepository<Expert, Long> {
 
 	List<Expert> findAll();
 
-	@Query("SELECT e.id FROM Expert e JOIN e.expertItemList ei JOIN ei.subItem si WHERE (si.name = :subItem OR :subItem IS NULL) AND (e.location = :location OR :location IS NULL)")
-	Slice<Long> findExpertIdsBySubItemAndLocation(@Param("subItem") String subItem, @Param("location") String location,
-		Pageable pageable);
+	@Modifying
+	@Query("""
+		UPDATE Expert e
+		SET e.rating = ROUND((e.ratingSum + :rating) * 1.0 / (e.reviewCount + 1), 1),
+			e.ratingSum = e.ratingSum + :rating,
+			e.reviewCount = e.reviewCount + 1
+		WHERE e.id = :expertId
+		""")
+	int addRating(@Param("expertId") Long expertId, @Param("rating") long rating);
+
+	@Modifying
+	@Query("""
+		UPDATE Expert e
+		SET e.rating = ROUND((e.ratingSum + :delta) * 1.0 / e.reviewCount, 1),
+			e.ratingSum = e.ratingSum + :delta
+		WHERE e.id = :expertId AND e.reviewCount > 0
+		""")
+	int changeRating(@Param("expertId") Long expertId, @Param("delta") long delta);
+
+	@Modifying
+	@Query("""
+		UPDATE Expert e
+		SET e.rating = CASE WHEN e.reviewCount > 1
+				THEN ROUND((e.ratingSum - :rating) * 1.0 / (e.reviewCount - 1), 1) ELSE 0.0 END,
+			e.ratingSum = e.ratingSum - :rating,
+			e.reviewCount = e.reviewCount - 1
+		WHERE e.id = :expertId AND e.reviewCount > 0
+		""")
+	int removeRating(@Param("expertId") Long expertId, @Param("rating") long rating);
+
+	@Query("""
+		SELECT new com.foo.gosucatcher.domain.expert.domain.ExpertSearchView(
+			e.id, si.id, e.storeName, e.location, e.maxTravelDistance, e.description, e.rating, e.reviewCount,
+			m.profileMemberImage.filename)
+		FROM Expert e JOIN e.member m LEFT JOIN e.expertItemList ei LEFT JOIN ei.subItem si
+		""")
+	List<ExpertSearchView> findAllSearchViewSources();
 
-	@Query("SELECT e, m.profileMemberImage.filename FROM Expert e JOIN e.member m WHERE e.id IN :ids")
-	List<Object[]> findExpertsWithProfileImageByIds(@Param("ids") List<Long> ids);
+	@Query("""
+		SELECT new com.foo.gosucatcher.domain.expert.domain.ExpertSearchView(
+			e.id, si.id, e.storeName, e.location, e.maxTravelDistance, e.description, e.rating, e.reviewCount,
+			m.profileMemberImage.filename)
+		FROM Expert e JOIN e.member m LEFT JOIN e.expertItemList ei LEFT JOIN ei.subItem si
+		WHERE e.id = :expertId
+		""")
+	List<ExpertSearchView> findSearchViewSourcesByExpertId(@Param("expertId") Long expertId);
 
 	@Query("SELECT e FROM Expert e JOIN FETCH e.expertItemList ei JOIN FETCH ei.subItem WHERE e.id = :expertId")
 	Optional<Expert> findExpertWithSubItemsById(@Param("expertId") Long expertId);
+
+	@Query("SELECT e FROM Expert e JOIN FETCH e.member WHERE e.id = :expertId")
+	Optional<Expert> findWithMemberById(@Param("expertId") Long expertId);
+
+	@Query("""
+		SELECT new com.foo.gosucatcher.domain.expert.domain.ExpertCoverage(
+			e.id, e.coordinate.latitude, e.coordinate.longitude, e.maxTravelDistance, ei.subItem.id)
+		FROM Expert e JOIN e.expertItemList ei
+		WHERE e.coordinate.latitude IS NOT NULL
+		""")
+	List<ExpertCoverage> findAllCoverages();
+
+	@Query("""
+		SELECT new com.foo.gosucatcher.domain.expert.domain.ExpertCoverage(
+			e.id, e.coordinate.latitude, e.coordinate.longitude, e.maxTravelDistance, ei.subItem.id)
+		FROM Expert e JOIN e.expertItemList ei
+		WHERE e.id = :expertId AND e.coordinate.latitude IS NOT NULL
+		""")
+	List<ExpertCoverage> findCoveragesByExpertId(@Param("expertId") Long expertId);
+
+	@Query("SELECT DISTINCT e.location FROM Expert e WHERE e.location IS NOT NULL AND e.coordinate.latitude IS NULL")
+	List<String> findDistinctLocationsWithoutCoordinate();
+
+	@Modifying
+	@Query("""
+		UPDATE Expert e SET e.coordinate.latitude = :latitude, e.coordinate.longitude = :longitude
+		WHERE e.location = :location AND e.coordinate.latitude IS NULL
+		""")
+	int updateCoordinateByLocation(@Param("location") String location, @Param("latitude") double latitude,
+		@Param("longitude") double longitude);
 }
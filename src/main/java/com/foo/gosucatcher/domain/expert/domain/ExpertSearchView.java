@@ -0,0 +1,86 @@
+package com.foo.gosucatcher.domain.expert.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "expert_search_views", indexes = {
+	@Index(name = "idx_expert_search_views_review_count", columnList = "sub_item_id, review_count, rating, expert_id"),
+	@Index(name = "idx_expert_search_views_rating", columnList = "sub_item_id, rating, review_count, expert_id"),
+	@Index(name = "idx_expert_search_views_expert", columnList = "expert_id, sub_item_id", unique = true)
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExpertSearchView {
+
+	public static final long CATALOG_SUB_ITEM_ID = 0L;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "expert_id", nullable = false)
+	private Long expertId;
+
+	@Column(name = "sub_item_id", nullable = false)
+	private Long subItemId;
+
+	private String storeName;
+
+	private String location;
+
+	private int maxTravelDistance;
+
+	@Lob
+	private String description;
+
+	@Column(name = "rating", nullable = false)
+	private double rating;
+
+	@Column(name = "review_count", nullable = false)
+	private int reviewCount;
+
+	private String filename;
+
+	public ExpertSearchView(Long expertId, Long subItemId, String storeName, String location, int maxTravelDistance,
+		String description, double rating, int reviewCount, String filename) {
+		this.expertId = expertId;
+		this.subItemId = subItemId == null ? CATALOG_SUB_ITEM_ID : subItemId;
+		this.storeName = storeName;
+		this.location = location;
+		this.maxTravelDistance = maxTravelDistance;
+		this.description = description;
+		this.rating = rating;
+		this.reviewCount = reviewCount;
+		this.filename = filename;
+	}
+
+	public void update(ExpertSearchView source) {
+		this.storeName = source.storeName;
+		this.location = source.location;
+		this.maxTravelDistance = source.maxTravelDistance;
+		this.description = source.description;
+		this.rating = source.rating;
+		this.reviewCount = source.reviewCount;
+		this.filename = source.filename;
+	}
+
+	public boolean isCatalogRow() {
+		return subItemId == CATALOG_SUB_ITEM_ID;
+	}
+
+	public ExpertSearchView toCatalogRow() {
+		return new ExpertSearchView(expertId, CATALOG_SUB_ITEM_ID, storeName, location, maxTravelDistance, description,
+			rating, reviewCount, filename);
+	}
+}
@@ -0,0 +1,54 @@
+package com.foo.gosucatcher.domain.expert.domain;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ExpertSearchViewRepository extends JpaRepository<ExpertSearchView, Long> {
+
+	@Query("""
+		SELECT v FROM ExpertSearchView v
+		WHERE v.subItemId = :subItemId AND (:location IS NULL OR v.location = :location)
+		""")
+	Slice<ExpertSearchView> findExperts(@Param("subItemId") Long subItemId, @Param("location") String location,
+		Pageable pageable);
+
+	@Query("""
+		SELECT v FROM ExpertSearchView v
+		WHERE v.subItemId = :subItemId AND (:location IS NULL OR v.location = :location)
+			AND (:cursorId IS NULL
+				OR v.reviewCount < :reviewCount
+				OR (v.reviewCount = :reviewCount AND v.rating < :rating)
+				OR (v.reviewCount = :reviewCount AND v.rating = :rating AND v.expertId < :cursorId))
+		ORDER BY v.reviewCount DESC, v.rating DESC, v.expertId DESC
+		""")
+	List<ExpertSearchView> findExpertsOrderByReviewCountAfter(@Param("subItemId") Long subItemId,
+		@Param("location") String location, @Param("reviewCount") int reviewCount, @Param("rating") double rating,
+		@Param("cursorId") Long cursorId, Pageable pageable);
+
+	@Query("""
+		SELECT v FROM ExpertSearchView v
+		WHERE v.subItemId = :subItemId AND (:location IS NULL OR v.location = :location)
+			AND (:cursorId IS NULL
+				OR v.rating < :rating
+				OR (v.rating = :rating AND v.reviewCount < :reviewCount)
+				OR (v.rating = :rating AND v.reviewCount = :reviewCount AND v.expertId < :cursorId))
+		ORDER BY v.rating DESC, v.reviewCount DESC, v.expertId DESC
+		""")
+	List<ExpertSearchView> findExpertsOrderByRatingAfter(@Param("subItemId") Long subItemId,
+		@Param("location") String location, @Param("reviewCount") int reviewCount, @Param("rating") double rating,
+		@Param("cursorId") Long cursorId, Pageable pageable);
+
+	@Query("""
+		SELECT v FROM ExpertSearchView v
+		WHERE v.subItemId = com.foo.gosucatcher.domain.expert.domain.ExpertSearchView.CATALOG_SUB_ITEM_ID
+			AND v.expertId IN :expertIds
+		""")
+	List<ExpertSearchView> findCatalogByExpertIds(@Param("expertIds") List<Long> expertIds);
+
+	List<ExpertSearchView> findAllByExpertId(Long expertId);
+}
@@ -0,0 +1,86 @@
+package com.foo.gosucatcher.domain.expert.infrastructure;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.foo.gosucatcher.domain.expert.domain.ExpertRatingAggregate;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ExpertRatingJdbcRepository {
+
+	private static final String FIND_EXPERT_IDS = """
+		SELECT e.id FROM experts e
+		WHERE e.id > :lastExpertId AND e.is_deleted = false
+		ORDER BY e.id
+		LIMIT :size
+		""";
+
+	private static final String FIND_REVIEWED_EXPERT_IDS = """
+		SELECT DISTINCT r.expert_id FROM reviews r
+		WHERE r.updated_at >= :since AND r.expert_id > :lastExpertId
+		ORDER BY r.expert_id
+		LIMIT :size
+		""";
+
+	private static final String AGGREGATE_REVIEWS = """
+		SELECT e.id, e.rating, e.rating_sum, e.review_count,
+			COALESCE(SUM(r.rating), 0) AS actual_rating_sum, COUNT(r.id) AS actual_review_count
+		FROM experts e
+		LEFT JOIN reviews r ON r.expert_id = e.id AND r.is_deleted = false
+		WHERE e.id IN (:expertIds) AND e.is_deleted = false
+		GROUP BY e.id, e.rating, e.rating_sum, e.review_count
+		ORDER BY e.id
+		""";
+
+	private static final String UPDATE_RATING = """
+		UPDATE experts SET rating = :rating, rating_sum = :ratingSum, review_count = :reviewCount
+		WHERE id = :expertId AND rating_sum = :storedRatingSum AND review_count = :storedReviewCount
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public List<Long> findExpertIdsAfter(long lastExpertId, int size) {
+		return jdbcTemplate.queryForList(FIND_EXPERT_IDS, Map.of("lastExpertId", lastExpertId, "size", size),
+			Long.class);
+	}
+
+	public List<Long> findReviewedExpertIdsSince(LocalDateTime since, long lastExpertId, int size) {
+		return jdbcTemplate.queryForList(FIND_REVIEWED_EXPERT_IDS,
+			Map.of("since", Timestamp.valueOf(since), "lastExpertId", lastExpertId, "size", size), Long.class);
+	}
+
+	public List<ExpertRatingAggregate> aggregate(List<Long> expertIds) {
+		return jdbcTemplate.query(AGGREGATE_REVIEWS, Map.of("expertIds", expertIds),
+			(rs, rowNum) -> new ExpertRatingAggregate(
+				rs.getLong("id"),
+				rs.getDouble("rating"),
+				rs.getLong("rating_sum"),
+				rs.getInt("review_count"),
+				Math.round(rs.getDouble("actual_rating_sum")),
+				rs.getInt("actual_review_count")));
+	}
+
+	public int[] updateAll(List<ExpertRatingAggregate> aggregates) {
+		SqlParameterSource[] parameters = aggregates.stream()
+			.map(aggregate -> new MapSqlParameterSource()
+				.addValue("expertId", aggregate.expertId())
+				.addValue("rating", aggregate.rating())
+				.addValue("ratingSum", aggregate.ratingSum())
+				.addValue("reviewCount", aggregate.reviewCount())
+				.addValue("storedRatingSum", aggregate.storedRatingSum())
+				.addValue("storedReviewCount", aggregate.storedReviewCount()))
+			.toArray(SqlParameterSource[]::new);
+
+		return jdbcTemplate.batchUpdate(UPDATE_RATING, parameters);
+	}
+}
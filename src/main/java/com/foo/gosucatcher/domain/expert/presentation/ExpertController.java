@@ -23,7 +23,9 @@ import org.springframework.web.multipart.MultipartFile;
 import com.foo.gosucatcher.domain.expert.application.ExpertService;
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertSubItemRequest;
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertUpdateRequest;
+import com.foo.gosucatcher.domain.expert.application.dto.response.CursorExpertsResponse;
 import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.NearbyExpertsResponse;
 import com.foo.gosucatcher.domain.expert.application.dto.response.SlicedExpertsResponse;
 import com.foo.gosucatcher.domain.expert.domain.SortType;
 import com.foo.gosucatcher.domain.image.application.dto.request.ImageUploadRequest;
@@ -195,4 +197,46 @@ public class ExpertController {
 		
 		return ResponseEntity.ok(expertService.findExperts(subItem, location, pageable));
 	}
+
+	@GetMapping("/search/cursor")
+	@Operation(summary = "고수 찾기(커서)", description = "이전 페이지의 마지막 고수 이후부터 조건에 맞는 고수들을 찾습니다.")
+	public ResponseEntity<CursorExpertsResponse> searchExpertsByCursor(
+		@Parameter(description = "서비스 이름", example = "영어 회화")
+		@RequestParam(required = false) String subItem,
+
+		@Parameter(description = "지역", example = "서울특별시 강남구")
+		@RequestParam(required = false) String location,
+
+		@Parameter(description = "정렬 방식", example = "RATING")
+		@RequestParam(defaultValue = "REVIEW_COUNT") SortType sortType,
+
+		@Parameter(description = "이전 응답의 nextCursor")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "조회 개수", example = "20")
+		@RequestParam(defaultValue = "20") int size) {
+
+		return ResponseEntity.ok(expertService.findExpertsByCursor(subItem, location, sortType, cursor, size));
+	}
+
+	@GetMapping("/search/nearby")
+	@Operation(summary = "주변 고수 찾기", description = "이동 가능 거리 안에 요청 위치가 포함되는 고수들을 가까운 순으로 찾습니다.")
+	public ResponseEntity<NearbyExpertsResponse> searchNearbyExperts(
+		@Parameter(description = "서비스 이름", required = true, example = "영어 회화")
+		@RequestParam String subItem,
+
+		@Parameter(description = "지역", example = "서울특별시 강남구")
+		@RequestParam(required = false) String location,
+
+		@Parameter(description = "위도", example = "37.5172")
+		@RequestParam(required = false) Double latitude,
+
+		@Parameter(description = "경도", example = "127.0473")
+		@RequestParam(required = false) Double longitude,
+
+		@Parameter(description = "조회 개수", example = "20")
+		@RequestParam(defaultValue = "20") int size) {
+
+		return ResponseEntity.ok(expertService.findNearbyExperts(subItem, location, latitude, longitude, size));
+	}
 }
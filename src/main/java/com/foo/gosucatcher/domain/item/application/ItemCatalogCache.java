@@ -0,0 +1,143 @@
+package com.foo.gosucatcher.domain.item.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.foo.gosucatcher.domain.item.application.dto.response.main.MainItemResponse;
+import com.foo.gosucatcher.domain.item.application.dto.response.main.MainItemsResponse;
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
+import com.foo.gosucatcher.domain.item.domain.MainItem;
+import com.foo.gosucatcher.domain.item.domain.MainItemRepository;
+import com.foo.gosucatcher.domain.item.domain.SubItem;
+import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class ItemCatalogCache implements MeterBinder {
+
+	private static final long MAXIMUM_SIZE = 1_000;
+	private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+	private static final String ALL = "all";
+
+	private final SubItemRepository subItemRepository;
+	private final MainItemRepository mainItemRepository;
+
+	private final LoadingCache<Long, Optional<SubItemResponse>> subItems;
+	private final LoadingCache<String, Optional<Long>> subItemIdsByName;
+	private final LoadingCache<String, SubItemsResponse> allSubItems;
+	private final LoadingCache<Long, Optional<MainItemResponse>> mainItems;
+	private final LoadingCache<String, MainItemsResponse> allMainItems;
+
+	public ItemCatalogCache(SubItemRepository subItemRepository, MainItemRepository mainItemRepository) {
+		this.subItemRepository = subItemRepository;
+		this.mainItemRepository = mainItemRepository;
+		this.subItems = newCache(id -> subItemRepository.findByIdWithMainItem(id).map(SubItemResponse::from));
+		this.subItemIdsByName = newCache(name -> subItemRepository.findByName(name).map(SubItem::getId));
+		this.allSubItems = newCache(key -> SubItemsResponse.from(subItemRepository.findAllWithMainItem()));
+		this.mainItems = newCache(id -> mainItemRepository.findById(id).map(MainItemResponse::from));
+		this.allMainItems = newCache(key -> MainItemsResponse.from(mainItemRepository.findAll()));
+	}
+
+	public SubItemResponse getSubItem(Long id) {
+		return subItems.get(id)
+			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_SUB_ITEM));
+	}
+
+	public SubItem getSubItemReference(Long id) {
+		getSubItem(id);
+
+		return subItemRepository.getReferenceById(id);
+	}
+
+	public Optional<Long> findSubItemIdByName(String name) {
+		return subItemIdsByName.get(name);
+	}
+
+	public SubItem getSubItemReferenceByName(String name) {
+		Long id = findSubItemIdByName(name)
+			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_SUB_ITEM));
+
+		return subItemRepository.getReferenceById(id);
+	}
+
+	public SubItemsResponse findAllSubItems() {
+		return allSubItems.get(ALL);
+	}
+
+	public MainItemResponse getMainItem(Long id) {
+		return mainItems.get(id)
+			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MAIN_ITEM));
+	}
+
+	public MainItemsResponse findAllMainItems() {
+		return allMainItems.get(ALL);
+	}
+
+	public void invalidateAll() {
+		clear();
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					clear();
+				}
+			});
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		List<SubItem> subItemList = subItemRepository.findAllWithMainItem();
+		subItemList.forEach(subItem -> {
+			subItems.put(subItem.getId(), Optional.of(SubItemResponse.from(subItem)));
+			subItemIdsByName.put(subItem.getName(), Optional.of(subItem.getId()));
+		});
+		allSubItems.put(ALL, SubItemsResponse.from(subItemList));
+
+		List<MainItem> mainItemList = mainItemRepository.findAll();
+		mainItemList.forEach(mainItem -> mainItems.put(mainItem.getId(), Optional.of(MainItemResponse.from(mainItem))));
+		allMainItems.put(ALL, MainItemsResponse.from(mainItemList));
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, subItems, "item.catalog.sub-items");
+		CaffeineCacheMetrics.monitor(registry, subItemIdsByName, "item.catalog.sub-item-names");
+		CaffeineCacheMetrics.monitor(registry, allSubItems, "item.catalog.all-sub-items");
+		CaffeineCacheMetrics.monitor(registry, mainItems, "item.catalog.main-items");
+		CaffeineCacheMetrics.monitor(registry, allMainItems, "item.catalog.all-main-items");
+	}
+
+	private void clear() {
+		subItems.invalidateAll();
+		subItemIdsByName.invalidateAll();
+		allSubItems.invalidateAll();
+		mainItems.invalidateAll();
+		allMainItems.invalidateAll();
+	}
+
+	private static <K, V> LoadingCache<K, V> newCache(Function<K, V> loader) {
+		return Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfterWrite(EXPIRE_AFTER_WRITE)
+			.recordStats()
+			.build(loader::apply);
+	}
+}
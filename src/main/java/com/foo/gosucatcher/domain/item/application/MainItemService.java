@@ -1,7 +1,5 @@
 package com.foo.gosucatcher.domain.item.application;
 
-import java.util.List;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +9,7 @@ import com.foo.gosucatcher.domain.item.application.dto.response.main.MainItemRes
 import com.foo.gosucatcher.domain.item.application.dto.response.main.MainItemsResponse;
 import com.foo.gosucatcher.domain.item.domain.MainItem;
 import com.foo.gosucatcher.domain.item.domain.MainItemRepository;
+import com.foo.gosucatcher.domain.search.application.SubItemSearchIndex;
 import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
@@ -23,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 public class MainItemService {
 
     private final MainItemRepository mainItemRepository;
+    private final SubItemSearchIndex subItemSearchIndex;
+    private final ItemCatalogCache itemCatalogCache;
 
     public MainItemResponse create(MainItemCreateRequest request) {
         duplicatedNameCheck(request.name());
@@ -31,23 +32,19 @@ public class MainItemService {
 
         MainItem savedMainItem = mainItemRepository.save(mainItem);
 
+        itemCatalogCache.invalidateAll();
+
         return MainItemResponse.from(savedMainItem);
     }
 
     @Transactional(readOnly = true)
     public MainItemResponse findById(Long id) {
-
-        MainItem mainItem = mainItemRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MAIN_ITEM));
-
-        return MainItemResponse.from(mainItem);
+        return itemCatalogCache.getMainItem(id);
     }
 
     @Transactional(readOnly = true)
     public MainItemsResponse findAll() {
-        List<MainItem> mainItemList = mainItemRepository.findAll();
-
-        return MainItemsResponse.from(mainItemList);
+        return itemCatalogCache.findAllMainItems();
     }
 
     public MainItemResponse update(Long id, MainItemUpdateRequest request) {
@@ -59,6 +56,9 @@ public class MainItemService {
         MainItem mainItem = MainItemUpdateRequest.toMainItem(request);
         foundMainItem.update(mainItem);
 
+        subItemSearchIndex.renameMainItem(foundMainItem.getId(), foundMainItem.getName());
+        itemCatalogCache.invalidateAll();
+
         return MainItemResponse.from(foundMainItem);
     }
 
@@ -67,6 +67,9 @@ public class MainItemService {
             .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MAIN_ITEM));
 
         mainItemRepository.delete(mainItem);
+
+        subItemSearchIndex.removeAllByMainItemId(id);
+        itemCatalogCache.invalidateAll();
     }
 
     private void duplicatedNameCheck(String name) {
@@ -1,7 +1,5 @@
 package com.foo.gosucatcher.domain.item.application;
 
-import java.util.List;
-
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -17,6 +15,7 @@ import com.foo.gosucatcher.domain.item.domain.MainItem;
 import com.foo.gosucatcher.domain.item.domain.MainItemRepository;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
 import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
+import com.foo.gosucatcher.domain.search.application.SubItemSearchIndex;
 import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
@@ -31,6 +30,8 @@ public class SubItemService {
 	private final SubItemRepository subItemRepository;
 	private final MainItemRepository mainItemRepository;
 	private final ExpertRepository expertRepository;
+	private final SubItemSearchIndex subItemSearchIndex;
+	private final ItemCatalogCache itemCatalogCache;
 
 	public SubItemResponse create(SubItemCreateRequest request) {
 		MainItem mainItem = mainItemRepository.findById(request.mainItemId())
@@ -44,22 +45,20 @@ public class SubItemService {
 
 		mainItem.addSubItem(subItem);
 
+		subItemSearchIndex.put(subItem);
+		itemCatalogCache.invalidateAll();
+
 		return SubItemResponse.from(subItem);
 	}
 
 	@Transactional(readOnly = true)
 	public SubItemResponse findById(Long id) {
-		SubItem subItem = subItemRepository.findById(id)
-			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_SUB_ITEM));
-
-		return SubItemResponse.from(subItem);
+		return itemCatalogCache.getSubItem(id);
 	}
 
 	@Transactional(readOnly = true)
 	public SubItemsResponse findAll() {
-		List<SubItem> subItemList = subItemRepository.findAll();
-
-		return SubItemsResponse.from(subItemList);
+		return itemCatalogCache.findAllSubItems();
 	}
 
 	@Transactional(readOnly = true)
@@ -79,6 +78,9 @@ public class SubItemService {
 
 		foundSubItem.update(subItem);
 
+		subItemSearchIndex.put(foundSubItem);
+		itemCatalogCache.invalidateAll();
+
 		return foundSubItem.getId();
 	}
 
@@ -91,6 +93,9 @@ public class SubItemService {
 		subItemRepository.delete(subItem);
 
 		mainItem.removeSubItem(subItem);
+
+		subItemSearchIndex.remove(id);
+		itemCatalogCache.invalidateAll();
 	}
 
 	private void duplicatedNameCheck(String name) {
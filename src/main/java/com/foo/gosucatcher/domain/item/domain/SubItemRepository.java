@@ -15,6 +15,12 @@ public interface SubItemRepository extends JpaRepository<SubItem, Long> {
 
 	Slice<SubItem> findAllByMainItemName(String name, Pageable pageable);
 
+	@Query("SELECT si FROM SubItem si JOIN FETCH si.mainItem")
+	List<SubItem> findAllWithMainItem();
+
+	@Query("SELECT si FROM SubItem si JOIN FETCH si.mainItem WHERE si.id = :id")
+	Optional<SubItem> findByIdWithMainItem(@Param("id") Long id);
+
 	@Query("SELECT si FROM SubItem si JOIN FETCH si.mainItem WHERE si.name LIKE %:keyword%")
 	List<SubItem> findByNameContains(@Param("keyword") String keyword);
 }
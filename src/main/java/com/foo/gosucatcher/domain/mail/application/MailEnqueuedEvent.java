@@ -0,0 +1,4 @@
+package com.foo.gosucatcher.domain.mail.application;
+
+public record MailEnqueuedEvent(Long mailOutboxId) {
+}
@@ -0,0 +1,227 @@
+package com.foo.gosucatcher.domain.mail.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.foo.gosucatcher.config.EmailAuthProperties;
+import com.foo.gosucatcher.domain.mail.domain.MailOutbox;
+import com.foo.gosucatcher.domain.mail.domain.MailOutboxRepository;
+import com.foo.gosucatcher.domain.mail.domain.MailOutboxStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+	private static final int MAIL_WORKER_COUNT = 2;
+	private static final int BATCH_SIZE = 50;
+	private static final long POLL_INTERVAL_MILLIS = 5_000;
+	private static final Duration STALE_CLAIM_TIMEOUT = Duration.ofMinutes(10);
+
+	private final MailOutboxRepository mailOutboxRepository;
+	private final JavaMailSender javaMailSender;
+	private final TransactionTemplate transactionTemplate;
+	private final TaskExecutor mailTaskExecutor;
+	private final Semaphore workers = new Semaphore(MAIL_WORKER_COUNT);
+	private final String SENDER_EMAIL;
+
+	private final AtomicLong pendingCount = new AtomicLong();
+	private final Counter sentCounter;
+	private final Counter retriedCounter;
+	private final Counter failedCounter;
+	private final Timer deliveryLatency;
+
+	public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository, JavaMailSender javaMailSender,
+		PlatformTransactionManager transactionManager, @Qualifier("mailTaskExecutor") TaskExecutor mailTaskExecutor,
+		EmailAuthProperties emailAuthProperties, MeterRegistry meterRegistry) {
+		this.mailOutboxRepository = mailOutboxRepository;
+		this.javaMailSender = javaMailSender;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.mailTaskExecutor = mailTaskExecutor;
+		this.SENDER_EMAIL = emailAuthProperties.getSenderEmail();
+
+		Gauge.builder("mail.outbox.pending", pendingCount, AtomicLong::get)
+			.description("발송 대기 중인 메일 수")
+			.register(meterRegistry);
+		this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+		this.retriedCounter = meterRegistry.counter("mail.outbox.retried");
+		this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+		this.deliveryLatency = Timer.builder("mail.outbox.latency")
+			.description("메일 적재부터 발송 완료까지 걸린 시간")
+			.register(meterRegistry);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMailEnqueued(MailEnqueuedEvent event) {
+		requestDrain();
+	}
+
+	@Scheduled(fixedDelay = POLL_INTERVAL_MILLIS)
+	public void poll() {
+		transactionTemplate.executeWithoutResult(status -> mailOutboxRepository.releaseStaleClaims(
+			LocalDateTime.now().minus(STALE_CLAIM_TIMEOUT), MailOutboxStatus.PENDING, MailOutboxStatus.SENDING));
+		pendingCount.set(mailOutboxRepository.countByStatus(MailOutboxStatus.PENDING));
+
+		requestDrain();
+	}
+
+	public void requestDrain() {
+		if (!workers.tryAcquire()) {
+			return;
+		}
+
+		try {
+			mailTaskExecutor.execute(() -> {
+				try {
+					drain();
+				} finally {
+					workers.release();
+				}
+			});
+		} catch (TaskRejectedException e) {
+			workers.release();
+			log.warn("메일 발송 작업 큐가 가득 차 다음 폴링에서 발송합니다.");
+		}
+	}
+
+	public void drain() {
+		boolean hasMore = true;
+		while (hasMore) {
+			List<MailOutbox> batch = claimBatch();
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			send(batch);
+			transactionTemplate.executeWithoutResult(status -> mailOutboxRepository.saveAll(batch));
+			hasMore = batch.size() == BATCH_SIZE;
+		}
+	}
+
+	private List<MailOutbox> claimBatch() {
+		List<MailOutbox> batch = transactionTemplate.execute(status -> {
+			List<Long> dueIds = mailOutboxRepository.findDueIds(MailOutboxStatus.PENDING, LocalDateTime.now(),
+				PageRequest.of(0, BATCH_SIZE));
+			if (dueIds.isEmpty()) {
+				return Collections.<MailOutbox>emptyList();
+			}
+
+			String claimToken = UUID.randomUUID().toString();
+			mailOutboxRepository.claim(dueIds, claimToken, LocalDateTime.now(), MailOutboxStatus.PENDING,
+				MailOutboxStatus.SENDING);
+
+			return mailOutboxRepository.findAllByClaimTokenOrderByIdAsc(claimToken);
+		});
+
+		return batch == null ? Collections.emptyList() : batch;
+	}
+
+	private void send(List<MailOutbox> batch) {
+		Map<MimeMessage, MailOutbox> outboxesByMessage = new LinkedHashMap<>();
+		for (MailOutbox mailOutbox : batch) {
+			try {
+				outboxesByMessage.put(createMessage(mailOutbox), mailOutbox);
+			} catch (MessagingException e) {
+				markFailedPermanently(mailOutbox, e);
+			}
+		}
+		if (outboxesByMessage.isEmpty()) {
+			return;
+		}
+
+		List<MimeMessage> messages = new ArrayList<>(outboxesByMessage.keySet());
+		Map<Object, Exception> failedMessages = Collections.emptyMap();
+		try {
+			javaMailSender.send(messages.toArray(MimeMessage[]::new));
+		} catch (MailSendException e) {
+			failedMessages = e.getFailedMessages();
+			if (failedMessages.isEmpty()) {
+				markAllFailed(outboxesByMessage, e);
+				return;
+			}
+		} catch (MailException e) {
+			markAllFailed(outboxesByMessage, e);
+			return;
+		}
+
+		for (Map.Entry<MimeMessage, MailOutbox> entry : outboxesByMessage.entrySet()) {
+			Exception failure = failedMessages.get(entry.getKey());
+			if (failure == null) {
+				markSent(entry.getValue());
+			} else {
+				markFailed(entry.getValue(), failure);
+			}
+		}
+	}
+
+	private MimeMessage createMessage(MailOutbox mailOutbox) throws MessagingException {
+		MimeMessage message = javaMailSender.createMimeMessage();
+		message.setFrom(SENDER_EMAIL);
+		message.setRecipients(MimeMessage.RecipientType.TO, mailOutbox.getRecipient());
+		message.setSubject(mailOutbox.getSubject(), "UTF-8");
+		message.setText(mailOutbox.getBody(), "UTF-8", "html");
+
+		return message;
+	}
+
+	private void markSent(MailOutbox mailOutbox) {
+		mailOutbox.markSent();
+		sentCounter.increment();
+
+		if (mailOutbox.getCreatedAt() != null) {
+			deliveryLatency.record(Duration.between(mailOutbox.getCreatedAt(), LocalDateTime.now()));
+		}
+	}
+
+	private void markFailedPermanently(MailOutbox mailOutbox, Exception e) {
+		mailOutbox.markFailedPermanently(e.getMessage());
+		failedCounter.increment();
+		log.error("메일을 만들 수 없어 재시도하지 않습니다. id: {}, 수신자: {}", mailOutbox.getId(), mailOutbox.getRecipient(), e);
+	}
+
+	private void markAllFailed(Map<MimeMessage, MailOutbox> outboxesByMessage, Exception e) {
+		outboxesByMessage.values()
+			.forEach(mailOutbox -> markFailed(mailOutbox, e));
+	}
+
+	private void markFailed(MailOutbox mailOutbox, Exception e) {
+		mailOutbox.markFailed(e.getMessage(), LocalDateTime.now());
+
+		if (mailOutbox.getStatus() == MailOutboxStatus.FAILED) {
+			failedCounter.increment();
+			log.error("메일 발송에 최종 실패했습니다. id: {}, 수신자: {}", mailOutbox.getId(), mailOutbox.getRecipient(), e);
+			return;
+		}
+		retriedCounter.increment();
+		log.warn("메일 발송에 실패해 재시도합니다. id: {}, 시도 횟수: {}", mailOutbox.getId(), mailOutbox.getAttemptCount());
+	}
+}
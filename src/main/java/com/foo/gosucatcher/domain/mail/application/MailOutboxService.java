@@ -0,0 +1,46 @@
+package com.foo.gosucatcher.domain.mail.application;
+
+import javax.mail.internet.AddressException;
+import javax.mail.internet.InternetAddress;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.foo.gosucatcher.domain.mail.domain.MailOutbox;
+import com.foo.gosucatcher.domain.mail.domain.MailOutboxRepository;
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.InvalidValueException;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class MailOutboxService {
+
+	private final MailOutboxRepository mailOutboxRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public Long enqueue(String recipient, String subject, String body) {
+		checkValidAddress(recipient);
+
+		MailOutbox mailOutbox = MailOutbox.builder()
+			.recipient(recipient)
+			.subject(subject)
+			.body(body)
+			.build();
+		MailOutbox savedMailOutbox = mailOutboxRepository.save(mailOutbox);
+		eventPublisher.publishEvent(new MailEnqueuedEvent(savedMailOutbox.getId()));
+
+		return savedMailOutbox.getId();
+	}
+
+	private void checkValidAddress(String recipient) {
+		try {
+			new InternetAddress(recipient, true);
+		} catch (AddressException e) {
+			throw new InvalidValueException(ErrorCode.INVALID_EMAIL_FORMAT);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.foo.gosucatcher.domain.mail.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import com.foo.gosucatcher.global.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "mail_outbox", indexes = {
+	@Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+	@Index(name = "idx_mail_outbox_claim_token", columnList = "claim_token")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox extends BaseEntity {
+
+	public static final int MAX_ATTEMPTS = 5;
+	private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String recipient;
+
+	@Column(nullable = false)
+	private String subject;
+
+	@Lob
+	private String body;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	private MailOutboxStatus status;
+
+	@Column(nullable = false)
+	private int attemptCount;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "claim_token")
+	private String claimToken;
+
+	private LocalDateTime claimedAt;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Builder
+	public MailOutbox(String recipient, String subject, String body) {
+		this.recipient = recipient;
+		this.subject = subject;
+		this.body = body;
+		this.status = MailOutboxStatus.PENDING;
+		this.nextAttemptAt = LocalDateTime.now();
+	}
+
+	public void markSent() {
+		this.status = MailOutboxStatus.SENT;
+		this.claimToken = null;
+		this.lastError = null;
+		this.body = null;
+	}
+
+	public void markFailedPermanently(String error) {
+		this.attemptCount++;
+		this.status = MailOutboxStatus.FAILED;
+		this.claimToken = null;
+		this.lastError = truncate(error);
+		this.body = null;
+	}
+
+	public void markFailed(String error, LocalDateTime now) {
+		this.attemptCount++;
+		this.claimToken = null;
+		this.lastError = truncate(error);
+
+		if (attemptCount >= MAX_ATTEMPTS) {
+			this.status = MailOutboxStatus.FAILED;
+			this.body = null;
+			return;
+		}
+
+		this.status = MailOutboxStatus.PENDING;
+		this.nextAttemptAt = now.plus(INITIAL_BACKOFF.multipliedBy(1L << (attemptCount - 1)));
+	}
+
+	private String truncate(String error) {
+		return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+	}
+}
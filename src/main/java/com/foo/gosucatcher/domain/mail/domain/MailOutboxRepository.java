@@ -0,0 +1,44 @@
+package com.foo.gosucatcher.domain.mail.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+	@Query("""
+		SELECT m.id
+		FROM MailOutbox m
+		WHERE m.status = :status AND m.nextAttemptAt <= :now
+		ORDER BY m.id
+		""")
+	List<Long> findDueIds(@Param("status") MailOutboxStatus status, @Param("now") LocalDateTime now,
+		Pageable pageable);
+
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE MailOutbox m
+		SET m.status = :claimedStatus, m.claimToken = :claimToken, m.claimedAt = :now
+		WHERE m.id IN :ids AND m.status = :status
+		""")
+	int claim(@Param("ids") List<Long> ids, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now,
+		@Param("status") MailOutboxStatus status, @Param("claimedStatus") MailOutboxStatus claimedStatus);
+
+	List<MailOutbox> findAllByClaimTokenOrderByIdAsc(String claimToken);
+
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE MailOutbox m
+		SET m.status = :status, m.claimToken = NULL
+		WHERE m.status = :claimedStatus AND m.claimedAt < :threshold
+		""")
+	int releaseStaleClaims(@Param("threshold") LocalDateTime threshold, @Param("status") MailOutboxStatus status,
+		@Param("claimedStatus") MailOutboxStatus claimedStatus);
+
+	long countByStatus(MailOutboxStatus status);
+}
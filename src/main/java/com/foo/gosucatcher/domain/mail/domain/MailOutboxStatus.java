@@ -0,0 +1,9 @@
+package com.foo.gosucatcher.domain.mail.domain;
+
+public enum MailOutboxStatus {
+
+	PENDING,
+	SENDING,
+	SENT,
+	FAILED
+}
@@ -1,9 +1,11 @@
 package com.foo.gosucatcher.domain.member.application;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.foo.gosucatcher.domain.expert.application.ExpertChangedEvent;
 import com.foo.gosucatcher.domain.expert.domain.Expert;
 import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
 import com.foo.gosucatcher.domain.member.application.dto.request.MemberLoginRequest;
@@ -23,6 +25,7 @@ import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
 import com.foo.gosucatcher.global.security.CustomUserDetails;
 import com.foo.gosucatcher.global.security.JwtTokenProvider;
+import com.foo.gosucatcher.global.security.PrincipalCache;
 import com.foo.gosucatcher.global.util.RandomNumberUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -39,6 +42,8 @@ public class MemberAuthService {
 	private final ExpertRepository expertRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final PrincipalCache principalCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public MemberSignupResponse signup(MemberSignupRequest memberSignUpRequest) {
 		checkDuplicatedEmail(memberSignUpRequest);
@@ -57,6 +62,7 @@ public class MemberAuthService {
 
 		MemberImage defaultMemberImage = new MemberImage(MemberImage.DEFAULT_PATH);
 		signupMember.updateProfileImage(defaultMemberImage);
+		eventPublisher.publishEvent(new ExpertChangedEvent(expert.getId()));
 
 		return MemberSignupResponse.from(savedMember);
 	}
@@ -82,6 +88,7 @@ public class MemberAuthService {
 			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
 
 		member.logout();
+		principalCache.invalidate(member.getId());
 	}
 
 	public void deleteMember(Long memberId) {
@@ -92,6 +99,7 @@ public class MemberAuthService {
 
 		expertRepository.delete(expert);
 		memberRepository.delete(member);
+		principalCache.invalidate(member.getId());
 	}
 
 	public MemberPasswordFoundResponse findPassword(MemberPasswordFoundRequest memberPasswordFoundRequest) {
@@ -1,21 +1,20 @@
 package com.foo.gosucatcher.domain.member.application;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
-
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.foo.gosucatcher.config.EmailAuthProperties;
+import com.foo.gosucatcher.domain.mail.application.MailOutboxService;
 import com.foo.gosucatcher.domain.member.application.dto.request.MemberEmailAuthRequest;
 import com.foo.gosucatcher.domain.member.application.dto.response.MemberEmailAuthResponse;
 import com.foo.gosucatcher.domain.member.application.dto.response.MemberEmailSendResponse;
 import com.foo.gosucatcher.domain.member.domain.MemberEmailRequest;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.domain.member.domain.VerificationChannel;
+import com.foo.gosucatcher.domain.member.domain.VerificationResult;
 import com.foo.gosucatcher.domain.member.exception.EmailAuthException;
+import com.foo.gosucatcher.domain.member.infrastructure.VerificationCodeRedisRepository;
 import com.foo.gosucatcher.global.error.ErrorCode;
-import com.foo.gosucatcher.global.util.EmailRedisTemplateUtils;
 import com.foo.gosucatcher.global.util.RandomNumberUtils;
 
 @Transactional
@@ -35,19 +34,18 @@ public class MemberEmailAuthService {
 		<h3>로그인 후 꼭 비밀번호를 변경해주세요! 감사합니다.</h3>
 		""";
 
-	private final EmailRedisTemplateUtils emailRedisTemplateUtils;
-	private final JavaMailSender javaMailSender;
+	private final VerificationCodeRedisRepository verificationCodeRedisRepository;
+	private final MailOutboxService mailOutboxService;
 	private final MemberRepository memberRepository;
 
-	private final String SENDER_EMAIL;
 	private final Long EXPIRATION_TIME;
 
-	public MemberEmailAuthService(EmailRedisTemplateUtils emailRedisTemplateUtils, JavaMailSender javaMailSender,
-		MemberRepository memberRepository, EmailAuthProperties emailAuthProperties) {
-		this.emailRedisTemplateUtils = emailRedisTemplateUtils;
-		this.javaMailSender = javaMailSender;
+	public MemberEmailAuthService(VerificationCodeRedisRepository verificationCodeRedisRepository,
+		MailOutboxService mailOutboxService, MemberRepository memberRepository,
+		EmailAuthProperties emailAuthProperties) {
+		this.verificationCodeRedisRepository = verificationCodeRedisRepository;
+		this.mailOutboxService = mailOutboxService;
 		this.memberRepository = memberRepository;
-		this.SENDER_EMAIL = emailAuthProperties.getSenderEmail();
 		this.EXPIRATION_TIME = emailAuthProperties.getExpirationTime();
 	}
 
@@ -62,65 +60,29 @@ public class MemberEmailAuthService {
 	public MemberEmailSendResponse sendAuthEmail(MemberEmailRequest memberEmailRequest) {
 		String authNumber = RandomNumberUtils.createAuthenticationStringNumber();
 		String requestEmail = memberEmailRequest.getEmail();
-		MimeMessage message = createAuthenticationEmail(authNumber, requestEmail);
-		javaMailSender.send(message);
+		mailOutboxService.enqueue(requestEmail, AUTH_EMAIL_SUBJECT, AUTH_EMAIL_BODY.formatted(authNumber));
 
-		emailRedisTemplateUtils.put(requestEmail, authNumber, EXPIRATION_TIME);
+		verificationCodeRedisRepository.save(VerificationChannel.EMAIL, requestEmail, authNumber, EXPIRATION_TIME);
 
-		return MemberEmailSendResponse.from(message, EXPIRATION_TIME);
+		return MemberEmailSendResponse.of(requestEmail, EXPIRATION_TIME);
 	}
 
 	public MemberEmailAuthResponse authenticateMemberByEmail(String email,
 		MemberEmailAuthRequest memberEmailAuthRequest) {
-		String authNumber = emailRedisTemplateUtils.get(email, String.class);
-
-		if (authNumber == null) {
-			throw new EmailAuthException(ErrorCode.INVALID_AUTH);
-		}
+		VerificationResult verificationResult = verificationCodeRedisRepository.verify(VerificationChannel.EMAIL, email,
+			memberEmailAuthRequest.authNumber());
 
-		String requestAuthNumber = memberEmailAuthRequest.authNumber();
-		if (!authNumber.equals(requestAuthNumber)) {
-			throw new EmailAuthException(ErrorCode.INCORRECT_AUTH_NUMBER);
+		switch (verificationResult) {
+			case EXPIRED -> throw new EmailAuthException(ErrorCode.INVALID_AUTH);
+			case MISMATCHED -> throw new EmailAuthException(ErrorCode.INCORRECT_AUTH_NUMBER);
+			case LOCKED -> throw new EmailAuthException(ErrorCode.TOO_MANY_AUTH_ATTEMPTS);
 		}
-		emailRedisTemplateUtils.delete(email);
 
 		return new MemberEmailAuthResponse(email, true);
 	}
 
 	public void sendPasswordRecoveryEmail(String temporaryPassword, String email) {
-		MimeMessage recoveryEmail = createRecoveryEmail(temporaryPassword, email);
-		javaMailSender.send(recoveryEmail);
-	}
-
-	private MimeMessage createAuthenticationEmail(String authNumber, String email) {
-		MimeMessage message = javaMailSender.createMimeMessage();
-
-		try {
-			String body = AUTH_EMAIL_BODY.formatted(authNumber);
-			message.setFrom(SENDER_EMAIL);
-			message.setRecipients(MimeMessage.RecipientType.TO, email);
-			message.setSubject(AUTH_EMAIL_SUBJECT);
-			message.setText(body, "UTF-8", "html");
-		} catch (MessagingException e) {
-			throw new EmailAuthException(ErrorCode.NOT_CREATION_AUTH_MESSAGE);
-		}
-
-		return message;
-	}
-
-	private MimeMessage createRecoveryEmail(String temporaryPassword, String email) {
-		MimeMessage message = javaMailSender.createMimeMessage();
-
-		try {
-			String body = RECOVERY_PASSWORD_EMAIL_BODY.formatted(temporaryPassword);
-			message.setFrom(SENDER_EMAIL);
-			message.setRecipients(MimeMessage.RecipientType.TO, email);
-			message.setSubject(RECOVERY_PASSWORD_EMAIL_SUBJECT);
-			message.setText(body, "UTF-8", "html");
-		} catch (MessagingException e) {
-			throw new EmailAuthException(ErrorCode.NOT_CREATION_AUTH_MESSAGE);
-		}
-
-		return message;
+		mailOutboxService.enqueue(email, RECOVERY_PASSWORD_EMAIL_SUBJECT,
+			RECOVERY_PASSWORD_EMAIL_BODY.formatted(temporaryPassword));
 	}
 }
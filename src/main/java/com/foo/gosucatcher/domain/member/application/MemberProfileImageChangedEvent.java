@@ -0,0 +1,4 @@
+package com.foo.gosucatcher.domain.member.application;
+
+public record MemberProfileImageChangedEvent(Long memberId) {
+}
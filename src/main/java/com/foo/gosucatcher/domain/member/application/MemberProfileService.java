@@ -2,6 +2,7 @@ package com.foo.gosucatcher.domain.member.application;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,7 @@ import com.foo.gosucatcher.domain.member.domain.MemberImage;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
 import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+import com.foo.gosucatcher.global.security.PrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +35,8 @@ public class MemberProfileService {
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final ImageService imageService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PrincipalCache principalCache;
 
 	public MemberProfileResponse findMemberProfile(Long memberId) {
 		Member member = memberRepository.findById(memberId)
@@ -48,6 +52,7 @@ public class MemberProfileService {
 
 		Member changedMember = MemberProfileChangeRequest.toMember(memberProfileChangeRequest);
 		member.updateProfile(changedMember, passwordEncoder);
+		principalCache.invalidate(member.getId());
 
 		return MemberProfileChangeResponse.from(member);
 	}
@@ -65,6 +70,8 @@ public class MemberProfileService {
 		member.updateProfileImage(newProfileImage);
 
 		memberRepository.save(member);
+		principalCache.invalidate(member.getId());
+		eventPublisher.publishEvent(new MemberProfileImageChangedEvent(memberId));
 
 		return uploadResponse;
 	}
@@ -87,6 +94,8 @@ public class MemberProfileService {
 
 		member.getProfileMemberImage().changePathToDefault();
 		memberRepository.save(member);
+		principalCache.invalidate(member.getId());
+		eventPublisher.publishEvent(new MemberProfileImageChangedEvent(memberId));
 	}
 
 	public Long changeMemberRole(Long memberId) {
@@ -95,6 +104,7 @@ public class MemberProfileService {
 		member.changeRole();
 
 		memberRepository.save(member);
+		principalCache.invalidate(member.getId());
 
 		return memberId;
 	}
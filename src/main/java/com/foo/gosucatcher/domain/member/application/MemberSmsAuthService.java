@@ -1,7 +1,5 @@
 package com.foo.gosucatcher.domain.member.application;
 
-import java.util.List;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,19 +8,15 @@ import com.foo.gosucatcher.domain.member.application.dto.request.SmsAuthRequest;
 import com.foo.gosucatcher.domain.member.application.dto.request.SmsSendRequest;
 import com.foo.gosucatcher.domain.member.application.dto.response.SmsAuthResponse;
 import com.foo.gosucatcher.domain.member.application.dto.response.SmsSendResponse;
+import com.foo.gosucatcher.domain.member.domain.VerificationChannel;
+import com.foo.gosucatcher.domain.member.domain.VerificationResult;
 import com.foo.gosucatcher.domain.member.exception.SmsAuthException;
+import com.foo.gosucatcher.domain.member.infrastructure.VerificationCodeRedisRepository;
+import com.foo.gosucatcher.domain.sms.application.SmsDispatcher;
+import com.foo.gosucatcher.domain.sms.application.SmsMessage;
 import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.util.RandomNumberUtils;
-import com.foo.gosucatcher.global.util.SmsRedisTemplateUtils;
-
-import lombok.extern.slf4j.Slf4j;
-import net.nurigo.sdk.NurigoApp;
-import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
-import net.nurigo.sdk.message.model.FailedMessage;
-import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.service.DefaultMessageService;
 
-@Slf4j
 @Transactional
 @Service
 public class MemberSmsAuthService {
@@ -32,17 +26,15 @@ public class MemberSmsAuthService {
 		인증번호: %s
 		""";
 
-	private final SmsRedisTemplateUtils smsRedisTemplateUtils;
-	private final DefaultMessageService messageService;
+	private final VerificationCodeRedisRepository verificationCodeRedisRepository;
+	private final SmsDispatcher smsDispatcher;
 
-	private final String FROM_NUMBER;
 	private final Long EXPIRATION_TIME;
 
-	public MemberSmsAuthService(SmsRedisTemplateUtils smsRedisTemplateUtils, SmsAuthProperties smsAuthProperties) {
-		this.smsRedisTemplateUtils = smsRedisTemplateUtils;
-		this.messageService = NurigoApp.INSTANCE.initialize(smsAuthProperties.getApiKey(),
-			smsAuthProperties.getApiSecret(), smsAuthProperties.getDomain());
-		this.FROM_NUMBER = smsAuthProperties.getFromNumber();
+	public MemberSmsAuthService(VerificationCodeRedisRepository verificationCodeRedisRepository,
+		SmsDispatcher smsDispatcher, SmsAuthProperties smsAuthProperties) {
+		this.verificationCodeRedisRepository = verificationCodeRedisRepository;
+		this.smsDispatcher = smsDispatcher;
 		this.EXPIRATION_TIME = smsAuthProperties.getExpirationTime();
 	}
 
@@ -50,39 +42,22 @@ public class MemberSmsAuthService {
 		String toNumber = smsSendRequest.phoneNumber();
 		String authNumber = RandomNumberUtils.createAuthenticationStringNumber();
 
-		Message message = new Message();
-		message.setFrom(FROM_NUMBER);
-		message.setTo(toNumber);
-		message.setText(TEXT_MESSAGE.formatted(authNumber));
-
-		try {
-			messageService.send(message);
-		} catch (NurigoMessageNotReceivedException exception) {
-			List<FailedMessage> failedMessageList = exception.getFailedMessageList();
-			failedMessageList.forEach(msg -> log.warn(msg.toString()));
-			log.warn(exception.getMessage());
-		} catch (Exception exception) {
-			log.warn(exception.getMessage());
-		}
-
-		smsRedisTemplateUtils.put(toNumber, authNumber, EXPIRATION_TIME);
+		smsDispatcher.enqueue(new SmsMessage(toNumber, TEXT_MESSAGE.formatted(authNumber)),
+			() -> verificationCodeRedisRepository.save(VerificationChannel.SMS, toNumber, authNumber, EXPIRATION_TIME));
 
 		return SmsSendResponse.from(memberId, toNumber);
 	}
 
 	public SmsAuthResponse authenticateSms(SmsAuthRequest smsAuthRequest) {
 		String phoneNumber = smsAuthRequest.phoneNumber();
-		String authNumber = smsRedisTemplateUtils.get(phoneNumber, String.class);
-
-		if (authNumber == null) {
-			throw new SmsAuthException(ErrorCode.INVALID_AUTH);
-		}
+		VerificationResult verificationResult = verificationCodeRedisRepository.verify(VerificationChannel.SMS,
+			phoneNumber, smsAuthRequest.authNumber());
 
-		String requestAuthNumber = smsAuthRequest.authNumber();
-		if (!authNumber.equals(requestAuthNumber)) {
-			throw new SmsAuthException(ErrorCode.INCORRECT_AUTH_NUMBER);
+		switch (verificationResult) {
+			case EXPIRED -> throw new SmsAuthException(ErrorCode.INVALID_AUTH);
+			case MISMATCHED -> throw new SmsAuthException(ErrorCode.INCORRECT_AUTH_NUMBER);
+			case LOCKED -> throw new SmsAuthException(ErrorCode.TOO_MANY_AUTH_ATTEMPTS);
 		}
-		smsRedisTemplateUtils.delete(phoneNumber);
 
 		return new SmsAuthResponse(phoneNumber, true);
 	}
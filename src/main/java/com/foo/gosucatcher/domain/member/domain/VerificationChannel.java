@@ -0,0 +1,14 @@
+package com.foo.gosucatcher.domain.member.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum VerificationChannel {
+
+	EMAIL("email"),
+	SMS("sms");
+
+	private final String keyPrefix;
+}
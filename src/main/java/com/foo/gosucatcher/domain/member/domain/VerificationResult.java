@@ -0,0 +1,23 @@
+package com.foo.gosucatcher.domain.member.domain;
+
+public enum VerificationResult {
+
+	VERIFIED,
+	MISMATCHED,
+	LOCKED,
+	EXPIRED;
+
+	public static VerificationResult from(long scriptResult) {
+		if (scriptResult == 0) {
+			return VERIFIED;
+		}
+		if (scriptResult == -1) {
+			return EXPIRED;
+		}
+		if (scriptResult == -2) {
+			return LOCKED;
+		}
+
+		return MISMATCHED;
+	}
+}
@@ -0,0 +1,47 @@
+package com.foo.gosucatcher.domain.member.infrastructure;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.foo.gosucatcher.domain.member.domain.VerificationChannel;
+import com.foo.gosucatcher.domain.member.domain.VerificationResult;
+
+@Repository
+public class VerificationCodeRedisRepository {
+
+	private static final int MAX_ATTEMPTS = 5;
+	private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/issue-verification-code.lua"), Long.class);
+	private static final RedisScript<Long> VERIFY_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/verify-verification-code.lua"), Long.class);
+
+	private final RedisTemplate<String, String> verificationRedisTemplate;
+
+	public VerificationCodeRedisRepository(
+		@Qualifier("verificationRedisTemplate") RedisTemplate<String, String> verificationRedisTemplate) {
+		this.verificationRedisTemplate = verificationRedisTemplate;
+	}
+
+	public void save(VerificationChannel channel, String target, String code, long expirationSeconds) {
+		verificationRedisTemplate.execute(ISSUE_SCRIPT, keysOf(channel, target), code,
+			String.valueOf(expirationSeconds));
+	}
+
+	public VerificationResult verify(VerificationChannel channel, String target, String code) {
+		Long scriptResult = verificationRedisTemplate.execute(VERIFY_SCRIPT, keysOf(channel, target), code,
+			String.valueOf(MAX_ATTEMPTS));
+
+		return VerificationResult.from(scriptResult == null ? -1 : scriptResult);
+	}
+
+	private List<String> keysOf(VerificationChannel channel, String target) {
+		String hashTag = "verification:{" + channel.getKeyPrefix() + ":" + target + "}";
+
+		return List.of(hashTag + ":code", hashTag + ":attempts");
+	}
+}
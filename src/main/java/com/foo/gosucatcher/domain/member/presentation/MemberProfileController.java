@@ -23,7 +23,8 @@ import com.foo.gosucatcher.domain.member.application.MemberProfileService;
 import com.foo.gosucatcher.domain.member.application.dto.request.MemberProfileChangeRequest;
 import com.foo.gosucatcher.domain.member.application.dto.response.MemberProfileChangeResponse;
 import com.foo.gosucatcher.domain.member.application.dto.response.MemberProfileResponse;
-import com.foo.gosucatcher.global.aop.CurrentMemberId;
+import com.foo.gosucatcher.global.security.AuthenticatedMember;
+import com.foo.gosucatcher.global.security.CurrentMember;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -39,30 +40,28 @@ public class MemberProfileController {
 
 	private final MemberProfileService memberProfileService;
 
-	@CurrentMemberId
 	@PatchMapping
 	@Operation(summary = "회원 프로필 정보 변경", description = "회원의 이름, 비밀번호, 핸드폰번호를 변경합니다.")
 	public ResponseEntity<MemberProfileChangeResponse> changeMemberProfile(
-		@Parameter(description = "토큰에서 가져온 멤버ID", required = true)
-		Long memberId,
+		@Parameter(hidden = true)
+		@CurrentMember AuthenticatedMember authenticatedMember,
 		@RequestBody @Validated
 		@Parameter(description = "정보 변경에 필요한 요청 정보", required = true)
 		MemberProfileChangeRequest memberProfileChangeRequest
 	) {
-		MemberProfileChangeResponse response = memberProfileService.changeMemberProfile(memberId,
+		MemberProfileChangeResponse response = memberProfileService.changeMemberProfile(authenticatedMember.memberId(),
 			memberProfileChangeRequest);
 
 		return ResponseEntity.ok(response);
 	}
 
-	@CurrentMemberId
 	@GetMapping
 	@Operation(summary = "본인의 회원 정보 조회", description = "회원 아이디, 회원의 이름, 비밀번호, 핸드폰번호를 조회합니다.")
 	public ResponseEntity<MemberProfileResponse> findMemberProfile(
-		@Parameter(description = "토큰에서 가져온 멤버ID", required = true)
-		Long memberId
+		@Parameter(hidden = true)
+		@CurrentMember AuthenticatedMember authenticatedMember
 	) {
-		MemberProfileResponse response = memberProfileService.findMemberProfile(memberId);
+		MemberProfileResponse response = memberProfileService.findMemberProfile(authenticatedMember.memberId());
 
 		return ResponseEntity.ok(response);
 	}
@@ -79,56 +78,52 @@ public class MemberProfileController {
 		return ResponseEntity.ok(response);
 	}
 
-	@CurrentMemberId
 	@PatchMapping("/role")
 	@Operation(summary = "회원의 역할을 변경합니다.", description = "고수는 유저로, 유저는 고수로 역할을 변경합니다.")
 	public ResponseEntity<Long> changeMemberRole(
-		@Parameter(description = "토큰에서 가져온 멤버ID", required = true)
-		Long memberId
+		@Parameter(hidden = true)
+		@CurrentMember AuthenticatedMember authenticatedMember
 	) {
-		Long updatedMemberId = memberProfileService.changeMemberRole(memberId);
+		Long updatedMemberId = memberProfileService.changeMemberRole(authenticatedMember.memberId());
 
 		return ResponseEntity.ok(updatedMemberId);
 	}
 
-	@CurrentMemberId
 	@PostMapping("/images")
 	@Operation(summary = "회원 프로필 이미지 업로드", description = "회원의 프로필 이미지를 업로드합니다.")
 	public ResponseEntity<ImagesResponse> uploadProfileImage(
-		@Parameter(description = "토큰에서 가져온 멤버ID", required = true)
-		Long memberId,
+		@Parameter(hidden = true)
+		@CurrentMember AuthenticatedMember authenticatedMember,
 		@RequestParam
 		@Parameter(description = "이미지 파일 객체", required = true)
 		MultipartFile file
 	) {
 
 		ImageUploadRequest request = new ImageUploadRequest(List.of(file));
-		ImagesResponse response = memberProfileService.uploadProfileImage(memberId, request);
+		ImagesResponse response = memberProfileService.uploadProfileImage(authenticatedMember.memberId(), request);
 
 		return ResponseEntity.status(HttpStatus.CREATED)
 			.body(response);
 	}
 
-	@CurrentMemberId
 	@GetMapping("/images")
 	@Operation(summary = "회원 프로필 이미지 조회", description = "회원의 프로필 이미지를 조회합니다.")
 	public ResponseEntity<ImageResponse> getProfileImage(
-		@Parameter(description = "토큰에서 가져온 멤버ID", required = true)
-		Long memberId
+		@Parameter(hidden = true)
+		@CurrentMember AuthenticatedMember authenticatedMember
 	) {
-		ImageResponse response = memberProfileService.getProfileImage(memberId);
+		ImageResponse response = memberProfileService.getProfileImage(authenticatedMember.memberId());
 
 		return ResponseEntity.ok(response);
 	}
 
-	@CurrentMemberId
 	@DeleteMapping("/images")
 	@Operation(summary = "회원 프로필 이미지 삭제", description = "회원의 프로필 이미지를 삭제합니다.")
 	public ResponseEntity<String> deleteProfileImage(
-		@Parameter(description = "토큰에서 가져온 멤버ID", required = true)
-		Long memberId
+		@Parameter(hidden = true)
+		@CurrentMember AuthenticatedMember authenticatedMember
 	) {
-		memberProfileService.deleteProfileImage(memberId);
+		memberProfileService.deleteProfileImage(authenticatedMember.memberId());
 
 		return ResponseEntity.ok(null);
 	}
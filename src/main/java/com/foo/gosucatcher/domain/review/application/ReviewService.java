@@ -7,20 +7,22 @@ import static com.foo.gosucatcher.global.error.ErrorCode.UNSUPPORTED_MULTIPLE_RE
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.foo.gosucatcher.domain.expert.application.ExpertChangedEvent;
 import com.foo.gosucatcher.domain.expert.domain.Expert;
 import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
 import com.foo.gosucatcher.domain.image.ImageService;
 import com.foo.gosucatcher.domain.image.application.dto.request.ImageDeleteRequest;
 import com.foo.gosucatcher.domain.image.application.dto.request.ImageUploadRequest;
 import com.foo.gosucatcher.domain.image.application.dto.response.ImagesResponse;
+import com.foo.gosucatcher.domain.item.application.ItemCatalogCache;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
-import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
 import com.foo.gosucatcher.domain.member.domain.Member;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
 import com.foo.gosucatcher.domain.review.application.dto.request.ReplyRequest;
@@ -51,9 +53,10 @@ public class ReviewService {
 	private final ReplyRepository replyRepository;
 	private final ExpertRepository expertRepository;
 	private final MemberRepository memberRepository;
-	private final SubItemRepository subItemRepository;
+	private final ItemCatalogCache itemCatalogCache;
 	private final ReviewImageRepository reviewImageRepository;
 	private final ImageService imageService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private static final int IMAGE_MAX_COUNT = 5;
 
@@ -63,15 +66,14 @@ public class ReviewService {
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_EXPERT));
 		Member writer = memberRepository.findById(writerId)
 			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
-		SubItem subItem = subItemRepository.findById(subItemId)
-			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_SUB_ITEM));
-
-		expert.addRating(reviewCreateRequest.rating());
+		SubItem subItem = itemCatalogCache.getSubItemReference(subItemId);
 
 		Review review = ReviewCreateRequest.toReview(reviewCreateRequest, expert, writer, subItem);
 		reviewRepository.save(review);
+		expertRepository.addRating(expert.getId(), reviewCreateRequest.rating());
 
 		saveImages(review, imageUploadRequest);
+		eventPublisher.publishEvent(new ExpertChangedEvent(expert.getId()));
 
 		return ReviewResponse.from(review);
 	}
@@ -118,9 +120,16 @@ public class ReviewService {
 		Review review = reviewRepository.findById(id)
 			.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_REVIEW));
 
+		long previousRating = (long)review.getRating();
 		Review updatedReview = ReviewUpdateRequest.toReview(reviewUpdateRequest);
 		review.update(updatedReview, updaterId);
 
+		long ratingDelta = (long)review.getRating() - previousRating;
+		if (ratingDelta != 0) {
+			expertRepository.changeRating(review.getExpert().getId(), ratingDelta);
+		}
+		eventPublisher.publishEvent(new ExpertChangedEvent(review.getExpert().getId()));
+
 		return id;
 	}
 
@@ -132,7 +141,9 @@ public class ReviewService {
 
 		review.delete(updaterId);
 
-		reviewRepository.deleteById(id);
+		reviewImageRepository.deleteAll(review.getReviewImages());
+		expertRepository.removeRating(review.getExpert().getId(), (long)review.getRating());
+		eventPublisher.publishEvent(new ExpertChangedEvent(review.getExpert().getId()));
 	}
 
 	@Transactional(readOnly = true)
@@ -10,6 +10,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -34,7 +35,9 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+	@Index(name = "idx_reviews_updated_at_expert_id", columnList = "updated_at, expert_id")
+})
 @Where(clause = "is_deleted = false")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE reviews SET is_deleted = true WHERE id = ?")
@@ -84,14 +87,12 @@ public class Review extends BaseEntity {
 		rating = updated.getRating();
 
 		validateWriter(updaterId);
-
-		expert.updateRating(rating);
 	}
 
 	public void delete(long updaterId) {
 		validateWriter(updaterId);
 
-		expert.deleteReview(rating);
+		isDeleted = true;
 	}
 
 	public boolean replyExists() {
@@ -0,0 +1,70 @@
+package com.foo.gosucatcher.domain.search.application;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.foo.gosucatcher.domain.search.application.dto.response.SearchSuggestionListResponse;
+import com.foo.gosucatcher.domain.search.domain.SuggestionTrie;
+import com.foo.gosucatcher.domain.search.infrastructure.SearchRankingRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchSuggestionService {
+
+	private static final int MAXIMUM_SUGGESTION_SIZE = 10;
+	private static final int POPULAR_KEYWORD_SOURCE_SIZE = 1_000;
+	private static final long CATALOG_BASE_WEIGHT = 1L;
+	private static final long POPULARITY_REFRESH_INTERVAL_MILLIS = 60_000L;
+
+	private final SubItemSearchIndex subItemSearchIndex;
+	private final SearchRankingRedisRepository searchRankingRedisRepository;
+
+	private volatile Map<String, Long> popularityWeights = Map.of();
+	private volatile SuggestionTrie suggestionTrie = SuggestionTrie.empty();
+
+	public SearchSuggestionListResponse suggest(String keyword, int size) {
+		if (keyword == null || keyword.isBlank() || size <= 0) {
+			return SearchSuggestionListResponse.from(List.of());
+		}
+
+		return SearchSuggestionListResponse.from(suggestionTrie.suggest(keyword, Math.min(size, MAXIMUM_SUGGESTION_SIZE)));
+	}
+
+	@Async("searchTaskExecutor")
+	@EventListener
+	public void onCatalogChanged(SubItemCatalogChangedEvent event) {
+		rebuild();
+	}
+
+	@Scheduled(fixedDelay = POPULARITY_REFRESH_INTERVAL_MILLIS)
+	public void refreshPopularityWeights() {
+		try {
+			popularityWeights = searchRankingRedisRepository.findTopKeywordsWithScores(POPULAR_KEYWORD_SOURCE_SIZE);
+		} catch (DataAccessException exception) {
+			log.warn("인기 검색어 가중치 갱신에 실패했습니다. {}", exception.getMessage());
+		}
+
+		rebuild();
+	}
+
+	private synchronized void rebuild() {
+		Map<String, Long> weightedKeywords = new HashMap<>(popularityWeights);
+
+		for (String name : subItemSearchIndex.findAllNames()) {
+			weightedKeywords.merge(name, CATALOG_BASE_WEIGHT, Long::sum);
+		}
+
+		suggestionTrie = SuggestionTrie.build(weightedKeywords, MAXIMUM_SUGGESTION_SIZE);
+	}
+}
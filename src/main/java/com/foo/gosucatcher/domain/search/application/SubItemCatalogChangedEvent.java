@@ -0,0 +1,4 @@
+package com.foo.gosucatcher.domain.search.application;
+
+public record SubItemCatalogChangedEvent() {
+}
@@ -0,0 +1,309 @@
+package com.foo.gosucatcher.domain.search.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
+import com.foo.gosucatcher.domain.item.domain.SubItem;
+import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
+import com.foo.gosucatcher.global.util.HangulJamoUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SubItemSearchIndex implements MessageListener {
+
+	public static final String CHANGED_CHANNEL = "search:sub_item_index:changed";
+
+	private static final int MAX_GRAM_SIZE = 3;
+
+	private static final int EXACT_NAME_MATCH = 0;
+	private static final int NAME_PREFIX_MATCH = 1;
+	private static final int NAME_MATCH = 2;
+	private static final int MAIN_ITEM_NAME_MATCH = 3;
+
+	private final SubItemRepository subItemRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final RedisTemplate<String, String> cacheRedisTemplate;
+
+	private final Map<Long, IndexedSubItem> documents = new ConcurrentHashMap<>();
+	private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+	public SubItemSearchIndex(SubItemRepository subItemRepository, ApplicationEventPublisher applicationEventPublisher,
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> cacheRedisTemplate) {
+		this.subItemRepository = subItemRepository;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.cacheRedisTemplate = cacheRedisTemplate;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		documents.clear();
+		postings.clear();
+
+		subItemRepository.findAllWithMainItem().forEach(subItem -> index(IndexedSubItem.of(subItem)));
+
+		applicationEventPublisher.publishEvent(new SubItemCatalogChangedEvent());
+	}
+
+	public void put(SubItem subItem) {
+		IndexedSubItem document = IndexedSubItem.of(subItem);
+
+		afterCommit(() -> apply(document));
+	}
+
+	public void remove(Long subItemId) {
+		afterCommit(() -> applyRemove(subItemId));
+	}
+
+	public void renameMainItem(Long mainItemId, String mainItemName) {
+		afterCommit(() -> applyRenameMainItem(mainItemId, mainItemName));
+	}
+
+	public void removeAllByMainItemId(Long mainItemId) {
+		afterCommit(() -> applyRemoveAllByMainItemId(mainItemId));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			rebuild();
+		} catch (DataAccessException e) {
+			log.error("다른 서버에서 변경된 서비스 검색 색인을 다시 만들지 못했습니다.", e);
+		}
+	}
+
+	private synchronized void apply(IndexedSubItem document) {
+		unindex(document.id());
+		index(document);
+
+		applicationEventPublisher.publishEvent(new SubItemCatalogChangedEvent());
+	}
+
+	private synchronized void applyRemove(Long subItemId) {
+		if (unindex(subItemId)) {
+			applicationEventPublisher.publishEvent(new SubItemCatalogChangedEvent());
+		}
+	}
+
+	private synchronized void applyRenameMainItem(Long mainItemId, String mainItemName) {
+		List<IndexedSubItem> renamed = documents.values().stream()
+			.filter(document -> document.mainItemId().equals(mainItemId))
+			.map(document -> IndexedSubItem.of(document.id(), mainItemId, mainItemName, document.name(),
+				document.description()))
+			.toList();
+
+		for (IndexedSubItem document : renamed) {
+			unindex(document.id());
+			index(document);
+		}
+
+		applicationEventPublisher.publishEvent(new SubItemCatalogChangedEvent());
+	}
+
+	private synchronized void applyRemoveAllByMainItemId(Long mainItemId) {
+		List<Long> subItemIds = documents.values().stream()
+			.filter(document -> document.mainItemId().equals(mainItemId))
+			.map(IndexedSubItem::id)
+			.toList();
+
+		subItemIds.forEach(this::unindex);
+
+		applicationEventPublisher.publishEvent(new SubItemCatalogChangedEvent());
+	}
+
+	public Set<String> findAllNames() {
+		Set<String> names = new LinkedHashSet<>();
+		for (IndexedSubItem document : documents.values()) {
+			names.add(document.name());
+			names.add(document.mainItemName());
+		}
+
+		return names;
+	}
+
+	public List<SubItemResponse> search(String keyword) {
+		String query = HangulJamoUtils.decompose(keyword);
+		if (query.isEmpty()) {
+			return List.of();
+		}
+
+		List<SearchMatch> matches = new ArrayList<>();
+		for (Long subItemId : findCandidates(query)) {
+			IndexedSubItem document = documents.get(subItemId);
+			if (document == null) {
+				continue;
+			}
+
+			int matchRank = document.matchRank(query);
+			if (matchRank >= 0) {
+				matches.add(new SearchMatch(document, matchRank));
+			}
+		}
+
+		return matches.stream()
+			.sorted(Comparator.comparingInt(SearchMatch::matchRank)
+				.thenComparingInt(match -> match.document().normalizedName().length())
+				.thenComparingLong(match -> match.document().id()))
+			.map(match -> match.document().toResponse())
+			.toList();
+	}
+
+	private Set<Long> findCandidates(String query) {
+		int gramSize = Math.min(MAX_GRAM_SIZE, query.length());
+
+		List<Set<Long>> queryPostings = new ArrayList<>();
+		for (String gram : toGrams(query, gramSize, gramSize)) {
+			Set<Long> subItemIds = postings.get(gram);
+			if (subItemIds == null) {
+				return Set.of();
+			}
+			queryPostings.add(subItemIds);
+		}
+
+		queryPostings.sort(Comparator.comparingInt(Set::size));
+
+		Set<Long> candidates = new HashSet<>(queryPostings.get(0));
+		for (int i = 1; i < queryPostings.size() && !candidates.isEmpty(); i++) {
+			candidates.retainAll(queryPostings.get(i));
+		}
+
+		return candidates;
+	}
+
+	private void afterCommit(Runnable mutation) {
+		Runnable mutationAndPublish = () -> {
+			mutation.run();
+			publishChange();
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			mutationAndPublish.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					mutationAndPublish.run();
+				}
+			}
+		});
+	}
+
+	private void publishChange() {
+		try {
+			cacheRedisTemplate.convertAndSend(CHANGED_CHANNEL, "");
+		} catch (DataAccessException e) {
+			log.error("서비스 검색 색인 변경을 다른 서버로 전파하지 못했습니다.", e);
+		}
+	}
+
+	private boolean unindex(Long subItemId) {
+		IndexedSubItem removed = documents.remove(subItemId);
+		if (removed == null) {
+			return false;
+		}
+
+		for (String gram : removed.grams()) {
+			postings.computeIfPresent(gram, (key, subItemIds) -> {
+				subItemIds.remove(subItemId);
+				return subItemIds.isEmpty() ? null : subItemIds;
+			});
+		}
+
+		return true;
+	}
+
+	private void index(IndexedSubItem document) {
+		documents.put(document.id(), document);
+
+		for (String gram : document.grams()) {
+			postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+		}
+	}
+
+	private static Set<String> toGrams(String text, int minGramSize, int maxGramSize) {
+		Set<String> grams = new HashSet<>();
+
+		for (int gramSize = minGramSize; gramSize <= maxGramSize; gramSize++) {
+			for (int begin = 0; begin + gramSize <= text.length(); begin++) {
+				grams.add(text.substring(begin, begin + gramSize));
+			}
+		}
+
+		return grams;
+	}
+
+	private record IndexedSubItem(
+		Long id,
+		Long mainItemId,
+		String mainItemName,
+		String name,
+		String description,
+		String normalizedName,
+		String normalizedMainItemName
+	) {
+
+		static IndexedSubItem of(SubItem subItem) {
+			return of(subItem.getId(), subItem.getMainItem().getId(), subItem.getMainItem().getName(),
+				subItem.getName(), subItem.getDescription());
+		}
+
+		static IndexedSubItem of(Long id, Long mainItemId, String mainItemName, String name, String description) {
+			return new IndexedSubItem(id, mainItemId, mainItemName, name, description,
+				HangulJamoUtils.decompose(name), HangulJamoUtils.decompose(mainItemName));
+		}
+
+		Set<String> grams() {
+			Set<String> grams = toGrams(normalizedName, 1, MAX_GRAM_SIZE);
+			grams.addAll(toGrams(normalizedMainItemName, 1, MAX_GRAM_SIZE));
+
+			return grams;
+		}
+
+		int matchRank(String query) {
+			if (normalizedName.equals(query)) {
+				return EXACT_NAME_MATCH;
+			}
+			if (normalizedName.startsWith(query)) {
+				return NAME_PREFIX_MATCH;
+			}
+			if (normalizedName.contains(query)) {
+				return NAME_MATCH;
+			}
+			if (normalizedMainItemName.contains(query)) {
+				return MAIN_ITEM_NAME_MATCH;
+			}
+
+			return -1;
+		}
+
+		SubItemResponse toResponse() {
+			return new SubItemResponse(id, mainItemName, name, description);
+		}
+	}
+
+	private record SearchMatch(IndexedSubItem document, int matchRank) {
+	}
+}
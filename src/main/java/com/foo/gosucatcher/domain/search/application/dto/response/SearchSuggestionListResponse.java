@@ -0,0 +1,18 @@
+package com.foo.gosucatcher.domain.search.application.dto.response;
+
+import java.util.List;
+
+import com.foo.gosucatcher.domain.search.domain.SuggestionTrie;
+
+public record SearchSuggestionListResponse(
+	List<SearchSuggestionResponse> suggestionList
+) {
+
+	public static SearchSuggestionListResponse from(List<SuggestionTrie.Suggestion> suggestions) {
+		List<SearchSuggestionResponse> suggestionResponses = suggestions.stream()
+			.map(SearchSuggestionResponse::from)
+			.toList();
+
+		return new SearchSuggestionListResponse(suggestionResponses);
+	}
+}
@@ -0,0 +1,13 @@
+package com.foo.gosucatcher.domain.search.application.dto.response;
+
+import com.foo.gosucatcher.domain.search.domain.SuggestionTrie;
+
+public record SearchSuggestionResponse(
+	String keyword,
+	long weight
+) {
+
+	public static SearchSuggestionResponse from(SuggestionTrie.Suggestion suggestion) {
+		return new SearchSuggestionResponse(suggestion.keyword(), suggestion.weight());
+	}
+}
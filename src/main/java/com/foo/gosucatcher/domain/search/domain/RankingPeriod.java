@@ -0,0 +1,22 @@
+package com.foo.gosucatcher.domain.search.domain;
+
+public enum RankingPeriod {
+	HOUR(1),
+	DAY(24),
+	WEEK(24 * 7),
+	ALL(0);
+
+	private final int hourlyBucketCount;
+
+	RankingPeriod(int hourlyBucketCount) {
+		this.hourlyBucketCount = hourlyBucketCount;
+	}
+
+	public boolean isTotal() {
+		return this == ALL;
+	}
+
+	public int getHourlyBucketCount() {
+		return hourlyBucketCount;
+	}
+}
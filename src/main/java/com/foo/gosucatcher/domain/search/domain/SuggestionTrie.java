@@ -0,0 +1,119 @@
+package com.foo.gosucatcher.domain.search.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.foo.gosucatcher.global.util.HangulJamoUtils;
+
+public final class SuggestionTrie {
+
+	private static final Comparator<Suggestion> BY_WEIGHT = Comparator.comparingLong(Suggestion::weight)
+		.reversed()
+		.thenComparing(Suggestion::keyword);
+
+	private static final SuggestionTrie EMPTY = new SuggestionTrie(new Node(new char[0], new Node[0], new Suggestion[0]), 0);
+
+	private final Node root;
+	private final int maximumSuggestionSize;
+
+	private SuggestionTrie(Node root, int maximumSuggestionSize) {
+		this.root = root;
+		this.maximumSuggestionSize = maximumSuggestionSize;
+	}
+
+	public static SuggestionTrie empty() {
+		return EMPTY;
+	}
+
+	public static SuggestionTrie build(Map<String, Long> weightedKeywords, int maximumSuggestionSize) {
+		MutableNode mutableRoot = new MutableNode();
+
+		weightedKeywords.forEach((keyword, weight) -> {
+			String path = HangulJamoUtils.decompose(keyword);
+			if (path.isEmpty()) {
+				return;
+			}
+
+			MutableNode node = mutableRoot;
+			for (char character : path.toCharArray()) {
+				node = node.children.computeIfAbsent(character, key -> new MutableNode());
+			}
+			node.suggestions.add(new Suggestion(keyword, weight));
+		});
+
+		return new SuggestionTrie(mutableRoot.freeze(maximumSuggestionSize), maximumSuggestionSize);
+	}
+
+	public List<Suggestion> suggest(String prefix, int size) {
+		String path = HangulJamoUtils.decompose(prefix);
+		if (path.isEmpty()) {
+			return List.of();
+		}
+
+		Node node = root;
+		for (int i = 0; i < path.length() && node != null; i++) {
+			node = node.child(path.charAt(i));
+		}
+
+		if (node == null) {
+			return List.of();
+		}
+
+		int limit = Math.min(Math.min(size, maximumSuggestionSize), node.topSuggestions.length);
+
+		return Arrays.asList(node.topSuggestions).subList(0, Math.max(limit, 0));
+	}
+
+	public record Suggestion(String keyword, long weight) {
+	}
+
+	private static final class Node {
+
+		private final char[] labels;
+		private final Node[] children;
+		private final Suggestion[] topSuggestions;
+
+		private Node(char[] labels, Node[] children, Suggestion[] topSuggestions) {
+			this.labels = labels;
+			this.children = children;
+			this.topSuggestions = topSuggestions;
+		}
+
+		private Node child(char label) {
+			int index = Arrays.binarySearch(labels, label);
+
+			return index < 0 ? null : children[index];
+		}
+	}
+
+	private static final class MutableNode {
+
+		private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+		private final List<Suggestion> suggestions = new ArrayList<>();
+
+		private Node freeze(int maximumSuggestionSize) {
+			char[] labels = new char[children.size()];
+			Node[] frozenChildren = new Node[children.size()];
+			List<Suggestion> candidates = new ArrayList<>(suggestions);
+
+			int index = 0;
+			for (Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+				labels[index] = entry.getKey();
+				frozenChildren[index] = entry.getValue().freeze(maximumSuggestionSize);
+				candidates.addAll(Arrays.asList(frozenChildren[index].topSuggestions));
+				index++;
+			}
+
+			Suggestion[] topSuggestions = candidates.stream()
+				.sorted(BY_WEIGHT)
+				.limit(maximumSuggestionSize)
+				.toArray(Suggestion[]::new);
+
+			return new Node(labels, frozenChildren, topSuggestions);
+		}
+	}
+}
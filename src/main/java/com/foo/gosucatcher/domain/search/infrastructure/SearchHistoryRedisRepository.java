@@ -0,0 +1,64 @@
+package com.foo.gosucatcher.domain.search.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class SearchHistoryRedisRepository {
+
+	private static final String SEARCH_KEY = "search::";
+	private static final String POPULAR_KEYWORDS_KEY = "popular_keywords";
+	private static final RedisScript<Long> RECORD_SEARCH_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/record-search.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisSerializer<String> keywordSerializer;
+
+	@SuppressWarnings("unchecked")
+	public SearchHistoryRedisRepository(@Qualifier("searchRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+		this.keywordSerializer = (RedisSerializer<String>)redisTemplate.getValueSerializer();
+	}
+
+	@Async("searchTaskExecutor")
+	public void record(Long memberId, String keyword, int maximumSavedValue) {
+		List<String> keys = List.of(
+			SEARCH_KEY + memberId,
+			SearchRankingRedisRepository.TOTAL_RANKING_KEY,
+			SearchRankingRedisRepository.hourlyKey(Instant.now()),
+			POPULAR_KEYWORDS_KEY
+		);
+
+		redisTemplate.execute(RECORD_SEARCH_SCRIPT, RedisSerializer.byteArray(),
+			new GenericToStringSerializer<>(Long.class), keys,
+			keywordSerializer.serialize(keyword),
+			toBytes(maximumSavedValue),
+			toBytes(SearchRankingRedisRepository.HOURLY_BUCKET_TTL.toSeconds()));
+	}
+
+	public List<String> findRecentKeywords(Long memberId) {
+		List<String> keywords = redisTemplate.opsForList().range(SEARCH_KEY + memberId, 0, -1);
+		if (keywords == null) {
+			return Collections.emptyList();
+		}
+
+		Collections.reverse(keywords);
+
+		return keywords;
+	}
+
+	private byte[] toBytes(long value) {
+		return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+	}
+}
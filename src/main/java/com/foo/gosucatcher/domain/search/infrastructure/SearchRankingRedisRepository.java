@@ -0,0 +1,154 @@
+package com.foo.gosucatcher.domain.search.infrastructure;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import com.foo.gosucatcher.domain.search.domain.RankingPeriod;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+public class SearchRankingRedisRepository {
+
+	static final String TOTAL_RANKING_KEY = "search_ranking::total";
+	private static final String HOURLY_RANKING_KEY = "search_ranking::hour::";
+	private static final String WINDOW_RANKING_KEY = "search_ranking::window::";
+	private static final String LEGACY_SEARCH_COUNT_KEY = "search_count::";
+	private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH")
+		.withZone(ZoneOffset.UTC);
+	static final Duration HOURLY_BUCKET_TTL = Duration.ofDays(8);
+	private static final Duration WINDOW_TTL = Duration.ofMinutes(1);
+	private static final int SCAN_BATCH_SIZE = 500;
+	private static final RedisScript<Long> STORE_WINDOW_RANKING_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/store-window-ranking.lua"), Long.class);
+	private static final RedisScript<Long> MIGRATE_SEARCH_COUNTS_SCRIPT = RedisScript.of(
+		new ClassPathResource("scripts/migrate-search-counts.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisSerializer<String> keywordSerializer;
+
+	@SuppressWarnings("unchecked")
+	public SearchRankingRedisRepository(@Qualifier("searchRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+		this.keywordSerializer = (RedisSerializer<String>)redisTemplate.getValueSerializer();
+	}
+
+	public List<String> findTopKeywords(RankingPeriod period, int size) {
+		if (period.isTotal()) {
+			return toList(redisTemplate.opsForZSet().reverseRange(TOTAL_RANKING_KEY, 0, size - 1));
+		}
+
+		Instant now = Instant.now();
+		List<String> hourlyKeys = new ArrayList<>();
+		for (int hour = 0; hour < period.getHourlyBucketCount(); hour++) {
+			hourlyKeys.add(hourlyKey(now.minus(hour, ChronoUnit.HOURS)));
+		}
+
+		if (hourlyKeys.size() == 1) {
+			return toList(redisTemplate.opsForZSet().reverseRange(hourlyKeys.get(0), 0, size - 1));
+		}
+
+		String windowKey = WINDOW_RANKING_KEY + period.name() + "::" + HOUR_FORMATTER.format(now);
+		List<String> keys = new ArrayList<>();
+		keys.add(windowKey);
+		keys.addAll(hourlyKeys);
+
+		redisTemplate.execute(STORE_WINDOW_RANKING_SCRIPT, RedisSerializer.string(),
+			new GenericToStringSerializer<>(Long.class), keys, String.valueOf(WINDOW_TTL.toMillis()));
+
+		return toList(redisTemplate.opsForZSet().reverseRange(windowKey, 0, size - 1));
+	}
+
+	public Map<String, Long> findTopKeywordsWithScores(int size) {
+		Set<ZSetOperations.TypedTuple<String>> rankings = redisTemplate.opsForZSet()
+			.reverseRangeWithScores(TOTAL_RANKING_KEY, 0, size - 1);
+
+		Map<String, Long> keywordScores = new LinkedHashMap<>();
+		if (rankings == null) {
+			return keywordScores;
+		}
+
+		for (ZSetOperations.TypedTuple<String> ranking : rankings) {
+			if (ranking.getValue() != null && ranking.getScore() != null) {
+				keywordScores.put(ranking.getValue(), ranking.getScore().longValue());
+			}
+		}
+
+		return keywordScores;
+	}
+
+	public long migrateLegacySearchCounts() {
+		List<String> legacyKeys = scanLegacyKeys();
+
+		long migrated = 0;
+		for (int from = 0; from < legacyKeys.size(); from += SCAN_BATCH_SIZE) {
+			List<String> batch = legacyKeys.subList(from, Math.min(from + SCAN_BATCH_SIZE, legacyKeys.size()));
+
+			List<String> keys = new ArrayList<>();
+			keys.add(TOTAL_RANKING_KEY);
+			keys.addAll(batch);
+
+			Object[] keywords = batch.stream()
+				.map(key -> keywordSerializer.serialize(key.substring(LEGACY_SEARCH_COUNT_KEY.length())))
+				.toArray();
+
+			Long migratedInBatch = redisTemplate.execute(MIGRATE_SEARCH_COUNTS_SCRIPT, RedisSerializer.byteArray(),
+				new GenericToStringSerializer<>(Long.class), keys, keywords);
+			migrated += migratedInBatch == null ? 0 : migratedInBatch;
+		}
+
+		if (migrated > 0) {
+			log.info("search_count 키 {}개를 인기 검색어 랭킹으로 이전했습니다.", migrated);
+		}
+
+		return migrated;
+	}
+
+	private List<String> scanLegacyKeys() {
+		ScanOptions scanOptions = ScanOptions.scanOptions()
+			.match(LEGACY_SEARCH_COUNT_KEY + "*")
+			.count(SCAN_BATCH_SIZE)
+			.build();
+
+		List<String> legacyKeys = redisTemplate.execute((RedisCallback<List<String>>)connection -> {
+			List<String> keys = new ArrayList<>();
+			try (Cursor<byte[]> cursor = connection.scan(scanOptions)) {
+				cursor.forEachRemaining(key -> keys.add(redisTemplate.getStringSerializer().deserialize(key)));
+			}
+
+			return keys;
+		});
+
+		return legacyKeys == null ? Collections.emptyList() : legacyKeys;
+	}
+
+	static String hourlyKey(Instant instant) {
+		return HOURLY_RANKING_KEY + HOUR_FORMATTER.format(instant);
+	}
+
+	private List<String> toList(Set<String> keywords) {
+		return keywords == null ? Collections.emptyList() : new ArrayList<>(keywords);
+	}
+}
@@ -9,8 +9,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
 import com.foo.gosucatcher.domain.search.application.SearchService;
+import com.foo.gosucatcher.domain.search.application.SearchSuggestionService;
 import com.foo.gosucatcher.domain.search.application.dto.response.SearchListResponse;
 import com.foo.gosucatcher.domain.search.application.dto.response.SearchRankingListResponse;
+import com.foo.gosucatcher.domain.search.application.dto.response.SearchSuggestionListResponse;
+import com.foo.gosucatcher.domain.search.domain.RankingPeriod;
 import com.foo.gosucatcher.global.aop.CurrentMemberId;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class SearchController {
 
 	private final SearchService searchService;
+	private final SearchSuggestionService searchSuggestionService;
 
 	@Operation(summary = "검색어 입력", description = "검색어 입력시, 최근 검색어/인기 검색어에 카운팅 됩니다.")
 	@PostMapping
@@ -45,11 +49,20 @@ public class SearchController {
 		return ResponseEntity.ok(searchList);
 	}
 
-	@Operation(summary = "사이트내 인기 검색어 조회",description = "사이트내 인기 검색어가 조회 됩니다.")
+	@Operation(summary = "사이트내 인기 검색어 조회",description = "사이트내 인기 검색어가 조회 됩니다. 기간(HOUR/DAY/WEEK/ALL)별로 조회할 수 있습니다.")
 	@GetMapping("/popularity")
-	public ResponseEntity<SearchRankingListResponse> getPopularSearchList() {
-		SearchRankingListResponse popularKeywords = searchService.getPopularKeywords();
+	public ResponseEntity<SearchRankingListResponse> getPopularSearchList(@Parameter(description = "집계 기간", example = "DAY") @RequestParam(defaultValue = "ALL") RankingPeriod period) {
+		SearchRankingListResponse popularKeywords = searchService.getPopularKeywords(period);
 
 		return ResponseEntity.ok(popularKeywords);
 	}
+
+	@Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 서비스명/인기 검색어를 가중치 순으로 조회합니다.")
+	@GetMapping("/suggest")
+	public ResponseEntity<SearchSuggestionListResponse> suggest(@Parameter(description = "입력 중인 검색어", required = true, example = "청소") @RequestParam String keyword,
+																@Parameter(description = "최대 추천 개수", example = "10") @RequestParam(defaultValue = "10") int size) {
+		SearchSuggestionListResponse suggestions = searchSuggestionService.suggest(keyword, size);
+
+		return ResponseEntity.ok(suggestions);
+	}
 }
@@ -0,0 +1,257 @@
+package com.foo.gosucatcher.domain.sms.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SmsDispatcher {
+
+	private static final int QUEUE_CAPACITY = 1_000;
+	private static final int BATCH_SIZE = 100;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final int DEAD_LETTER_CAPACITY = 100;
+	private static final long POLL_INTERVAL_MILLIS = 1_000;
+	private static final Duration SEND_COOLDOWN = Duration.ofSeconds(30);
+	private static final Duration MIN_SEND_INTERVAL = Duration.ofMillis(100);
+	private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+	private final SmsSender smsSender;
+	private final TaskExecutor smsTaskExecutor;
+	private final Semaphore worker = new Semaphore(1);
+	private final Duration minSendInterval;
+	private final Duration retryBackoff;
+
+	private final BlockingQueue<SmsDelivery> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private final DelayQueue<SmsDelivery> retryQueue = new DelayQueue<>();
+	private final LinkedBlockingDeque<SmsMessage> deadLetters = new LinkedBlockingDeque<>(DEAD_LETTER_CAPACITY);
+	private final Cache<String, Boolean> recentDestinations;
+	private long lastSentAtNanos;
+
+	private final Counter sentCounter;
+	private final Counter retriedCounter;
+	private final Counter deadLetteredCounter;
+	private final Counter throttledCounter;
+	private final Counter rejectedCounter;
+	private final Timer batchTimer;
+
+	@Autowired
+	public SmsDispatcher(SmsSender smsSender, @Qualifier("smsTaskExecutor") TaskExecutor smsTaskExecutor,
+		MeterRegistry meterRegistry) {
+		this(smsSender, smsTaskExecutor, meterRegistry, MIN_SEND_INTERVAL, RETRY_BACKOFF);
+	}
+
+	SmsDispatcher(SmsSender smsSender, TaskExecutor smsTaskExecutor, MeterRegistry meterRegistry,
+		Duration minSendInterval, Duration retryBackoff) {
+		this.smsSender = smsSender;
+		this.smsTaskExecutor = smsTaskExecutor;
+		this.minSendInterval = minSendInterval;
+		this.retryBackoff = retryBackoff;
+		this.recentDestinations = Caffeine.newBuilder()
+			.expireAfterWrite(SEND_COOLDOWN)
+			.build();
+
+		Gauge.builder("sms.dispatch.pending", this, dispatcher -> dispatcher.queue.size() + dispatcher.retryQueue.size())
+			.description("발송 대기 중인 SMS 수")
+			.register(meterRegistry);
+		Gauge.builder("sms.dispatch.dead_letters", deadLetters, LinkedBlockingDeque::size)
+			.description("최종 발송에 실패해 보관 중인 SMS 수")
+			.register(meterRegistry);
+		this.sentCounter = meterRegistry.counter("sms.dispatch.sent");
+		this.retriedCounter = meterRegistry.counter("sms.dispatch.retried");
+		this.deadLetteredCounter = meterRegistry.counter("sms.dispatch.dead_lettered");
+		this.throttledCounter = meterRegistry.counter("sms.dispatch.throttled");
+		this.rejectedCounter = meterRegistry.counter("sms.dispatch.rejected");
+		this.batchTimer = Timer.builder("sms.dispatch.batch")
+			.description("SMS 일괄 발송 요청에 걸린 시간")
+			.register(meterRegistry);
+	}
+
+	public void enqueue(SmsMessage smsMessage) {
+		enqueue(smsMessage, () -> {
+		});
+	}
+
+	public void enqueue(SmsMessage smsMessage, Runnable beforeQueued) {
+		String destination = smsMessage.to();
+		if (recentDestinations.asMap().putIfAbsent(destination, Boolean.TRUE) != null) {
+			throttledCounter.increment();
+			throw new BusinessException(ErrorCode.TOO_MANY_SMS_REQUESTS);
+		}
+
+		try {
+			beforeQueued.run();
+		} catch (RuntimeException e) {
+			recentDestinations.invalidate(destination);
+			throw e;
+		}
+
+		if (!queue.offer(new SmsDelivery(smsMessage))) {
+			recentDestinations.invalidate(destination);
+			rejectedCounter.increment();
+			throw new BusinessException(ErrorCode.SMS_QUEUE_FULL);
+		}
+
+		requestDrain();
+	}
+
+	@Scheduled(fixedDelay = POLL_INTERVAL_MILLIS)
+	public void poll() {
+		if (queue.isEmpty() && retryQueue.peek() == null) {
+			return;
+		}
+
+		requestDrain();
+	}
+
+	public void requestDrain() {
+		if (!worker.tryAcquire()) {
+			return;
+		}
+
+		try {
+			smsTaskExecutor.execute(() -> {
+				try {
+					drain();
+				} finally {
+					worker.release();
+				}
+			});
+		} catch (TaskRejectedException e) {
+			worker.release();
+			log.warn("SMS 발송 작업을 시작하지 못해 다음 폴링에서 발송합니다.");
+		}
+	}
+
+	void drain() {
+		while (true) {
+			List<SmsDelivery> batch = new ArrayList<>(BATCH_SIZE);
+			retryQueue.drainTo(batch, BATCH_SIZE);
+			queue.drainTo(batch, BATCH_SIZE - batch.size());
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			awaitSendInterval();
+			send(batch);
+		}
+	}
+
+	private void awaitSendInterval() {
+		long waitNanos = lastSentAtNanos + minSendInterval.toNanos() - System.nanoTime();
+		if (lastSentAtNanos != 0 && waitNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		lastSentAtNanos = System.nanoTime();
+	}
+
+	private void send(List<SmsDelivery> batch) {
+		List<SmsMessage> messages = batch.stream()
+			.map(SmsDelivery::getMessage)
+			.toList();
+
+		Set<SmsMessage> failedMessages;
+		try {
+			failedMessages = new HashSet<>(batchTimer.record(() -> smsSender.send(messages)));
+		} catch (RuntimeException e) {
+			log.warn("SMS 일괄 발송 중 오류가 발생했습니다. {}", e.getMessage());
+			failedMessages = new HashSet<>(messages);
+		}
+
+		for (SmsDelivery delivery : batch) {
+			if (failedMessages.contains(delivery.getMessage())) {
+				markFailed(delivery);
+			} else {
+				sentCounter.increment();
+			}
+		}
+	}
+
+	private void markFailed(SmsDelivery delivery) {
+		delivery.attemptCount++;
+		if (delivery.attemptCount >= MAX_ATTEMPTS) {
+			deadLetteredCounter.increment();
+			while (!deadLetters.offerLast(delivery.getMessage())) {
+				deadLetters.pollFirst();
+			}
+			log.error("SMS 발송에 최종 실패했습니다. 수신자: {}, 시도 횟수: {}", delivery.getMessage().to(),
+				delivery.attemptCount);
+			return;
+		}
+
+		retriedCounter.increment();
+		delivery.nextAttemptAtNanos = System.nanoTime() + retryBackoff.toNanos() * (1L << (delivery.attemptCount - 1));
+		retryQueue.add(delivery);
+	}
+
+	public List<SmsMessage> getDeadLetters() {
+		return List.copyOf(deadLetters);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		int remaining = queue.size() + retryQueue.size();
+		if (remaining > 0) {
+			log.warn("발송하지 못한 SMS {}건이 남아 있는 상태로 종료합니다.", remaining);
+		}
+	}
+
+	private static class SmsDelivery implements Delayed {
+
+		private final SmsMessage message;
+		private int attemptCount;
+		private long nextAttemptAtNanos;
+
+		private SmsDelivery(SmsMessage message) {
+			this.message = message;
+		}
+
+		private SmsMessage getMessage() {
+			return message;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(nextAttemptAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+}
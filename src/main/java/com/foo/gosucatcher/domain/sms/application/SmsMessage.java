@@ -0,0 +1,7 @@
+package com.foo.gosucatcher.domain.sms.application;
+
+public record SmsMessage(
+	String to,
+	String text
+) {
+}
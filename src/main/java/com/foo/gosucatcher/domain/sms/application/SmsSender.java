@@ -0,0 +1,11 @@
+package com.foo.gosucatcher.domain.sms.application;
+
+import java.util.List;
+
+public interface SmsSender {
+
+	/**
+	 * 메시지를 한 번의 요청으로 발송하고 발송에 실패한 메시지를 반환한다.
+	 */
+	List<SmsMessage> send(List<SmsMessage> messages);
+}
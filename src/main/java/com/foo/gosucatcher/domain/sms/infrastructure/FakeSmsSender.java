@@ -0,0 +1,33 @@
+package com.foo.gosucatcher.domain.sms.infrastructure;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.foo.gosucatcher.domain.sms.application.SmsMessage;
+import com.foo.gosucatcher.domain.sms.application.SmsSender;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sms", name = "provider", havingValue = "fake")
+public class FakeSmsSender implements SmsSender {
+
+	private final AtomicLong sentCount = new AtomicLong();
+
+	@Override
+	public List<SmsMessage> send(List<SmsMessage> messages) {
+		long totalCount = sentCount.addAndGet(messages.size());
+		log.debug("SMS {}건을 발송한 것으로 처리합니다. 누적: {}", messages.size(), totalCount);
+
+		return Collections.emptyList();
+	}
+
+	public long getSentCount() {
+		return sentCount.get();
+	}
+}
@@ -0,0 +1,80 @@
+package com.foo.gosucatcher.domain.sms.infrastructure;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.foo.gosucatcher.config.SmsAuthProperties;
+import com.foo.gosucatcher.domain.sms.application.SmsMessage;
+import com.foo.gosucatcher.domain.sms.application.SmsSender;
+
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sms", name = "provider", havingValue = "nurigo", matchIfMissing = true)
+public class NurigoSmsSender implements SmsSender {
+
+	private final DefaultMessageService messageService;
+	private final String FROM_NUMBER;
+
+	public NurigoSmsSender(SmsAuthProperties smsAuthProperties) {
+		this.messageService = NurigoApp.INSTANCE.initialize(smsAuthProperties.getApiKey(),
+			smsAuthProperties.getApiSecret(), smsAuthProperties.getDomain());
+		this.FROM_NUMBER = smsAuthProperties.getFromNumber();
+	}
+
+	@Override
+	public List<SmsMessage> send(List<SmsMessage> messages) {
+		List<Message> nurigoMessages = messages.stream()
+			.map(this::toNurigoMessage)
+			.toList();
+
+		try {
+			MultipleDetailMessageSentResponse response = messageService.send(nurigoMessages);
+
+			return filterFailed(messages, response.getFailedMessageList());
+		} catch (NurigoMessageNotReceivedException exception) {
+			return filterFailed(messages, exception.getFailedMessageList());
+		} catch (Exception exception) {
+			log.warn("SMS 발송 요청에 실패했습니다. {}", exception.getMessage());
+
+			return messages;
+		}
+	}
+
+	private Message toNurigoMessage(SmsMessage smsMessage) {
+		Message message = new Message();
+		message.setFrom(FROM_NUMBER);
+		message.setTo(smsMessage.to());
+		message.setText(smsMessage.text());
+
+		return message;
+	}
+
+	private List<SmsMessage> filterFailed(List<SmsMessage> messages, List<FailedMessage> failedMessageList) {
+		if (failedMessageList == null || failedMessageList.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		failedMessageList.forEach(failedMessage -> log.warn("SMS 발송에 실패했습니다. 수신자: {}, 사유: {}",
+			failedMessage.getTo(), failedMessage.getStatusMessage()));
+		Set<String> failedNumbers = failedMessageList.stream()
+			.map(FailedMessage::getTo)
+			.collect(Collectors.toSet());
+
+		return messages.stream()
+			.filter(message -> failedNumbers.contains(message.to()))
+			.toList();
+	}
+}
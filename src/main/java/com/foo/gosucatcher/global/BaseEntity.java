@@ -2,6 +2,7 @@ package com.foo.gosucatcher.global;
 
 import java.time.LocalDateTime;
 
+import javax.persistence.Column;
 import javax.persistence.EntityListeners;
 import javax.persistence.MappedSuperclass;
 
@@ -20,5 +21,6 @@ public abstract class BaseEntity {
 	private LocalDateTime createdAt;
 
 	@LastModifiedDate
+	@Column(name = "updated_at")
 	private LocalDateTime updatedAt;
 }
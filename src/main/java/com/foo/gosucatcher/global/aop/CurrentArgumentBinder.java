@@ -0,0 +1,77 @@
+package com.foo.gosucatcher.global.aop;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+
+class CurrentArgumentBinder {
+
+	private static final int NOT_FOUND = -1;
+	private static final Set<Class<? extends Annotation>> REQUEST_BINDING_ANNOTATIONS = Set.of(
+		PathVariable.class, RequestParam.class, RequestBody.class, RequestPart.class, RequestHeader.class,
+		ModelAttribute.class);
+
+	private final Class<?> argumentType;
+	private final Map<Method, Integer> argumentIndexes = new ConcurrentHashMap<>();
+
+	CurrentArgumentBinder(Class<?> argumentType) {
+		this.argumentType = argumentType;
+	}
+
+	Object[] bind(ProceedingJoinPoint proceedingJoinPoint, Object value) {
+		Method method = ((MethodSignature)proceedingJoinPoint.getSignature()).getMethod();
+		int argumentIndex = argumentIndexOf(method);
+
+		Object[] args = proceedingJoinPoint.getArgs();
+		if (argumentIndex != NOT_FOUND) {
+			args[argumentIndex] = value;
+		}
+
+		return args;
+	}
+
+	int argumentIndexOf(Method method) {
+		return argumentIndexes.computeIfAbsent(method, this::findArgumentIndex);
+	}
+
+	int findArgumentIndex(Method method) {
+		Parameter[] parameters = method.getParameters();
+
+		int firstMatchedIndex = NOT_FOUND;
+		for (int i = 0; i < parameters.length; i++) {
+			if (!parameters[i].getType().equals(argumentType)) {
+				continue;
+			}
+			if (!isBoundFromRequest(parameters[i])) {
+				return i;
+			}
+			if (firstMatchedIndex == NOT_FOUND) {
+				firstMatchedIndex = i;
+			}
+		}
+
+		return firstMatchedIndex;
+	}
+
+	private boolean isBoundFromRequest(Parameter parameter) {
+		for (Annotation annotation : parameter.getAnnotations()) {
+			if (REQUEST_BINDING_ANNOTATIONS.contains(annotation.annotationType())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -29,6 +29,8 @@ public enum ErrorCode {
 	INVALID_MAX_TRAVEL_DISTANCE("E003", "최대 이동거리는 0 이상이어야 합니다."),
 	ALREADY_REGISTERED_BY_SUB_ITEM("E004", "해당 서비스로는 이미 등록되어있습니다."),
 	NOT_FOUND_EXPERT_SORT_TYPE("E005", "존재하지 않는 고수 찾기 정렬 타입입니다."),
+	NOT_FOUND_LOCATION_COORDINATE("E006", "좌표를 찾을 수 없는 지역입니다."),
+	INVALID_EXPERT_CURSOR("E007", "유효하지 않은 고수 찾기 커서입니다."),
 
 	//리뷰
 	NOT_FOUND_REVIEW("R001", "존재하지 않는 리뷰입니다"),
@@ -49,6 +51,9 @@ public enum ErrorCode {
 	INVALID_AUTH("M008", "유효하지 않은 인증입니다."),
 	NOT_CREATION_AUTH_MESSAGE("M009", "인증 메시지를 생성할 수 없습니다."),
 	EXPIRED_AUTHENTICATION("M010", "만료된 회원인증입니다."),
+	TOO_MANY_SMS_REQUESTS("M011", "잠시 후 다시 인증번호를 요청해주세요."),
+	SMS_QUEUE_FULL("M012", "인증번호 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+	TOO_MANY_AUTH_ATTEMPTS("M013", "인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요."),
 
 	//파일
 	NOT_FOUND_IMAGE("F001", "존재하지 않는 이미지 입니다."),
@@ -79,9 +84,11 @@ public enum ErrorCode {
 	//채팅방
 	NOT_FOUND_CHATTING_ROOM("CR001", "채팅방이 존재하지 않습니다."),
 	CHATTING_ROOM_ASSIGNMENT_FAILED("CR002", "채팅방 할당에 실패했습니다."),
+	NOT_CHATTING_ROOM_PARTICIPANT("CR003", "채팅방에 참여하지 않은 회원입니다."),
 
 	//채팅 메시지
 	NOT_FOUND_MESSAGE("CM001", "채팅 메시지가 존재하지 않습니다."),
+	CHAT_MESSAGE_BUFFER_FULL("CM002", "메시지 전송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
 	//JWT
 	MALFORMED_JWT("JT001", "유효한 Jws의 형태가 아닙니다."),
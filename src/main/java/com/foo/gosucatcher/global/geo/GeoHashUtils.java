@@ -0,0 +1,116 @@
+package com.foo.gosucatcher.global.geo;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class GeoHashUtils {
+
+	private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+	private static final double KM_PER_LATITUDE_DEGREE = 111.32;
+
+	public static String encode(GeoPoint point, int precision) {
+		double minLatitude = -90, maxLatitude = 90;
+		double minLongitude = -180, maxLongitude = 180;
+
+		StringBuilder geoHash = new StringBuilder(precision);
+		boolean isLongitudeBit = true;
+		int bit = 0;
+		int character = 0;
+
+		while (geoHash.length() < precision) {
+			if (isLongitudeBit) {
+				double middle = (minLongitude + maxLongitude) / 2;
+				if (point.getLongitude() >= middle) {
+					character = (character << 1) | 1;
+					minLongitude = middle;
+				} else {
+					character = character << 1;
+					maxLongitude = middle;
+				}
+			} else {
+				double middle = (minLatitude + maxLatitude) / 2;
+				if (point.getLatitude() >= middle) {
+					character = (character << 1) | 1;
+					minLatitude = middle;
+				} else {
+					character = character << 1;
+					maxLatitude = middle;
+				}
+			}
+
+			isLongitudeBit = !isLongitudeBit;
+			if (++bit == 5) {
+				geoHash.append(BASE32[character]);
+				bit = 0;
+				character = 0;
+			}
+		}
+
+		return geoHash.toString();
+	}
+
+	public static long countCoveringCells(GeoPoint center, double radiusKm, int precision) {
+		double latitudeSteps = Math.ceil(2 * latitudeDelta(radiusKm) / cellHeight(precision)) + 1;
+		double longitudeSteps = Math.ceil(2 * longitudeDelta(center, radiusKm) / cellWidth(precision)) + 1;
+
+		return (long)(latitudeSteps * longitudeSteps);
+	}
+
+	public static Set<String> coveringCells(GeoPoint center, double radiusKm, int precision) {
+		double latitudeDelta = latitudeDelta(radiusKm);
+		double longitudeDelta = longitudeDelta(center, radiusKm);
+		double minLatitude = Math.max(-90, center.getLatitude() - latitudeDelta);
+		double maxLatitude = Math.min(90, center.getLatitude() + latitudeDelta);
+		double minLongitude = center.getLongitude() - longitudeDelta;
+		double maxLongitude = center.getLongitude() + longitudeDelta;
+
+		Set<String> cells = new HashSet<>();
+		for (double latitude = minLatitude; ; latitude += cellHeight(precision)) {
+			double boundedLatitude = Math.min(latitude, maxLatitude);
+
+			for (double longitude = minLongitude; ; longitude += cellWidth(precision)) {
+				double boundedLongitude = Math.min(longitude, maxLongitude);
+				cells.add(encode(GeoPoint.of(boundedLatitude, normalizeLongitude(boundedLongitude)), precision));
+
+				if (boundedLongitude >= maxLongitude) {
+					break;
+				}
+			}
+
+			if (boundedLatitude >= maxLatitude) {
+				break;
+			}
+		}
+
+		return cells;
+	}
+
+	private static double latitudeDelta(double radiusKm) {
+		return radiusKm / KM_PER_LATITUDE_DEGREE;
+	}
+
+	private static double longitudeDelta(GeoPoint center, double radiusKm) {
+		double cosine = Math.max(Math.cos(Math.toRadians(center.getLatitude())), 0.01);
+
+		return Math.min(radiusKm / (KM_PER_LATITUDE_DEGREE * cosine), 180);
+	}
+
+	private static double cellHeight(int precision) {
+		return 180 / Math.pow(2, (5 * precision) / 2);
+	}
+
+	private static double cellWidth(int precision) {
+		return 360 / Math.pow(2, (5 * precision + 1) / 2);
+	}
+
+	private static double normalizeLongitude(double longitude) {
+		if (longitude > 180) {
+			return longitude - 360;
+		}
+		if (longitude < -180) {
+			return longitude + 360;
+		}
+
+		return longitude;
+	}
+}
@@ -0,0 +1,44 @@
+package com.foo.gosucatcher.global.geo;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeoPoint {
+
+	private static final double EARTH_RADIUS_KM = 6371.0088;
+
+	@Column(name = "latitude")
+	private Double latitude;
+
+	@Column(name = "longitude")
+	private Double longitude;
+
+	private GeoPoint(double latitude, double longitude) {
+		this.latitude = latitude;
+		this.longitude = longitude;
+	}
+
+	public static GeoPoint of(double latitude, double longitude) {
+		return new GeoPoint(latitude, longitude);
+	}
+
+	public double distanceKmTo(GeoPoint other) {
+		double latitudeDistance = Math.toRadians(other.latitude - latitude);
+		double longitudeDistance = Math.toRadians(other.longitude - longitude);
+
+		double haversine = Math.pow(Math.sin(latitudeDistance / 2), 2)
+			+ Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+			* Math.pow(Math.sin(longitudeDistance / 2), 2);
+
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(haversine));
+	}
+}
@@ -0,0 +1,81 @@
+package com.foo.gosucatcher.global.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class LocationGeocoder {
+
+	private static final String LOCATION_TABLE_PATH = "geo/locations.csv";
+	private static final String DELIMITER = ",";
+
+	private static final Map<String, String> REGION_ALIASES = Map.ofEntries(
+		Map.entry("서울", "서울특별시"), Map.entry("서울시", "서울특별시"),
+		Map.entry("부산", "부산광역시"), Map.entry("부산시", "부산광역시"),
+		Map.entry("대구", "대구광역시"), Map.entry("대구시", "대구광역시"),
+		Map.entry("인천", "인천광역시"), Map.entry("인천시", "인천광역시"),
+		Map.entry("광주", "광주광역시"), Map.entry("광주시", "광주광역시"),
+		Map.entry("대전", "대전광역시"), Map.entry("대전시", "대전광역시"),
+		Map.entry("울산", "울산광역시"), Map.entry("울산시", "울산광역시"),
+		Map.entry("세종", "세종특별자치시"), Map.entry("세종시", "세종특별자치시"),
+		Map.entry("경기", "경기도"), Map.entry("강원", "강원도"), Map.entry("강원특별자치도", "강원도"),
+		Map.entry("충북", "충청북도"), Map.entry("충남", "충청남도"),
+		Map.entry("전북", "전라북도"), Map.entry("전북특별자치도", "전라북도"), Map.entry("전남", "전라남도"),
+		Map.entry("경북", "경상북도"), Map.entry("경남", "경상남도"),
+		Map.entry("제주", "제주특별자치도"), Map.entry("제주도", "제주특별자치도")
+	);
+
+	private final Map<String, GeoPoint> coordinates;
+
+	public LocationGeocoder() {
+		this.coordinates = loadLocationTable();
+	}
+
+	public Optional<GeoPoint> geocode(String location) {
+		if (location == null || location.isBlank()) {
+			return Optional.empty();
+		}
+
+		String[] tokens = location.trim().split("\\s+");
+		tokens[0] = REGION_ALIASES.getOrDefault(tokens[0], tokens[0]);
+
+		for (int length = tokens.length; length > 0; length--) {
+			GeoPoint point = coordinates.get(String.join(" ", Arrays.copyOf(tokens, length)));
+			if (point != null) {
+				return Optional.of(point);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private Map<String, GeoPoint> loadLocationTable() {
+		Map<String, GeoPoint> table = new HashMap<>();
+
+		try (BufferedReader reader = new BufferedReader(
+			new InputStreamReader(new ClassPathResource(LOCATION_TABLE_PATH).getInputStream(), StandardCharsets.UTF_8))) {
+			reader.lines()
+				.skip(1)
+				.filter(line -> !line.isBlank())
+				.map(line -> line.split(DELIMITER))
+				.forEach(columns -> table.put(columns[0].trim(),
+					GeoPoint.of(Double.parseDouble(columns[1].trim()), Double.parseDouble(columns[2].trim()))));
+		} catch (IOException exception) {
+			log.warn("지역 좌표 테이블을 읽을 수 없습니다. {}", exception.getMessage());
+		}
+
+		return table;
+	}
+}
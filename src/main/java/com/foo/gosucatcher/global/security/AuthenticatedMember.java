@@ -0,0 +1,37 @@
+package com.foo.gosucatcher.global.security;
+
+import java.util.List;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.foo.gosucatcher.domain.member.exception.MemberCertifiedFailException;
+import com.foo.gosucatcher.global.error.ErrorCode;
+
+public record AuthenticatedMember(
+	Long memberId,
+	Long expertId,
+	String email,
+	String role
+) {
+
+	public static AuthenticatedMember from(CustomUserDetails userDetails) {
+		return new AuthenticatedMember(userDetails.getMember().getId(), userDetails.getExpert().getId(),
+			userDetails.getUsername(), userDetails.getMember().getRole().getRole());
+	}
+
+	public static AuthenticatedMember current() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedMember principal)) {
+			throw new MemberCertifiedFailException(ErrorCode.INVALID_TOKEN);
+		}
+
+		return principal;
+	}
+
+	public List<GrantedAuthority> getAuthorities() {
+		return List.of(new SimpleGrantedAuthority(role));
+	}
+}
@@ -33,8 +33,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			if (AuthorizationHeaderValue != null) {
 				String accessToken = jwtTokenProvider.removeBearer(AuthorizationHeaderValue);
 
-				jwtTokenProvider.checkValidAccessToken(accessToken);
-
 				Authentication authentication = jwtTokenProvider.getAccessTokenAuthentication(accessToken);
 				SecurityContextHolder.getContext().setAuthentication(authentication);
 			}
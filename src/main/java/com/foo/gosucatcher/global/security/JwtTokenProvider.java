@@ -1,13 +1,12 @@
 package com.foo.gosucatcher.global.security;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
-import java.util.Collection;
 import java.util.Date;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -20,32 +19,34 @@ import com.foo.gosucatcher.global.security.exception.JwtKeyException;
 import com.foo.gosucatcher.global.security.exception.JwtParseException;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.InvalidKeyException;
-import io.jsonwebtoken.security.SignatureException;
 
 @Component
 public class JwtTokenProvider {
 
 	private final CustomUserDetailsService customUserDetailsService;
+	private final PrincipalCache principalCache;
 
 	private final long ACCESS_TOKEN_EXPIRED_TIME;
 	private final long REFRESH_TOKEN_EXPIRED_TIME;
 	private final String ACCESS_TOKEN_SECRET_KEY;
 	private final String REFRESH_TOKEN_SECRET_KEY;
+	private final VerifiedTokenParser accessTokenParser;
+	private final VerifiedTokenParser refreshTokenParser;
 
-	public JwtTokenProvider(CustomUserDetailsService customUserDetailsService, JwtProperties jwtProperties) {
+	public JwtTokenProvider(CustomUserDetailsService customUserDetailsService, PrincipalCache principalCache,
+		JwtProperties jwtProperties) {
 		this.customUserDetailsService = customUserDetailsService;
+		this.principalCache = principalCache;
 		this.ACCESS_TOKEN_EXPIRED_TIME = Duration.ofDays(jwtProperties.getAccessTokenExpiredTime()).toMillis();
 		this.REFRESH_TOKEN_EXPIRED_TIME = Duration.ofDays(jwtProperties.getRefreshTokenExpiredTime()).toMillis();
 		this.ACCESS_TOKEN_SECRET_KEY = getTokenSecretKey(jwtProperties.getAccessTokenSecretKey());
 		this.REFRESH_TOKEN_SECRET_KEY = getTokenSecretKey(jwtProperties.getRefreshTokenSecretKey());
+		this.accessTokenParser = new VerifiedTokenParser(ACCESS_TOKEN_SECRET_KEY);
+		this.refreshTokenParser = new VerifiedTokenParser(REFRESH_TOKEN_SECRET_KEY);
 	}
 
 	public String removeBearer(String token) {
@@ -57,18 +58,17 @@ public class JwtTokenProvider {
 	}
 
 	public void checkValidAccessToken(String token) {
-		checkValidToken(token, ACCESS_TOKEN_SECRET_KEY);
+		checkValidToken(token, accessTokenParser);
 	}
 
 	public void checkValidRefreshToken(String token) {
-		checkValidToken(token, REFRESH_TOKEN_SECRET_KEY);
+		checkValidToken(token, refreshTokenParser);
 	}
 
-	private void checkValidToken(String token, String secretKey) {
-		Jws<Claims> claims = parseClaimsJws(token, secretKey);
+	private void checkValidToken(String token, VerifiedTokenParser tokenParser) {
+		Claims claims = tokenParser.parse(token);
 		try {
-			boolean isBefore = claims.getBody()
-				.getExpiration()
+			boolean isBefore = claims.getExpiration()
 				.before(new Date());
 			if (isBefore) {
 				throw new JwtExpiredException(ErrorCode.EXPIRED_JWT);
@@ -94,10 +94,7 @@ public class JwtTokenProvider {
 	
 	// 토큰에서 memberId 추출
     public Long getMemberIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(ACCESS_TOKEN_SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = accessTokenParser.parse(token);
 
         return claims.get("memberId", Long.class); // "memberId"를 Long 타입으로 가져오기
     }
@@ -116,6 +113,7 @@ public class JwtTokenProvider {
 		claims.put("memberId", memberId);
 		claims.put("memberEmail", memberEmail);
 		claims.put("expertId", expertId);
+		claims.put("role", member.getRole().getRole());
 
 		Date date = new Date();
 		try {
@@ -133,46 +131,73 @@ public class JwtTokenProvider {
 	}
 
 	public Authentication getAccessTokenAuthentication(String token) {
-		String memberEmail = parseMemberEmailByToken(token, ACCESS_TOKEN_SECRET_KEY);
-		CustomUserDetails userDetails = (CustomUserDetails)customUserDetailsService.loadUserByUsername(memberEmail);
+		Claims claims = accessTokenParser.parse(token);
+		AuthenticatedMember principal = getAuthenticatedMember(claims);
 
-		String password = userDetails.getPassword();
-		Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
+		return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+	}
+
+	private AuthenticatedMember getAuthenticatedMember(Claims claims) {
+		Long memberId = getIdClaim(claims, "memberId");
+		String memberEmail = getMemberEmail(claims);
+
+		String role = claims.get("role", String.class);
+		if (role != null && principalCache.isIssuedAfterLastChange(memberId, getIssuedAt(claims))) {
+			Long expertId = getIdClaim(claims, "expertId");
+
+			return new AuthenticatedMember(memberId, expertId, memberEmail, role);
+		}
+
+		CustomUserDetails userDetails = principalCache.get(memberId, getExpiration(claims),
+			() -> (CustomUserDetails)customUserDetailsService.loadUserByUsername(memberEmail));
+
+		return AuthenticatedMember.from(userDetails);
+	}
+
+	private Long getIdClaim(Claims claims, String claimName) {
+		Number id = claims.get(claimName, Number.class);
+		if (id == null) {
+			throw new JwtParseException(ErrorCode.EMPTY_OR_NULL_CLAIM);
+		}
 
-		return new UsernamePasswordAuthenticationToken(userDetails, password, authorities);
+		return id.longValue();
 	}
 
-	private String parseMemberEmailByToken(String token, String secretKey) {
-		Jws<Claims> claimsJws = parseClaimsJws(token, secretKey);
+	private String parseMemberEmailByToken(String token, VerifiedTokenParser tokenParser) {
+		Claims claims = tokenParser.parse(token);
+
+		return getMemberEmail(claims);
+	}
+
+	private String getMemberEmail(Claims claims) {
 		try {
-			return claimsJws.getBody()
-				.get("memberEmail")
+			return claims.get("memberEmail")
 				.toString();
 		} catch (NullPointerException e) {
 			throw new JwtParseException(ErrorCode.EMPTY_OR_NULL_JWT);
 		}
 	}
 
-	private static Jws<Claims> parseClaimsJws(String token, String secretKey) {
+	private Instant getIssuedAt(Claims claims) {
+		try {
+			return claims.getIssuedAt()
+				.toInstant();
+		} catch (NullPointerException e) {
+			throw new JwtParseException(ErrorCode.EMPTY_OR_NULL_JWT);
+		}
+	}
+
+	private Instant getExpiration(Claims claims) {
 		try {
-			return Jwts.parser()
-				.setSigningKey(secretKey)
-				.parseClaimsJws(token);
-		} catch (MalformedJwtException e) {
-			throw new JwtParseException(ErrorCode.MALFORMED_JWT);
-		} catch (ExpiredJwtException e) {
-			throw new JwtExpiredException(ErrorCode.EXPIRED_JWT);
-		} catch (UnsupportedJwtException e) {
-			throw new JwtParseException(ErrorCode.UNSUPPORTED_JWT);
-		} catch (SignatureException e) {
-			throw new JwtParseException(ErrorCode.INVALID_SIGNATURE);
-		} catch (IllegalArgumentException e) {
+			return claims.getExpiration()
+				.toInstant();
+		} catch (NullPointerException e) {
 			throw new JwtParseException(ErrorCode.EMPTY_OR_NULL_JWT);
 		}
 	}
 
 	public UserDetails getCustomUserDetailsByRefreshToken(String refreshToken) {
-		String memberEmail = parseMemberEmailByToken(refreshToken, REFRESH_TOKEN_SECRET_KEY);
+		String memberEmail = parseMemberEmailByToken(refreshToken, refreshTokenParser);
 
 		return customUserDetailsService.loadUserByUsername(memberEmail);
 	}
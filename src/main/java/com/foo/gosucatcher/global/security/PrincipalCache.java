@@ -0,0 +1,154 @@
+package com.foo.gosucatcher.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class PrincipalCache implements MeterBinder, MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "security:principal:invalidated";
+
+	private static final String VERSION_KEY = "principal_version::{%d}";
+	private static final long NO_VERSION = 0L;
+	private static final long MAXIMUM_SIZE = 10_000;
+	private static final Duration MAX_TIME_TO_LIVE = Duration.ofMinutes(10);
+	private static final Duration VERSION_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	private final RedisTemplate<String, String> cacheRedisTemplate;
+	private final Duration versionRetention;
+
+	private final Cache<Long, CachedPrincipal> principals = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfter(new CachedPrincipalExpiry())
+		.recordStats()
+		.build();
+
+	private final Cache<Long, Long> versions = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(VERSION_TIME_TO_LIVE)
+		.recordStats()
+		.build();
+
+	public PrincipalCache(@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> cacheRedisTemplate,
+		JwtProperties jwtProperties) {
+		this.cacheRedisTemplate = cacheRedisTemplate;
+		this.versionRetention = Duration.ofDays(jwtProperties.getAccessTokenExpiredTime());
+	}
+
+	public CustomUserDetails get(Long memberId, Instant tokenExpiration, Supplier<CustomUserDetails> loader) {
+		return principals.get(memberId, key -> new CachedPrincipal(loader.get(), tokenExpiration))
+			.userDetails();
+	}
+
+	public boolean isIssuedAfterLastChange(Long memberId, Instant issuedAt) {
+		Long version = versions.get(memberId, this::loadVersion);
+		if (version == null) {
+			return false;
+		}
+
+		return issuedAt.getEpochSecond() > Instant.ofEpochMilli(version).getEpochSecond();
+	}
+
+	public void invalidate(Long memberId) {
+		changeVersion(memberId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					changeVersion(memberId);
+				}
+			});
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			evictLocally(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+		} catch (NumberFormatException e) {
+			log.warn("다른 서버에서 전파된 인증 정보 무효화 메시지를 읽지 못했습니다.", e);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, principals, "security.principals");
+		CaffeineCacheMetrics.monitor(registry, versions, "security.principal.versions");
+	}
+
+	private Long loadVersion(Long memberId) {
+		try {
+			String version = cacheRedisTemplate.opsForValue().get(VERSION_KEY.formatted(memberId));
+
+			return version == null ? NO_VERSION : Long.parseLong(version);
+		} catch (DataAccessException e) {
+			log.warn("회원 인증 정보 버전을 조회하지 못해 DB에서 인증 정보를 확인합니다. 회원: {}", memberId, e);
+			return null;
+		}
+	}
+
+	private void changeVersion(Long memberId) {
+		evictLocally(memberId);
+
+		try {
+			cacheRedisTemplate.opsForValue().set(VERSION_KEY.formatted(memberId),
+				String.valueOf(System.currentTimeMillis()), versionRetention);
+			cacheRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(memberId));
+		} catch (DataAccessException e) {
+			log.error("회원 인증 정보 변경을 다른 서버로 전파하지 못했습니다. 회원: {}", memberId, e);
+		}
+	}
+
+	private void evictLocally(Long memberId) {
+		principals.invalidate(memberId);
+		versions.invalidate(memberId);
+	}
+
+	private record CachedPrincipal(CustomUserDetails userDetails, Instant tokenExpiration) {
+	}
+
+	private static class CachedPrincipalExpiry implements Expiry<Long, CachedPrincipal> {
+
+		@Override
+		public long expireAfterCreate(Long key, CachedPrincipal value, long currentTime) {
+			Duration untilTokenExpiration = Duration.between(Instant.now(), value.tokenExpiration());
+			if (untilTokenExpiration.isNegative()) {
+				return 0;
+			}
+
+			return Math.min(untilTokenExpiration.toNanos(), MAX_TIME_TO_LIVE.toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(Long key, CachedPrincipal value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Long key, CachedPrincipal value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.foo.gosucatcher.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.security.exception.JwtExpiredException;
+import com.foo.gosucatcher.global.security.exception.JwtParseException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+class VerifiedTokenParser {
+
+	private static final long MAXIMUM_SIZE = 10_000;
+
+	private final JwtParser jwtParser;
+	private final Cache<String, Claims> verifiedClaims;
+
+	VerifiedTokenParser(String base64SecretKey) {
+		byte[] secretKey = Base64.getDecoder().decode(base64SecretKey);
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKey(new SecretKeySpec(secretKey, SignatureAlgorithm.HS256.getJcaName()))
+			.build();
+		this.verifiedClaims = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfter(new ClaimsExpiry())
+			.build();
+	}
+
+	Claims parse(String token) {
+		if (token == null || token.isBlank()) {
+			throw new JwtParseException(ErrorCode.EMPTY_OR_NULL_JWT);
+		}
+
+		String tokenHash = hash(token);
+		Claims claims = verifiedClaims.getIfPresent(tokenHash);
+		if (claims == null) {
+			claims = verify(token);
+			if (claims.getExpiration() != null) {
+				verifiedClaims.put(tokenHash, claims);
+			}
+		} else if (claims.getExpiration().before(new Date())) {
+			verifiedClaims.invalidate(tokenHash);
+			throw new JwtExpiredException(ErrorCode.EXPIRED_JWT);
+		}
+
+		return claims;
+	}
+
+	Claims verify(String token) {
+		try {
+			return jwtParser.parseClaimsJws(token)
+				.getBody();
+		} catch (MalformedJwtException e) {
+			throw new JwtParseException(ErrorCode.MALFORMED_JWT);
+		} catch (ExpiredJwtException e) {
+			throw new JwtExpiredException(ErrorCode.EXPIRED_JWT);
+		} catch (UnsupportedJwtException e) {
+			throw new JwtParseException(ErrorCode.UNSUPPORTED_JWT);
+		} catch (SignatureException e) {
+			throw new JwtParseException(ErrorCode.INVALID_SIGNATURE);
+		} catch (IllegalArgumentException e) {
+			throw new JwtParseException(ErrorCode.EMPTY_OR_NULL_JWT);
+		}
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(token.getBytes(StandardCharsets.US_ASCII));
+
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			long millisToExpiration = claims.getExpiration().getTime() - System.currentTimeMillis();
+
+			return Duration.ofMillis(Math.max(millisToExpiration, 0)).toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
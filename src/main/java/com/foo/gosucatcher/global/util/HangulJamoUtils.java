@@ -0,0 +1,60 @@
+package com.foo.gosucatcher.global.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+public class HangulJamoUtils {
+
+	private static final char HANGUL_SYLLABLE_BEGIN = '가';
+	private static final char HANGUL_SYLLABLE_END = '힣';
+	private static final int JUNGSEONG_COUNT = 21;
+	private static final int JONGSEONG_COUNT = 28;
+
+	private static final String[] CHOSEONG = {
+		"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private static final String[] JUNGSEONG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ",
+		"ㅡ", "ㅡㅣ", "ㅣ"
+	};
+
+	private static final String[] JONGSEONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ",
+		"ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+		Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+		Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"), Map.entry('ㄳ', "ㄱㅅ"),
+		Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"),
+		Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+		Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+	);
+
+	public static String decompose(String text) {
+		if (text == null) {
+			return "";
+		}
+
+		StringBuilder jamo = new StringBuilder(text.length() * 3);
+
+		for (char character : text.toLowerCase(Locale.ROOT).toCharArray()) {
+			if (Character.isWhitespace(character)) {
+				continue;
+			}
+
+			if (character >= HANGUL_SYLLABLE_BEGIN && character <= HANGUL_SYLLABLE_END) {
+				int syllableIndex = character - HANGUL_SYLLABLE_BEGIN;
+				jamo.append(CHOSEONG[syllableIndex / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+					.append(JUNGSEONG[(syllableIndex % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT])
+					.append(JONGSEONG[syllableIndex % JONGSEONG_COUNT]);
+				continue;
+			}
+
+			jamo.append(COMPOUND_JAMO.getOrDefault(character, String.valueOf(character)));
+		}
+
+		return jamo.toString();
+	}
+}
@@ -10,9 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import com.foo.gosucatcher.domain.expert.application.ExpertService;
-import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertResponse;
-import com.foo.gosucatcher.domain.image.application.dto.response.ImageResponse;
-import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertProfileResponse;
 import com.foo.gosucatcher.domain.member.application.MemberProfileService;
 import com.foo.gosucatcher.domain.review.application.ReviewService;
 import com.foo.gosucatcher.domain.review.application.dto.response.ReviewsResponse;
@@ -45,14 +43,12 @@ public class ExpertViewController {
 		@PageableDefault(sort = "updatedAt", size = 100, direction = Sort.Direction.DESC) Pageable pageable){
 
 		ReviewsResponse response = reviewService.findAllByExpertIdAndSubItem(expertId, null, pageable);
-		ExpertResponse expertResponse = expertService.findById(expertId);
-		SubItemsResponse subItems = expertService.getSubItemsByExpertId(expertId);
-		ImageResponse images = expertService.getAllImages(expertId);
+		ExpertProfileResponse expertProfile = expertService.findProfile(expertId);
 
 		model.addAttribute("reviews", response);
-		model.addAttribute("profile", expertResponse);
-		model.addAttribute("subItems", subItems);
-		model.addAttribute("expertImages", images);
+		model.addAttribute("profile", expertProfile.profile());
+		model.addAttribute("subItems", expertProfile.subItems());
+		model.addAttribute("expertImages", expertProfile.images());
 
 		return "experts/profile";
 	}
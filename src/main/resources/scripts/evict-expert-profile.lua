@@ -0,0 +1,6 @@
+redis.call('DEL', KEYS[1])
+
+local version = redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], tonumber(ARGV[1]))
+
+return version
@@ -0,0 +1,12 @@
+local migrated = 0
+
+for i = 2, #KEYS do
+	local count = redis.call('GET', KEYS[i])
+	if count then
+		redis.call('ZINCRBY', KEYS[1], tonumber(count), ARGV[i - 1])
+		migrated = migrated + 1
+	end
+	redis.call('DEL', KEYS[i])
+end
+
+return migrated
@@ -0,0 +1,8 @@
+local currentVersion = redis.call('GET', KEYS[2]) or '0'
+if currentVersion ~= ARGV[1] then
+	return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'EX', tonumber(ARGV[3]))
+
+return 1
@@ -0,0 +1,16 @@
+local keyword = ARGV[1]
+local maximumSavedValue = tonumber(ARGV[2])
+
+redis.call('LREM', KEYS[1], 0, keyword)
+redis.call('RPUSH', KEYS[1], keyword)
+redis.call('LTRIM', KEYS[1], -maximumSavedValue, -1)
+
+redis.call('ZINCRBY', KEYS[2], 1, keyword)
+redis.call('ZINCRBY', KEYS[3], 1, keyword)
+redis.call('EXPIRE', KEYS[3], tonumber(ARGV[3]))
+
+redis.call('LREM', KEYS[4], 0, keyword)
+redis.call('RPUSH', KEYS[4], keyword)
+redis.call('LTRIM', KEYS[4], -maximumSavedValue, -1)
+
+return redis.call('LLEN', KEYS[1])
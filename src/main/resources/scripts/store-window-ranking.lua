@@ -0,0 +1,8 @@
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+
+redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[1]))
+
+return 1
@@ -0,0 +1,21 @@
+local storedCode = redis.call('GET', KEYS[1])
+if not storedCode then
+	return -1
+end
+
+if storedCode == ARGV[1] then
+	redis.call('DEL', KEYS[1], KEYS[2])
+	return 0
+end
+
+local attempts = redis.call('INCR', KEYS[2])
+if attempts == 1 then
+	redis.call('PEXPIRE', KEYS[2], redis.call('PTTL', KEYS[1]))
+end
+
+if attempts >= tonumber(ARGV[2]) then
+	redis.call('DEL', KEYS[1], KEYS[2])
+	return -2
+end
+
+return attempts
@@ -0,0 +1,114 @@
+package com.foo.gosucatcher.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.foo.gosucatcher.domain.member.domain.VerificationChannel;
+import com.foo.gosucatcher.domain.member.domain.VerificationResult;
+import com.foo.gosucatcher.domain.member.infrastructure.VerificationCodeRedisRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.lettuce.core.resource.ClientResources;
+import redis.embedded.RedisServer;
+
+class RedisConfigTest {
+
+	private static RedisServer redisServer;
+	private static int redisPort;
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withUserConfiguration(RedisConfig.class, VerificationCodeRedisRepository.class)
+		.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+		.withBean(RedisProperties.class, () -> {
+			RedisProperties redisProperties = new RedisProperties();
+			redisProperties.setPort(redisPort);
+
+			return redisProperties;
+		});
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			redisPort = serverSocket.getLocalPort();
+		}
+		redisServer = new RedisServer(redisPort);
+		redisServer.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		redisServer.stop();
+	}
+
+	@Test
+	@DisplayName("모든 커넥션 팩토리가 하나의 ClientResources와 커맨드 타임아웃을 공유한다")
+	void sharedClientResourcesTest() {
+		contextRunner.run(context -> {
+			ClientResources clientResources = context.getBean(ClientResources.class);
+
+			assertThat(context.getBeansOfType(LettuceConnectionFactory.class).values())
+				.hasSize(3)
+				.allSatisfy(connectionFactory -> {
+					assertThat(connectionFactory.getClientConfiguration().getClientResources())
+						.containsSame(clientResources);
+					assertThat(connectionFactory.getClientConfiguration().getCommandTimeout())
+						.hasSeconds(2);
+				});
+		});
+	}
+
+	@Test
+	@DisplayName("템플릿별 호출 시간과 Lettuce 커맨드 지연 시간을 기록한다")
+	void commandMetricsTest() {
+		contextRunner.run(context -> {
+			@SuppressWarnings("unchecked")
+			RedisTemplate<String, String> searchRedisTemplate = context.getBean("searchRedisTemplate",
+				RedisTemplate.class);
+			MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+			searchRedisTemplate.opsForValue().set("metrics::key", "value");
+			searchRedisTemplate.opsForValue().get("metrics::key");
+
+			assertThat(meterRegistry.get("redis.template.command").tag("template", "search").timer().count())
+				.isEqualTo(2);
+			assertThat(meterRegistry.find("lettuce.command.completion").tag("command", "GET").timer())
+				.isNotNull();
+		});
+	}
+
+	@Test
+	@DisplayName("인증번호는 한 번만 사용할 수 있고 다섯 번 틀리면 폐기된다")
+	void verificationScriptTest() {
+		contextRunner.run(context -> {
+			VerificationCodeRedisRepository repository = context.getBean(VerificationCodeRedisRepository.class);
+
+			repository.save(VerificationChannel.EMAIL, "sjun@naver.com", "123456", 600);
+			assertThat(repository.verify(VerificationChannel.EMAIL, "sjun@naver.com", "123456"))
+				.isEqualTo(VerificationResult.VERIFIED);
+			assertThat(repository.verify(VerificationChannel.EMAIL, "sjun@naver.com", "123456"))
+				.isEqualTo(VerificationResult.EXPIRED);
+
+			repository.save(VerificationChannel.SMS, "01012345678", "123456", 600);
+			for (int attempt = 1; attempt < 5; attempt++) {
+				assertThat(repository.verify(VerificationChannel.SMS, "01012345678", "000000"))
+					.isEqualTo(VerificationResult.MISMATCHED);
+			}
+			assertThat(repository.verify(VerificationChannel.SMS, "01012345678", "000000"))
+				.isEqualTo(VerificationResult.LOCKED);
+			assertThat(repository.verify(VerificationChannel.SMS, "01012345678", "123456"))
+				.isEqualTo(VerificationResult.EXPIRED);
+		});
+	}
+}
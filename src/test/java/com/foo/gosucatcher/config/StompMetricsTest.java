@@ -0,0 +1,161 @@
+package com.foo.gosucatcher.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StompMetricsTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private StompMetrics stompMetrics;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		stompMetrics = new StompMetrics(meterRegistry);
+	}
+
+	@Test
+	@DisplayName("목적지의 숫자 경로는 하나로 묶고 알려지지 않은 목적지는 other로 모아 지표 수가 늘어나지 않게 한다")
+	void normalizeTest() {
+		assertThat(StompMetrics.normalize("/sub/chat/room/12")).isEqualTo("/sub/chat/room/{id}");
+		assertThat(StompMetrics.normalize("/pub/message")).isEqualTo("/pub/message");
+		assertThat(StompMetrics.normalize("/sub/chat/room/abc")).isEqualTo("other");
+		assertThat(StompMetrics.normalize("/sub/anything/goes/here")).isEqualTo("other");
+		assertThat(StompMetrics.normalize(null)).isEqualTo("none");
+	}
+
+	@Test
+	@DisplayName("가득 찬 채널 실행기는 호출한 스레드에서 실행하지 않고 거절한 뒤 그 수를 센다")
+	void rejectionCounterTest() {
+		//given
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>(),
+			stompMetrics.rejectionCounter("inbound"));
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(release));
+		AtomicBoolean ranOnCaller = new AtomicBoolean();
+
+		//when -> then
+		assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ranOnCaller.set(true)));
+		assertThat(ranOnCaller).isFalse();
+		assertThat(meterRegistry.get("stomp.channel.rejected").tag("channel", "inbound").counter().count())
+			.isEqualTo(1);
+
+		release.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("채널을 지나는 메시지를 종류와 목적지별로 센다")
+	void messageCounterTest() {
+		//given
+		ChannelInterceptor outboundCounter = stompMetrics.messageCounter("outbound");
+
+		//when
+		outboundCounter.preSend(message("/sub/chat/room/1"), mock(MessageChannel.class));
+		outboundCounter.preSend(message("/sub/chat/room/2"), mock(MessageChannel.class));
+
+		//then
+		assertThat(meterRegistry.get("stomp.messages")
+			.tag("channel", "outbound")
+			.tag("type", "MESSAGE")
+			.tag("destination", "/sub/chat/room/{id}")
+			.counter()
+			.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("활성 세션 수를 기록하고 한도를 넘겨 끊긴 느린 구독자를 따로 센다")
+	void sessionMetricsTest() throws Exception {
+		//given
+		WebSocketHandler handler = stompMetrics.decorate(mock(WebSocketHandler.class));
+		WebSocketSession slowSession = mock(WebSocketSession.class);
+		WebSocketSession normalSession = mock(WebSocketSession.class);
+
+		//when
+		handler.afterConnectionEstablished(slowSession);
+		handler.afterConnectionEstablished(normalSession);
+		handler.afterConnectionClosed(slowSession, CloseStatus.SESSION_NOT_RELIABLE);
+
+		//then
+		assertThat(meterRegistry.get("stomp.sessions.active").gauge().value()).isEqualTo(1);
+		assertThat(meterRegistry.get("stomp.sessions.evicted").counter().count()).isEqualTo(1);
+
+		handler.afterConnectionClosed(normalSession, CloseStatus.NORMAL);
+		assertThat(meterRegistry.get("stomp.sessions.active").gauge().value()).isZero();
+		assertThat(meterRegistry.get("stomp.sessions.evicted").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("채널 실행기의 대기열 길이를 노출한다")
+	void queueSizeTest() throws InterruptedException {
+		//given
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(10);
+		stompMetrics.monitor("outbound", executor);
+		assertThat(meterRegistry.get("stomp.channel.queue.size").gauge().value()).isZero();
+		executor.initialize();
+
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+
+		//when
+		executor.execute(() -> {
+			started.countDown();
+			awaitQuietly(release);
+		});
+		started.await();
+		executor.execute(() -> {
+		});
+		executor.execute(() -> {
+		});
+
+		//then
+		assertThat(meterRegistry.get("stomp.channel.queue.size").tag("channel", "outbound").gauge().value())
+			.isEqualTo(2);
+		assertThat(meterRegistry.get("stomp.channel.active.threads").gauge().value()).isEqualTo(1);
+
+		release.countDown();
+		executor.shutdown();
+	}
+
+	private Message<byte[]> message(String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+import com.foo.gosucatcher.domain.chat.domain.ChattingRoomRepository;
+import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageValidatorTest {
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private ChattingRoomRepository chattingRoomRepository;
+
+	@InjectMocks
+	private ChatMessageValidator chatMessageValidator;
+
+	@Test
+	@DisplayName("존재가 확인된 보낸 사람과 채팅방은 다시 조회하지 않는다")
+	void validateTest() {
+		//given
+		MessageRequest messageRequest = new MessageRequest(1L, 10L, "안녕하세요");
+		when(memberRepository.existsById(1L)).thenReturn(true);
+		when(chattingRoomRepository.existsById(10L)).thenReturn(true);
+
+		//when
+		chatMessageValidator.validate(messageRequest);
+		chatMessageValidator.validate(messageRequest);
+
+		//then
+		verify(memberRepository, times(1)).existsById(1L);
+		verify(chattingRoomRepository, times(1)).existsById(10L);
+	}
+
+	@Test
+	@DisplayName("보낸 사람이 존재하지 않으면 메시지를 받지 않는다")
+	void validateFailTest_notFoundMember() {
+		//given
+		when(memberRepository.existsById(1L)).thenReturn(false);
+
+		//when -> then
+		assertThatThrownBy(() -> chatMessageValidator.validate(new MessageRequest(1L, 10L, "안녕하세요")))
+			.isInstanceOf(EntityNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("삭제된 채팅방으로는 메시지를 받지 않는다")
+	void validateFailTest_deletedChattingRoom() {
+		//given
+		when(memberRepository.existsById(1L)).thenReturn(true);
+		when(chattingRoomRepository.existsById(10L)).thenReturn(true, false);
+		chatMessageValidator.validate(new MessageRequest(1L, 10L, "안녕하세요"));
+
+		//when
+		chatMessageValidator.evictRoom(10L);
+
+		//then
+		assertThatThrownBy(() -> chatMessageValidator.validate(new MessageRequest(1L, 10L, "안녕하세요")))
+			.isInstanceOf(EntityNotFoundException.class);
+	}
+}
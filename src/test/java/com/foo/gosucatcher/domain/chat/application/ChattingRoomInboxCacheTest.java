@@ -0,0 +1,295 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.foo.gosucatcher.config.JpaConfig;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxResponse;
+import com.foo.gosucatcher.domain.chat.domain.ChattingRoom;
+import com.foo.gosucatcher.domain.chat.domain.ChattingRoomRepository;
+import com.foo.gosucatcher.domain.chat.infrastructure.ChattingRoomJdbcRepository;
+import com.foo.gosucatcher.domain.estimate.domain.ExpertEstimate;
+import com.foo.gosucatcher.domain.estimate.domain.ExpertEstimateRepository;
+import com.foo.gosucatcher.domain.estimate.domain.MemberEstimate;
+import com.foo.gosucatcher.domain.estimate.domain.MemberEstimateRepository;
+import com.foo.gosucatcher.domain.estimate.domain.Status;
+import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.item.domain.MainItem;
+import com.foo.gosucatcher.domain.item.domain.MainItemRepository;
+import com.foo.gosucatcher.domain.item.domain.SubItem;
+import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
+import com.foo.gosucatcher.domain.member.domain.Member;
+import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.domain.member.domain.Roles;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import({JpaConfig.class, ChattingRoomJdbcRepository.class, ChattingRoomInboxCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChattingRoomInboxCacheTest {
+
+	@Autowired
+	private ChattingRoomInboxCache chattingRoomInboxCache;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private ExpertRepository expertRepository;
+
+	@Autowired
+	private MainItemRepository mainItemRepository;
+
+	@Autowired
+	private SubItemRepository subItemRepository;
+
+	@Autowired
+	private MemberEstimateRepository memberEstimateRepository;
+
+	@Autowired
+	private ExpertEstimateRepository expertEstimateRepository;
+
+	@Autowired
+	private ChattingRoomRepository chattingRoomRepository;
+
+	@Autowired
+	private ChattingRoomJdbcRepository chattingRoomJdbcRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean(name = "cacheRedisTemplate")
+	private RedisTemplate<String, String> cacheRedisTemplate;
+
+	private Member customer;
+	private Expert expert;
+	private MemberEstimate memberEstimate;
+	private ChattingRoom talkingRoom;
+	private ChattingRoom quietRoom;
+
+	@BeforeEach
+	void setUp() {
+		List.of("messages", "chatting_room_reads", "chatting_rooms", "expert_estimates", "member_estimates", "reviews", "experts",
+				"members", "sub_items", "main_items")
+			.forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+
+		customer = saveMember("customer@gosu.com", Roles.ROLE_USER);
+		expert = expertRepository.save(Expert.builder()
+			.member(saveMember("expert@gosu.com", Roles.ROLE_EXPERT))
+			.storeName("영어 회화 고수")
+			.location("서울시 강남구")
+			.maxTravelDistance(10)
+			.description("채팅 목록 대상 고수")
+			.build());
+
+		MainItem mainItem = mainItemRepository.save(MainItem.builder().name("레슨").description("레슨 서비스").build());
+		SubItem subItem = subItemRepository.save(
+			SubItem.builder().mainItem(mainItem).name("영어 회화").description("영어 회화 레슨").build());
+
+		memberEstimate = memberEstimateRepository.save(MemberEstimate.builder()
+			.member(customer)
+			.subItem(subItem)
+			.location("서울시 강남구")
+			.preferredStartDate(LocalDateTime.now().plusDays(3))
+			.detailedDescription("주 2회 원해요")
+			.build());
+		expertEstimateRepository.save(ExpertEstimate.builder()
+			.expert(expert)
+			.memberEstimate(memberEstimate)
+			.subItem(subItem)
+			.totalCost(10000)
+			.description("견적서입니다")
+			.build());
+
+		talkingRoom = chattingRoomRepository.save(ChattingRoom.builder().memberEstimate(memberEstimate).build());
+		quietRoom = chattingRoomRepository.save(ChattingRoom.builder().memberEstimate(memberEstimate).build());
+
+		LocalDateTime now = LocalDateTime.now();
+		insertMessage(expert.getMember(), talkingRoom, "안녕하세요", now.minusMinutes(3));
+		insertMessage(customer, talkingRoom, "견적 문의드려요", now.minusMinutes(2));
+		insertMessage(expert.getMember(), talkingRoom, "가능합니다", now.minusMinutes(1));
+		jdbcTemplate.update("""
+			INSERT INTO chatting_room_reads (chatting_room_id, member_id, last_read_at, created_at, updated_at)
+			VALUES (?, ?, ?, ?, ?)
+			""", talkingRoom.getId(), customer.getId(), now.minusSeconds(150), now, now);
+	}
+
+	@Test
+	@DisplayName("한 번의 조회로 채팅방마다 마지막 메시지와 읽는 사람 기준 안 읽은 메시지 수를 채운다")
+	void getTest() {
+		//when
+		List<ChattingRoomInboxResponse> memberInbox = chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER,
+			customer.getId()).chattingRoomsResponse();
+		List<ChattingRoomInboxResponse> expertInbox = chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT,
+			expert.getId()).chattingRoomsResponse();
+
+		//then
+		assertThat(memberInbox).extracting(ChattingRoomInboxResponse::id)
+			.containsExactly(quietRoom.getId(), talkingRoom.getId());
+
+		ChattingRoomInboxResponse talking = memberInbox.get(1);
+		assertThat(talking.lastMessageContent()).isEqualTo("가능합니다");
+		assertThat(talking.lastMessageSenderId()).isEqualTo(expert.getMember().getId());
+		assertThat(talking.unreadCount()).isEqualTo(1);
+		assertThat(talking.memberEstimateResponse().subItemResponse().mainItemName()).isEqualTo("레슨");
+		assertThat(memberInbox.get(0).lastMessageContent()).isNull();
+		assertThat(memberInbox.get(0).unreadCount()).isZero();
+
+		assertThat(expertInbox).hasSize(2);
+		assertThat(expertInbox.get(1).unreadCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("바로 견적과 일반 견적 목록은 요청서 상태와 지정 고수로 걸러낸다")
+	void getByEstimateTypeTest() {
+		//given
+		jdbcTemplate.update("UPDATE member_estimates SET status = ? WHERE id = ?", Status.PROCEEDING.name(),
+			memberEstimate.getId());
+
+		//when
+		List<ChattingRoomInboxResponse> autoInbox = chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT_AUTO,
+			expert.getId()).chattingRoomsResponse();
+		List<ChattingRoomInboxResponse> normalInbox = chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT_NORMAL,
+			expert.getId()).chattingRoomsResponse();
+
+		//then
+		assertThat(autoInbox).hasSize(2);
+		assertThat(normalInbox).isEmpty();
+	}
+
+	@Test
+	@DisplayName("메시지가 전송되면 DB를 다시 조회하지 않고 캐시된 목록의 마지막 메시지와 안 읽은 수를 갱신한다")
+	void onMessageSentTest() {
+		//given
+		chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER, customer.getId());
+		jdbcTemplate.update("DELETE FROM messages");
+
+		//when
+		chattingRoomInboxCache.onMessageSent(new ChatMessageSentEvent(expert.getMember().getId(), talkingRoom.getId(),
+			"내일 뵐게요", LocalDateTime.now()));
+		chattingRoomInboxCache.onMessageSent(new ChatMessageSentEvent(customer.getId(), talkingRoom.getId(),
+			"네 좋아요", LocalDateTime.now()));
+
+		//then
+		List<ChattingRoomInboxResponse> memberInbox = chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER,
+			customer.getId()).chattingRoomsResponse();
+		assertThat(memberInbox.get(0).id()).isEqualTo(talkingRoom.getId());
+		assertThat(memberInbox.get(0).lastMessageContent()).isEqualTo("네 좋아요");
+		assertThat(memberInbox.get(0).unreadCount()).isEqualTo(2);
+
+		chattingRoomInboxCache.onChattingRoomRead(new ChattingRoomReadEvent(talkingRoom.getId(), customer.getId()));
+		assertThat(chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER, customer.getId())
+			.chattingRoomsResponse().get(0).unreadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("목록 무효화와 읽음 처리는 다른 서버로 전파하고, 전파받은 변경도 캐시에 반영한다")
+	void onMessageTest_remoteChanges() {
+		//given
+		chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER, customer.getId());
+		insertMessage(expert.getMember(), talkingRoom, "다른 서버에서 보낸 메시지", LocalDateTime.now().plusMinutes(1));
+
+		//when
+		chattingRoomInboxCache.onMessage(change("member:" + customer.getId()), null);
+		List<ChattingRoomInboxResponse> reloaded = chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER,
+			customer.getId()).chattingRoomsResponse();
+		chattingRoomInboxCache.onMessage(change("read:" + talkingRoom.getId() + ":" + customer.getId()), null);
+
+		//then
+		assertThat(reloaded.get(0).lastMessageContent()).isEqualTo("다른 서버에서 보낸 메시지");
+		assertThat(reloaded.get(0).unreadCount()).isPositive();
+		assertThat(chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER, customer.getId())
+			.chattingRoomsResponse().get(0).unreadCount()).isZero();
+
+		//when
+		chattingRoomInboxCache.evictRoom(talkingRoom.getId());
+		chattingRoomInboxCache.onChattingRoomRead(new ChattingRoomReadEvent(talkingRoom.getId(), customer.getId()));
+
+		//then
+		verify(cacheRedisTemplate).convertAndSend(ChattingRoomInboxCache.CHANGED_CHANNEL, "room:" + talkingRoom.getId());
+		verify(cacheRedisTemplate).convertAndSend(ChattingRoomInboxCache.CHANGED_CHANNEL,
+			"read:" + talkingRoom.getId() + ":" + customer.getId());
+	}
+
+	@Test
+	@DisplayName("마지막 메시지는 id가 아니라 보낸 시각 순으로 고른다")
+	void getTest_lastMessageBySentAt() {
+		//given
+		insertMessage(customer, talkingRoom, "늦게 저장된 예전 메시지", LocalDateTime.now().minusHours(1));
+
+		//when
+		List<ChattingRoomInboxResponse> memberInbox = chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER,
+			customer.getId()).chattingRoomsResponse();
+
+		//then
+		assertThat(memberInbox.get(1).lastMessageContent()).isEqualTo("가능합니다");
+	}
+
+	@Test
+	@DisplayName("요청서를 쓴 회원과 견적을 보낸 고수만 채팅방 참여자로 본다")
+	void isParticipantTest() {
+		//given
+		Member stranger = saveMember("stranger@gosu.com", Roles.ROLE_USER);
+
+		//when -> then
+		assertThat(chattingRoomJdbcRepository.isParticipant(talkingRoom.getId(), customer.getId())).isTrue();
+		assertThat(chattingRoomJdbcRepository.isParticipant(talkingRoom.getId(), expert.getMember().getId())).isTrue();
+		assertThat(chattingRoomJdbcRepository.isParticipant(talkingRoom.getId(), stranger.getId())).isFalse();
+	}
+
+	@Test
+	@DisplayName("읽음 기록은 없으면 추가하고 있으면 더 늦은 시각으로만 갱신한다")
+	void readTest() {
+		//given
+		LocalDateTime now = LocalDateTime.now().withNano(0);
+
+		//when
+		chattingRoomJdbcRepository.read(quietRoom.getId(), customer.getId(), now);
+		chattingRoomJdbcRepository.read(quietRoom.getId(), customer.getId(), now.minusMinutes(1));
+
+		//then
+		List<LocalDateTime> lastReadAts = jdbcTemplate.queryForList("""
+			SELECT last_read_at FROM chatting_room_reads WHERE chatting_room_id = ? AND member_id = ?
+			""", LocalDateTime.class, quietRoom.getId(), customer.getId());
+		assertThat(lastReadAts).containsExactly(now);
+	}
+
+	private Member saveMember(String email, Roles role) {
+		return memberRepository.save(Member.builder()
+			.name("채팅")
+			.password("q1w2e3")
+			.email(email)
+			.phoneNumber("01012345678")
+			.role(role)
+			.build());
+	}
+
+	private DefaultMessage change(String body) {
+		return new DefaultMessage(ChattingRoomInboxCache.CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void insertMessage(Member sender, ChattingRoom chattingRoom, String content, LocalDateTime sentAt) {
+		jdbcTemplate.update("""
+			INSERT INTO messages (sender_id, chatting_room_id, content, is_deleted, created_at, updated_at)
+			VALUES (?, ?, ?, false, ?, ?)
+			""", sender.getId(), chattingRoom.getId(), content, sentAt, sentAt);
+	}
+}
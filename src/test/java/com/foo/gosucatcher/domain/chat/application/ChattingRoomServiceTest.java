@@ -1,7 +1,11 @@
 package com.foo.gosucatcher.domain.chat.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,21 +22,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxesResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomsResponse;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoom;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoomRepository;
+import com.foo.gosucatcher.domain.chat.infrastructure.ChattingRoomJdbcRepository;
+import com.foo.gosucatcher.domain.estimate.application.dto.response.MemberEstimateResponse;
 import com.foo.gosucatcher.domain.estimate.domain.ExpertEstimate;
-import com.foo.gosucatcher.domain.estimate.domain.ExpertEstimateRepository;
 import com.foo.gosucatcher.domain.estimate.domain.MemberEstimate;
 import com.foo.gosucatcher.domain.estimate.domain.MemberEstimateRepository;
-import com.foo.gosucatcher.domain.estimate.domain.Status;
 import com.foo.gosucatcher.domain.expert.domain.Expert;
 import com.foo.gosucatcher.domain.item.domain.MainItem;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
 import com.foo.gosucatcher.domain.member.domain.Member;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.global.error.exception.BusinessException;
+import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
 class ChattingRoomServiceTest {
@@ -47,7 +56,16 @@ class ChattingRoomServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private ExpertEstimateRepository expertEstimateRepository;
+    private ChattingRoomJdbcRepository chattingRoomJdbcRepository;
+
+    @Mock
+    private ChattingRoomInboxCache chattingRoomInboxCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChatMessageValidator chatMessageValidator;
 
     @InjectMocks
     private ChattingRoomService chattingRoomService;
@@ -114,7 +132,7 @@ class ChattingRoomServiceTest {
         List<ChattingRoom> expectedChattingRooms = new ArrayList<>();
         expectedChattingRooms.add(chattingRoom);
 
-        when(chattingRoomRepository.saveAll(any(Iterable.class))).thenReturn(expectedChattingRooms);
+        when(chattingRoomRepository.saveAll(anyList())).thenReturn(expectedChattingRooms);
 
         //when
         ChattingRoomsResponse chattingRoomsResponse = chattingRoomService.create(memberEstimateId);
@@ -175,28 +193,34 @@ class ChattingRoomServiceTest {
         //given
         Long memberId = 1L;
 
-        ChattingRoom chattingRoom = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
+        ChattingRoomInboxesResponse expected = new ChattingRoomInboxesResponse(List.of(
+            new ChattingRoomInboxResponse(1L, MemberEstimateResponse.from(memberEstimate), 2L, "안녕하세요", LocalDateTime.now(), 1),
+            new ChattingRoomInboxResponse(2L, MemberEstimateResponse.from(memberEstimate), null, null, null, 0)));
 
-        ChattingRoom chattingRoom2 = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
-
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-
-        when(memberEstimateRepository.findAllByMember(any(Member.class))).thenReturn(List.of(memberEstimate));
-
-        List<ChattingRoom> expectedChattingRooms = List.of(chattingRoom, chattingRoom2);
-
-        when(chattingRoomRepository.findAllByMemberEstimate(memberEstimate)).thenReturn(expectedChattingRooms);
+        when(chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER, memberId)).thenReturn(expected);
 
         //when
-        ChattingRoomsResponse chattingRoomResponse = chattingRoomService.findAllByMemberId(memberId);
-        List<ChattingRoomResponse> chattingRoomResponses = chattingRoomResponse.chattingRoomsResponse();
+        ChattingRoomInboxesResponse chattingRoomResponse = chattingRoomService.findAllByMemberId(memberId);
+        List<ChattingRoomInboxResponse> chattingRoomResponses = chattingRoomResponse.chattingRoomsResponse();
 
         //then
         assertThat(chattingRoomResponses).hasSize(2);
+        assertThat(chattingRoomResponses.get(0).unreadCount()).isEqualTo(1);
+        verify(memberRepository, never()).existsById(memberId);
+    }
+
+    @DisplayName("존재하지 않는 회원의 채팅방 목록을 조회하면 예외가 발생하는 테스트")
+    @Test
+    void findAllByMemberId_notFoundMember() {
+        //given
+        Long memberId = 1L;
+
+        when(chattingRoomInboxCache.get(ChattingRoomInboxType.MEMBER, memberId))
+            .thenReturn(new ChattingRoomInboxesResponse(List.of()));
+        when(memberRepository.existsById(memberId)).thenReturn(false);
+
+        //when -> then
+        assertThrows(EntityNotFoundException.class, () -> chattingRoomService.findAllByMemberId(memberId));
     }
 
     @DisplayName("id로 채팅방 조회 테스트")
@@ -224,32 +248,17 @@ class ChattingRoomServiceTest {
         //given
         Long expertId = 1L;
 
-        ChattingRoom chattingRoom = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
+        ChattingRoomInboxesResponse expected = new ChattingRoomInboxesResponse(List.of(
+            new ChattingRoomInboxResponse(1L, MemberEstimateResponse.from(memberEstimate), null, null, null, 0),
+            new ChattingRoomInboxResponse(2L, MemberEstimateResponse.from(memberEstimate), null, null, null, 0)));
 
-        ChattingRoom chattingRoom2 = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
-
-        ExpertEstimate expertEstimate2 = ExpertEstimate.builder()
-            .expert(expert)
-            .memberEstimate(memberEstimate)
-            .subItem(subItem)
-            .totalCost(10000)
-            .description("견적서입니다2")
-            .build();
-
-        when(expertEstimateRepository.findAllByExpertIdAndMemberEstimateIsNotNull(expertId)).thenReturn(List.of(expertEstimate, expertEstimate2));
-
-        when(chattingRoomRepository.findAllByMemberEstimate(memberEstimate)).thenReturn(List.of(chattingRoom, chattingRoom2));
+        when(chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT, expertId)).thenReturn(expected);
 
         //when
-        ChattingRoomsResponse chattingRoomResponse = chattingRoomService.findAllByExpertId(expertId);
-        List<ChattingRoomResponse> chattingRoomResponses = chattingRoomResponse.chattingRoomsResponse();
+        ChattingRoomInboxesResponse chattingRoomResponse = chattingRoomService.findAllByExpertId(expertId);
 
         //then
-        assertThat(chattingRoomResponses).hasSize(4);
+        assertThat(chattingRoomResponse.chattingRoomsResponse()).hasSize(2);
     }
 
     @DisplayName("고수의 일반 견적 관련 채팅방 목록 조회 테스트")
@@ -258,22 +267,17 @@ class ChattingRoomServiceTest {
         //given
         Long expertId = 1L;
 
-        ChattingRoom chattingRoom = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
-
-        ChattingRoom chattingRoom2 = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
+        ChattingRoomInboxesResponse expected = new ChattingRoomInboxesResponse(List.of(
+            new ChattingRoomInboxResponse(1L, MemberEstimateResponse.from(memberEstimate), null, null, null, 0),
+            new ChattingRoomInboxResponse(2L, MemberEstimateResponse.from(memberEstimate), null, null, null, 0)));
 
-        when(memberEstimateRepository.findAllByExpertId(expertId)).thenReturn(List.of(memberEstimate));
-        when(chattingRoomRepository.findAllByMemberEstimate(memberEstimate)).thenReturn(List.of(chattingRoom, chattingRoom2));
+        when(chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT_NORMAL, expertId)).thenReturn(expected);
 
-        ChattingRoomsResponse chattingRoomResponse = chattingRoomService.findAllOfNormalByExpertId(expertId);
-        List<ChattingRoomResponse> chattingRoomResponses = chattingRoomResponse.chattingRoomsResponse();
+        //when
+        ChattingRoomInboxesResponse chattingRoomResponse = chattingRoomService.findAllOfNormalByExpertId(expertId);
 
         //then
-        assertThat(chattingRoomResponses).hasSize(2);
+        assertThat(chattingRoomResponse.chattingRoomsResponse()).hasSize(2);
     }
 
     @DisplayName("고수의 바로 견적 관련 채팅방 목록 조회 테스트")
@@ -282,34 +286,51 @@ class ChattingRoomServiceTest {
         //given
         Long expertId = 1L;
 
-        memberEstimate.updateStatus(Status.PROCEEDING);
+        ChattingRoomInboxesResponse expected = new ChattingRoomInboxesResponse(List.of(
+            new ChattingRoomInboxResponse(1L, MemberEstimateResponse.from(memberEstimate), null, null, null, 0),
+            new ChattingRoomInboxResponse(2L, MemberEstimateResponse.from(memberEstimate), null, null, null, 0)));
 
-        ChattingRoom chattingRoom = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
+        when(chattingRoomInboxCache.get(ChattingRoomInboxType.EXPERT_AUTO, expertId)).thenReturn(expected);
 
-        ChattingRoom chattingRoom2 = ChattingRoom.builder()
-            .memberEstimate(memberEstimate)
-            .build();
+        //when
+        ChattingRoomInboxesResponse chattingRoomResponse = chattingRoomService.findAllOfAutoByExpertId(expertId);
 
-        ExpertEstimate expertEstimate2 = ExpertEstimate.builder()
-            .expert(null)
-            .memberEstimate(memberEstimate)
-            .subItem(subItem)
-            .totalCost(10000)
-            .description("견적서입니다2")
-            .build();
+        //then
+        assertThat(chattingRoomResponse.chattingRoomsResponse()).hasSize(2);
+    }
+
+    @DisplayName("채팅방을 처음 읽으면 읽음 기록을 저장하고 이벤트를 발행하는 테스트")
+    @Test
+    void read() {
+        //given
+        Long chattingRoomId = 1L;
+        Long memberId = 2L;
 
-        when(expertEstimateRepository.findAllByExpertIdAndMemberEstimateIsNotNull(expertId)).thenReturn(List.of(expertEstimate, expertEstimate2));
-        when(chattingRoomRepository.findAllByMemberEstimate(memberEstimate)).thenReturn(List.of(chattingRoom, chattingRoom2));
+        when(chattingRoomRepository.existsById(chattingRoomId)).thenReturn(true);
+        when(chattingRoomJdbcRepository.isParticipant(chattingRoomId, memberId)).thenReturn(true);
 
         //when
-        ChattingRoomsResponse chattingRoomResponse = chattingRoomService.findAllOfAutoByExpertId(expertId);
-        List<ChattingRoomResponse> chattingRoomResponses = chattingRoomResponse.chattingRoomsResponse();
+        chattingRoomService.read(chattingRoomId, memberId);
 
         //then
-        assertThat(chattingRoomResponses).hasSize(4);
+        verify(chattingRoomJdbcRepository, times(1)).read(eq(chattingRoomId), eq(memberId), any(LocalDateTime.class));
+        verify(eventPublisher, times(1)).publishEvent(new ChattingRoomReadEvent(chattingRoomId, memberId));
+    }
+
+    @DisplayName("채팅방 참여자가 아니면 읽음 처리를 하지 않는 테스트")
+    @Test
+    void read_notParticipant() {
+        //given
+        Long chattingRoomId = 1L;
+        Long memberId = 2L;
+
+        when(chattingRoomRepository.existsById(chattingRoomId)).thenReturn(true);
+        when(chattingRoomJdbcRepository.isParticipant(chattingRoomId, memberId)).thenReturn(false);
 
+        //when -> then
+        assertThrows(BusinessException.class, () -> chattingRoomService.read(chattingRoomId, memberId));
+        verify(chattingRoomJdbcRepository, never()).read(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @DisplayName("채팅방 삭제 테스트")
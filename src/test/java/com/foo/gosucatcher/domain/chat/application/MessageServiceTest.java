@@ -2,6 +2,7 @@ package com.foo.gosucatcher.domain.chat.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,13 +18,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+import com.foo.gosucatcher.domain.chat.application.dto.response.CursorMessagesResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.MessageHistoryResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.MessageResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.MessagesResponse;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoom;
 import com.foo.gosucatcher.domain.chat.domain.ChattingRoomRepository;
 import com.foo.gosucatcher.domain.chat.domain.Message;
+import com.foo.gosucatcher.domain.chat.domain.MessageHistory;
 import com.foo.gosucatcher.domain.chat.domain.MessageRepository;
 import com.foo.gosucatcher.domain.estimate.domain.MemberEstimate;
 import com.foo.gosucatcher.domain.item.domain.MainItem;
@@ -43,6 +48,9 @@ class MessageServiceTest {
 	@Mock
 	private MemberRepository memberRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private MessageService messageService;
 
@@ -135,6 +143,48 @@ class MessageServiceTest {
 		assertThat(messagesResponse.messagesResponse().get(0).content()).isEqualTo("요청서에 대한 견적서입니다.");
 	}
 
+	@DisplayName("커서 이전의 메시지를 요청한 개수만큼 조회하고 다음 커서를 반환하는 테스트")
+	@Test
+	void findHistoryByChattingRoomId() {
+		//given
+		Long chattingRoomId = 1L;
+		List<MessageHistory> histories = List.of(
+			new MessageHistory(9L, 1L, "성이름", "default.png", "세 번째", LocalDateTime.now()),
+			new MessageHistory(8L, 2L, "고수", "default.png", "두 번째", LocalDateTime.now()),
+			new MessageHistory(7L, 1L, "성이름", "default.png", "첫 번째", LocalDateTime.now()));
+
+		when(chattingRoomRepository.existsById(chattingRoomId)).thenReturn(true);
+		when(messageRepository.findHistoryBefore(eq(chattingRoomId), eq(10L), any())).thenReturn(histories);
+
+		//when
+		CursorMessagesResponse response = messageService.findHistoryByChattingRoomId(chattingRoomId, 10L, 2);
+
+		//then
+		assertThat(response.messagesResponse()).extracting(MessageHistoryResponse::id).containsExactly(9L, 8L);
+		assertThat(response.hasNext()).isTrue();
+		assertThat(response.nextCursor()).isEqualTo(8L);
+	}
+
+	@DisplayName("마지막 페이지를 조회하면 다음 커서가 없는 테스트")
+	@Test
+	void findHistoryByChattingRoomId_lastPage() {
+		//given
+		Long chattingRoomId = 1L;
+		List<MessageHistory> histories = List.of(
+			new MessageHistory(7L, 1L, "성이름", "default.png", "첫 번째", LocalDateTime.now()));
+
+		when(chattingRoomRepository.existsById(chattingRoomId)).thenReturn(true);
+		when(messageRepository.findHistoryBefore(eq(chattingRoomId), eq(null), any())).thenReturn(histories);
+
+		//when
+		CursorMessagesResponse response = messageService.findHistoryByChattingRoomId(chattingRoomId, null, 30);
+
+		//then
+		assertThat(response.messagesResponse()).hasSize(1);
+		assertThat(response.hasNext()).isFalse();
+		assertThat(response.nextCursor()).isNull();
+	}
+
 	@DisplayName("채팅 메시지를 삭제하는 테스트")
 	@Test
 	void delete() {
@@ -0,0 +1,227 @@
+package com.foo.gosucatcher.domain.chat.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+import com.foo.gosucatcher.domain.chat.infrastructure.MessageJdbcRepository;
+import com.foo.gosucatcher.domain.chat.infrastructure.MessageWriteAheadLog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MessageWriteBehindBufferTest {
+
+	@TempDir
+	Path walDirectory;
+
+	@Mock
+	private MessageJdbcRepository messageJdbcRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private List<List<PendingMessage>> insertedBatches;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		insertedBatches = new ArrayList<>();
+	}
+
+	private MessageWriteBehindBuffer createBuffer() {
+		MessageWriteAheadLog writeAheadLog = new MessageWriteAheadLog(walDirectory.toString(),
+			new ObjectMapper().findAndRegisterModules());
+		MessageWriteBehindBuffer buffer = new MessageWriteBehindBuffer(writeAheadLog, messageJdbcRepository,
+			transactionManager, new SyncTaskExecutor(), meterRegistry);
+		buffer.recover();
+
+		return buffer;
+	}
+
+	private void recordInsertedBatches() {
+		when(messageJdbcRepository.insertAll(anyList())).thenAnswer(invocation -> {
+			List<PendingMessage> batch = invocation.getArgument(0);
+			insertedBatches.add(List.copyOf(batch));
+
+			return new int[batch.size()];
+		});
+	}
+
+	@Test
+	@DisplayName("채팅방별 전송 순서대로 모아 한 번의 배치로 저장하고 반영이 끝난 로그를 지운다")
+	void flushTest() throws IOException {
+		//given
+		recordInsertedBatches();
+		MessageWriteBehindBuffer buffer = createBuffer();
+		buffer.append(new MessageRequest(1L, 10L, "첫 번째"));
+		buffer.append(new MessageRequest(2L, 20L, "다른 방"));
+		buffer.append(new MessageRequest(1L, 10L, "두 번째"));
+
+		//when
+		buffer.flush();
+
+		//then
+		assertThat(insertedBatches).hasSize(1);
+		assertThat(insertedBatches.get(0)).extracting(PendingMessage::content)
+			.containsExactly("첫 번째", "두 번째", "다른 방");
+		assertThat(buffer.getPendingCount()).isZero();
+		assertThat(meterRegistry.counter("chat.message.flushed").count()).isEqualTo(3);
+		assertThat(meterRegistry.timer("chat.message.flush.lag").count()).isEqualTo(3);
+		assertThat(segmentContents()).allSatisfy(content -> assertThat(content).isEmpty());
+	}
+
+	@Test
+	@DisplayName("대기 중인 메시지가 배치 크기에 도달하면 주기를 기다리지 않고 저장한다")
+	void flushOnThresholdTest() {
+		//given
+		recordInsertedBatches();
+		MessageWriteBehindBuffer buffer = createBuffer();
+
+		//when
+		for (int i = 0; i < 100; i++) {
+			buffer.append(new MessageRequest(1L, 10L, "메시지 " + i));
+		}
+
+		//then
+		assertThat(insertedBatches).hasSize(1);
+		assertThat(insertedBatches.get(0)).hasSize(100);
+		assertThat(buffer.getPendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("DB 반영에 실패한 메시지는 로그에 남아 재시작 후 같은 순서로 다시 저장된다")
+	void recoverFromWriteAheadLogTest() throws IOException {
+		//given
+		doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+			.when(messageJdbcRepository).insertAll(anyList());
+		MessageWriteBehindBuffer crashedBuffer = createBuffer();
+		crashedBuffer.append(new MessageRequest(1L, 10L, "첫 번째"));
+		crashedBuffer.append(new MessageRequest(1L, 10L, "두 번째"));
+		crashedBuffer.flush();
+		assertThat(crashedBuffer.getPendingCount()).isEqualTo(2);
+
+		//when
+		insertedBatches.clear();
+		doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+			.doAnswer(invocation -> {
+				insertedBatches.add(List.copyOf(invocation.<List<PendingMessage>>getArgument(0)));
+				return new int[2];
+			})
+			.when(messageJdbcRepository).insertAll(anyList());
+		MessageWriteBehindBuffer restartedBuffer = createBuffer();
+		restartedBuffer.flush();
+		restartedBuffer.flush();
+
+		//then
+		assertThat(meterRegistry.counter("chat.message.recovered").count()).isEqualTo(2);
+		assertThat(insertedBatches).hasSize(1);
+		assertThat(insertedBatches.get(0)).extracting(PendingMessage::content)
+			.containsExactly("첫 번째", "두 번째");
+		assertThat(restartedBuffer.getPendingCount()).isZero();
+		assertThat(segmentContents()).allSatisfy(content -> assertThat(content).isEmpty());
+	}
+
+	@Test
+	@DisplayName("배치 저장이 제약 조건에 걸리면 한 건씩 저장하고 저장할 수 없는 메시지만 버린다")
+	void deadLetterTest() {
+		//given
+		doThrow(new DataIntegrityViolationException("존재하지 않는 채팅방"))
+			.when(messageJdbcRepository).insertAll(anyList());
+		when(messageJdbcRepository.insert(any(PendingMessage.class))).thenAnswer(invocation -> {
+			PendingMessage message = invocation.getArgument(0);
+			if (message.chattingRoomId() == 99L) {
+				throw new DataIntegrityViolationException("존재하지 않는 채팅방");
+			}
+
+			return 1;
+		});
+		MessageWriteBehindBuffer buffer = createBuffer();
+		buffer.append(new MessageRequest(1L, 10L, "정상"));
+		buffer.append(new MessageRequest(1L, 99L, "잘못된 방"));
+
+		//when
+		buffer.flush();
+
+		//then
+		verify(messageJdbcRepository).insert(argThat(message -> message.chattingRoomId() == 10L));
+		assertThat(buffer.getPendingCount()).isZero();
+		assertThat(meterRegistry.counter("chat.message.flushed").count()).isEqualTo(1);
+		assertThat(meterRegistry.counter("chat.message.dead_lettered").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("한 건씩 저장하다 DB 장애가 나면 이미 저장된 메시지는 제외하고 남은 메시지만 다시 저장한다")
+	void partialFailureTest() throws IOException {
+		//given
+		doThrow(new DataIntegrityViolationException("존재하지 않는 채팅방"))
+			.when(messageJdbcRepository).insertAll(anyList());
+		when(messageJdbcRepository.insert(any(PendingMessage.class)))
+			.thenReturn(1)
+			.thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+		MessageWriteBehindBuffer crashedBuffer = createBuffer();
+		crashedBuffer.append(new MessageRequest(1L, 10L, "첫 번째"));
+		crashedBuffer.append(new MessageRequest(1L, 10L, "두 번째"));
+		crashedBuffer.append(new MessageRequest(1L, 10L, "세 번째"));
+
+		//when
+		crashedBuffer.flush();
+
+		//then
+		assertThat(crashedBuffer.getPendingCount()).isEqualTo(2);
+		assertThat(meterRegistry.counter("chat.message.flushed").count()).isEqualTo(1);
+		assertThat(String.join("", segmentContents()))
+			.doesNotContain("첫 번째")
+			.contains("두 번째", "세 번째");
+
+		doAnswer(invocation -> {
+			insertedBatches.add(List.copyOf(invocation.<List<PendingMessage>>getArgument(0)));
+			return new int[2];
+		}).when(messageJdbcRepository).insertAll(anyList());
+		MessageWriteBehindBuffer restartedBuffer = createBuffer();
+		restartedBuffer.flush();
+
+		assertThat(insertedBatches).hasSize(1);
+		assertThat(insertedBatches.get(0)).extracting(PendingMessage::content)
+			.containsExactly("두 번째", "세 번째");
+		assertThat(segmentContents()).allSatisfy(content -> assertThat(content).isEmpty());
+	}
+
+	private List<String> segmentContents() throws IOException {
+		try (Stream<Path> segments = Files.list(walDirectory)) {
+			List<String> contents = new ArrayList<>();
+			for (Path segment : segments.toList()) {
+				contents.add(Files.readString(segment));
+			}
+
+			return contents;
+		}
+	}
+}
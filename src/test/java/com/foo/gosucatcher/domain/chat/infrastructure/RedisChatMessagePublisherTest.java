@@ -0,0 +1,157 @@
+package com.foo.gosucatcher.domain.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foo.gosucatcher.config.ChatBrokerConfig;
+import com.foo.gosucatcher.config.RedisConfig;
+import com.foo.gosucatcher.config.StompHandler;
+import com.foo.gosucatcher.config.StompMetrics;
+import com.foo.gosucatcher.config.StompProperties;
+import com.foo.gosucatcher.config.WebSocketConfig;
+import com.foo.gosucatcher.domain.chat.application.ChatMessagePublisher;
+import com.foo.gosucatcher.domain.chat.application.dto.request.MessageRequest;
+import com.foo.gosucatcher.global.security.JwtTokenProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import redis.embedded.RedisServer;
+
+class RedisChatMessagePublisherTest {
+
+	private static final Long CHATTING_ROOM_ID = 1L;
+	private static final long RECEIVE_TIMEOUT_SECONDS = 5;
+
+	private static RedisServer redisServer;
+	private static int redisPort;
+
+	private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+		.withUserConfiguration(WebSocketConfig.class, StompHandler.class, StompProperties.class, StompMetrics.class,
+			RedisConfig.class, ChatBrokerConfig.class,
+			SimpleBrokerChatMessagePublisher.class, RedisChatMessagePublisher.class)
+		.withBean(JwtTokenProvider.class, () -> mock(JwtTokenProvider.class))
+		.withBean(ObjectMapper.class, ObjectMapper::new)
+		.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+		.withBean(RedisProperties.class, () -> {
+			RedisProperties redisProperties = new RedisProperties();
+			redisProperties.setPort(redisPort);
+
+			return redisProperties;
+		});
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			redisPort = serverSocket.getLocalPort();
+		}
+		redisServer = new RedisServer(redisPort);
+		redisServer.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		redisServer.stop();
+	}
+
+	@Test
+	@DisplayName("한 서버에서 보낸 채팅 메시지가 Redis를 거쳐 모든 서버의 구독자에게 한 번씩 전달된다")
+	void publishAcrossNodesTest() {
+		contextRunner.withPropertyValues("chat.broker.mode=redis").run(nodeA ->
+			contextRunner.withPropertyValues("chat.broker.mode=redis").run(nodeB -> {
+				//given
+				BlockingQueue<Message<?>> nodeAMessages = subscribe(nodeA, "node-a-session");
+				BlockingQueue<Message<?>> nodeBMessages = subscribe(nodeB, "node-b-session");
+				awaitListening(nodeA);
+				awaitListening(nodeB);
+
+				//when
+				nodeA.getBean(ChatMessagePublisher.class)
+					.publish(new MessageRequest(1L, CHATTING_ROOM_ID, "안녕하세요 고수님"));
+
+				//then
+				assertDelivered(nodeAMessages.poll(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS), "node-a-session");
+				assertDelivered(nodeBMessages.poll(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS), "node-b-session");
+				assertThat(nodeAMessages.poll(200, TimeUnit.MILLISECONDS)).isNull();
+				assertThat(nodeBMessages).isEmpty();
+			}));
+	}
+
+	@Test
+	@DisplayName("브로커 모드를 지정하지 않으면 Redis 없이 내장 브로커로만 전달한다")
+	void simpleBrokerModeTest() {
+		contextRunner.run(context -> {
+			assertThat(context.getBean(ChatMessagePublisher.class)).isInstanceOf(SimpleBrokerChatMessagePublisher.class);
+			assertThat(context.getBeansOfType(RedisMessageListenerContainer.class)).isEmpty();
+
+			BlockingQueue<Message<?>> messages = subscribe(context, "single-node-session");
+			context.getBean(ChatMessagePublisher.class)
+				.publish(new MessageRequest(1L, CHATTING_ROOM_ID, "안녕하세요 고수님"));
+
+			assertDelivered(messages.poll(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS), "single-node-session");
+		});
+	}
+
+	private BlockingQueue<Message<?>> subscribe(ApplicationContext context, String sessionId) {
+		SimpleBrokerMessageHandler broker = context.getBean(SimpleBrokerMessageHandler.class);
+
+		StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+		connect.setSessionId(sessionId);
+		broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+		StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		subscribe.setSessionId(sessionId);
+		subscribe.setSubscriptionId("sub-0");
+		subscribe.setDestination(ChatMessagePublisher.roomDestination(CHATTING_ROOM_ID));
+		broker.handleMessage(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+
+		BlockingQueue<Message<?>> messages = new LinkedBlockingQueue<>();
+		context.getBean("clientOutboundChannel", ExecutorSubscribableChannel.class).subscribe(message -> {
+			if (StompHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+				messages.add(message);
+			}
+		});
+
+		return messages;
+	}
+
+	private void awaitListening(ApplicationContext context) throws InterruptedException {
+		RedisMessageListenerContainer container = context.getBean(RedisMessageListenerContainer.class);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(RECEIVE_TIMEOUT_SECONDS);
+		while (!container.isListening() && System.nanoTime() < deadline) {
+			Thread.sleep(50);
+		}
+	}
+
+	private void assertDelivered(Message<?> message, String sessionId) {
+		assertThat(message).isNotNull();
+
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+		assertThat(accessor.getSessionId()).isEqualTo(sessionId);
+		assertThat(accessor.getDestination()).isEqualTo(ChatMessagePublisher.roomDestination(CHATTING_ROOM_ID));
+		assertThat(new String((byte[])message.getPayload(), StandardCharsets.UTF_8)).contains("안녕하세요 고수님");
+	}
+}
@@ -16,8 +16,13 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.foo.gosucatcher.domain.chat.application.ChattingRoomService;
+import com.foo.gosucatcher.domain.chat.application.MessageService;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomInboxesResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomResponse;
 import com.foo.gosucatcher.domain.chat.application.dto.response.ChattingRoomsResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.CursorMessagesResponse;
+import com.foo.gosucatcher.domain.chat.application.dto.response.MessageHistoryResponse;
 import com.foo.gosucatcher.domain.estimate.application.dto.response.MemberEstimateResponse;
 import com.foo.gosucatcher.domain.estimate.domain.Status;
 import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
@@ -42,6 +47,9 @@ class ChattingRoomControllerTest {
 	@MockBean
 	private ChattingRoomService chattingRoomService;
 
+	@MockBean
+	private MessageService messageService;
+
 	private MainItem mainItem;
 	private SubItem subItem;
 	private SubItemResponse subItemResponse;
@@ -88,6 +96,32 @@ class ChattingRoomControllerTest {
 			.andExpect(jsonPath("$.chattingRoomsResponse[0].memberEstimateResponse.status").value("PROCEEDING"));
 	}
 //
+	@DisplayName("채팅방 메시지 내역 커서 조회 성공 테스트")
+	@Test
+	void findMessagesByChattingRoomId() throws Exception {
+		//given
+		Long chattingRoomId = 1L;
+		MessageHistoryResponse messageHistoryResponse = new MessageHistoryResponse(9L, 1L, "성이름", "default.png",
+			"안녕하세요", LocalDateTime.now());
+		CursorMessagesResponse cursorMessagesResponse = new CursorMessagesResponse(List.of(messageHistoryResponse),
+			9L, true);
+
+		when(messageService.findHistoryByChattingRoomId(chattingRoomId, 10L, 1)).thenReturn(cursorMessagesResponse);
+
+		//when
+		//then
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/chatting-rooms/{chattingRoomId}/messages", chattingRoomId)
+				.param("cursor", "10")
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.messagesResponse[0].id").value(9))
+			.andExpect(jsonPath("$.messagesResponse[0].senderName").value("성이름"))
+			.andExpect(jsonPath("$.messagesResponse[0].senderProfileImage").value("default.png"))
+			.andExpect(jsonPath("$.nextCursor").value(9))
+			.andExpect(jsonPath("$.hasNext").value(true));
+	}
+
 	@DisplayName("채팅방 단건 조회 성공 테스트")
 	@Test
 	void findById() throws Exception {
@@ -159,12 +193,12 @@ class ChattingRoomControllerTest {
 
 		MemberEstimateResponse memberEstimateResponse = new MemberEstimateResponse(1L, 1L, 1L, subItemResponse,"서울시 강남구", LocalDateTime.now().plusDays(3), "세부 설명", Status.PROCEEDING);
 
-		ChattingRoomResponse chattingRoomResponse = new ChattingRoomResponse(1L, memberEstimateResponse);
-		ChattingRoomResponse chattingRoomResponse2 = new ChattingRoomResponse(2L, memberEstimateResponse);
+		ChattingRoomInboxResponse chattingRoomResponse = new ChattingRoomInboxResponse(1L, memberEstimateResponse, 1L, "안녕하세요", LocalDateTime.now(), 2);
+		ChattingRoomInboxResponse chattingRoomResponse2 = new ChattingRoomInboxResponse(2L, memberEstimateResponse, null, null, null, 0);
 
-		List<ChattingRoomResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
+		List<ChattingRoomInboxResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
 
-		ChattingRoomsResponse chattingRoomsResponse = new ChattingRoomsResponse(chattingRoomResponses);
+		ChattingRoomInboxesResponse chattingRoomsResponse = new ChattingRoomInboxesResponse(chattingRoomResponses);
 
 		when(chattingRoomService.findAllByMemberId(memberId)).thenReturn(chattingRoomsResponse);
 
@@ -185,7 +219,9 @@ class ChattingRoomControllerTest {
 			.andExpect(jsonPath("$.chattingRoomsResponse[0].memberEstimateResponse.subItemResponse.description").value(subItemResponse.description()))
 			.andExpect(jsonPath("$.chattingRoomsResponse[0].memberEstimateResponse.location").value("서울시 강남구"))
 			.andExpect(jsonPath("$.chattingRoomsResponse[0].memberEstimateResponse.detailedDescription").value("세부 설명"))
-			.andExpect(jsonPath("$.chattingRoomsResponse[0].memberEstimateResponse.status").value("PROCEEDING"));
+			.andExpect(jsonPath("$.chattingRoomsResponse[0].memberEstimateResponse.status").value("PROCEEDING"))
+			.andExpect(jsonPath("$.chattingRoomsResponse[0].lastMessageContent").value("안녕하세요"))
+			.andExpect(jsonPath("$.chattingRoomsResponse[0].unreadCount").value(2));
 	}
 
 	@DisplayName("고수 별 전체 채팅방 조회 성공 테스트")
@@ -196,12 +232,12 @@ class ChattingRoomControllerTest {
 
 		MemberEstimateResponse memberEstimateResponse = new MemberEstimateResponse(1L, 1L, 1L, subItemResponse,"서울시 강남구", LocalDateTime.now().plusDays(3), "세부 설명", Status.PROCEEDING);
 
-		ChattingRoomResponse chattingRoomResponse = new ChattingRoomResponse(1L, memberEstimateResponse);
-		ChattingRoomResponse chattingRoomResponse2 = new ChattingRoomResponse(2L, memberEstimateResponse);
+		ChattingRoomInboxResponse chattingRoomResponse = new ChattingRoomInboxResponse(1L, memberEstimateResponse, 1L, "안녕하세요", LocalDateTime.now(), 2);
+		ChattingRoomInboxResponse chattingRoomResponse2 = new ChattingRoomInboxResponse(2L, memberEstimateResponse, null, null, null, 0);
 
-		List<ChattingRoomResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
+		List<ChattingRoomInboxResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
 
-		ChattingRoomsResponse chattingRoomsResponse = new ChattingRoomsResponse(chattingRoomResponses);
+		ChattingRoomInboxesResponse chattingRoomsResponse = new ChattingRoomInboxesResponse(chattingRoomResponses);
 
 		when(chattingRoomService.findAllByExpertId(expertId)).thenReturn(chattingRoomsResponse);
 
@@ -233,12 +269,12 @@ class ChattingRoomControllerTest {
 
 		MemberEstimateResponse memberEstimateResponse = new MemberEstimateResponse(1L, 1L, 1L, subItemResponse,"서울시 강남구", LocalDateTime.now().plusDays(3), "세부 설명", Status.PROCEEDING);
 
-		ChattingRoomResponse chattingRoomResponse = new ChattingRoomResponse(1L, memberEstimateResponse);
-		ChattingRoomResponse chattingRoomResponse2 = new ChattingRoomResponse(2L, memberEstimateResponse);
+		ChattingRoomInboxResponse chattingRoomResponse = new ChattingRoomInboxResponse(1L, memberEstimateResponse, 1L, "안녕하세요", LocalDateTime.now(), 2);
+		ChattingRoomInboxResponse chattingRoomResponse2 = new ChattingRoomInboxResponse(2L, memberEstimateResponse, null, null, null, 0);
 
-		List<ChattingRoomResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
+		List<ChattingRoomInboxResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
 
-		ChattingRoomsResponse chattingRoomsResponse = new ChattingRoomsResponse(chattingRoomResponses);
+		ChattingRoomInboxesResponse chattingRoomsResponse = new ChattingRoomInboxesResponse(chattingRoomResponses);
 
 		when(chattingRoomService.findAllOfNormalByExpertId(expertId)).thenReturn(chattingRoomsResponse);
 
@@ -270,12 +306,12 @@ class ChattingRoomControllerTest {
 
 		MemberEstimateResponse memberEstimateResponse = new MemberEstimateResponse(1L, 1L, 1L, subItemResponse,"서울시 강남구", LocalDateTime.now().plusDays(3), "세부 설명", Status.PROCEEDING);
 
-		ChattingRoomResponse chattingRoomResponse = new ChattingRoomResponse(1L, memberEstimateResponse);
-		ChattingRoomResponse chattingRoomResponse2 = new ChattingRoomResponse(2L, memberEstimateResponse);
+		ChattingRoomInboxResponse chattingRoomResponse = new ChattingRoomInboxResponse(1L, memberEstimateResponse, 1L, "안녕하세요", LocalDateTime.now(), 2);
+		ChattingRoomInboxResponse chattingRoomResponse2 = new ChattingRoomInboxResponse(2L, memberEstimateResponse, null, null, null, 0);
 
-		List<ChattingRoomResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
+		List<ChattingRoomInboxResponse> chattingRoomResponses = List.of(chattingRoomResponse, chattingRoomResponse2);
 
-		ChattingRoomsResponse chattingRoomsResponse = new ChattingRoomsResponse(chattingRoomResponses);
+		ChattingRoomInboxesResponse chattingRoomsResponse = new ChattingRoomInboxesResponse(chattingRoomResponses);
 
 		when(chattingRoomService.findAllOfAutoByExpertId(expertId)).thenReturn(chattingRoomsResponse);
 
@@ -299,6 +335,23 @@ class ChattingRoomControllerTest {
 			.andExpect(jsonPath("$.chattingRoomsResponse[0].memberEstimateResponse.status").value("PROCEEDING"));
 	}
 
+	@DisplayName("채팅방 읽음 처리 성공 테스트")
+	@Test
+	void read() throws Exception {
+		//given
+		Long chattingRoomId = 1L;
+		Long memberId = 2L;
+
+		doNothing().when(chattingRoomService).read(chattingRoomId, memberId);
+
+		//when
+		//then
+		mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/chatting-rooms/{chattingRoomId}/read", chattingRoomId)
+				.param("memberId", String.valueOf(memberId))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk());
+	}
+
 	@DisplayName("채팅방 삭제 성공 테스트")
 	@Test
 	void delete() throws Exception {
@@ -34,12 +34,13 @@ import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertResponse
 import com.foo.gosucatcher.domain.expert.domain.Expert;
 import com.foo.gosucatcher.domain.expert.domain.ExpertItemRepository;
 import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.item.application.ItemCatalogCache;
 import com.foo.gosucatcher.domain.item.domain.MainItem;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
-import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
 import com.foo.gosucatcher.domain.member.domain.Member;
 import com.foo.gosucatcher.domain.member.domain.MemberRepository;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
+import com.foo.gosucatcher.global.geo.LocationGeocoder;
 
 @ExtendWith(MockitoExtension.class)
 class MemberEstimateServiceTest {
@@ -51,7 +52,7 @@ class MemberEstimateServiceTest {
 	private MemberRepository memberRepository;
 
 	@Mock
-	private SubItemRepository subItemRepository;
+	private ItemCatalogCache itemCatalogCache;
 
 	@Mock
 	private ExpertEstimateRepository expertEstimateRepository;
@@ -62,6 +63,9 @@ class MemberEstimateServiceTest {
 	@Mock
 	private ExpertItemRepository expertItemRepository;
 
+	@Mock
+	private LocationGeocoder locationGeocoder;
+
 	@InjectMocks
 	private MemberEstimateService memberEstimateService;
 
@@ -115,7 +119,7 @@ class MemberEstimateServiceTest {
 			memberEstimate.getPreferredStartDate(), memberEstimate.getDetailedDescription());
 
 		when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-		when(subItemRepository.findById(subItemId)).thenReturn(Optional.of(subItem));
+		when(itemCatalogCache.getSubItemReference(subItemId)).thenReturn(subItem);
 		when(memberEstimateRepository.save(any(MemberEstimate.class))).thenReturn(memberEstimate);
 		when(memberEstimateRepository.findById(memberEstimateId)).thenReturn(Optional.of(memberEstimate));
 		when(expertRepository.findByMemberId(null)).thenReturn(Optional.of(expert));
@@ -0,0 +1,142 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.foo.gosucatcher.domain.expert.domain.ExpertCoverage;
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.global.geo.GeoPoint;
+
+@ExtendWith(MockitoExtension.class)
+class ExpertGeoIndexTest {
+
+	private static final GeoPoint GANGNAM = GeoPoint.of(37.5172, 127.0473);
+
+	@Mock
+	private ExpertRepository expertRepository;
+
+	@Mock
+	private RedisTemplate<String, String> cacheRedisTemplate;
+
+	@InjectMocks
+	private ExpertGeoIndex expertGeoIndex;
+
+	@BeforeEach
+	void setUp() {
+		when(expertRepository.findAllCoverages()).thenReturn(List.of(
+			new ExpertCoverage(1L, 37.5326, 127.0246, 10, 1L),
+			new ExpertCoverage(2L, 37.5133, 127.1001, 3, 1L),
+			new ExpertCoverage(3L, 35.1796, 129.0756, 500, 1L),
+			new ExpertCoverage(4L, 37.5172, 127.0473, 10, 2L)
+		));
+
+		expertGeoIndex.rebuild();
+	}
+
+	@Test
+	@DisplayName("이동 가능 거리 안에 요청 위치가 포함되는 고수만 가까운 순으로 조회한다")
+	void findCoveringExpertsTest() {
+		//when
+		List<ExpertGeoIndex.NearbyExpert> nearbyExperts = expertGeoIndex.findCoveringExperts(1L, GANGNAM, 10);
+
+		//then
+		assertThat(nearbyExperts).extracting(ExpertGeoIndex.NearbyExpert::expertId)
+			.containsExactly(1L, 3L);
+		assertThat(nearbyExperts.get(0).distance()).isLessThan(nearbyExperts.get(1).distance());
+	}
+
+	@Test
+	@DisplayName("삭제된 고수는 조회되지 않는다")
+	void removeTest() {
+		//when
+		expertGeoIndex.remove(1L);
+
+		//then
+		assertThat(expertGeoIndex.findCoveringExperts(1L, GANGNAM, 10))
+			.extracting(ExpertGeoIndex.NearbyExpert::expertId)
+			.containsExactly(3L);
+		verify(cacheRedisTemplate).convertAndSend(ExpertGeoIndex.CHANGED_CHANNEL, "1");
+	}
+
+	@Test
+	@DisplayName("가장 먼 이동 거리를 가진 고수가 빠지면 탐색 반경도 줄어든다")
+	void removeShrinksMaxTravelDistanceTest() {
+		//when
+		expertGeoIndex.remove(3L);
+
+		//then
+		assertThat(maxTravelDistanceOf(1L)).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 변경된 고수는 DB에서 다시 읽어 색인에 반영한다")
+	void onMessageReloadTest() {
+		//given
+		when(expertRepository.findCoveragesByExpertId(2L)).thenReturn(List.of(
+			new ExpertCoverage(2L, 37.5172, 127.0473, 1, 1L)
+		));
+
+		//when
+		expertGeoIndex.onMessage(new DefaultMessage(ExpertGeoIndex.CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"2".getBytes(StandardCharsets.UTF_8)), null);
+
+		//then
+		assertThat(expertGeoIndex.findCoveringExperts(1L, GANGNAM, 10))
+			.extracting(ExpertGeoIndex.NearbyExpert::expertId)
+			.containsExactly(2L, 1L, 3L);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 삭제된 고수는 커밋된 뒤에만 색인에서 제외된다")
+	void removeAfterCommitTest() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			//when
+			expertGeoIndex.remove(1L);
+
+			//then
+			assertThat(expertGeoIndex.findCoveringExperts(1L, GANGNAM, 10))
+				.extracting(ExpertGeoIndex.NearbyExpert::expertId)
+				.containsExactly(1L, 3L);
+
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+			assertThat(expertGeoIndex.findCoveringExperts(1L, GANGNAM, 10))
+				.extracting(ExpertGeoIndex.NearbyExpert::expertId)
+				.containsExactly(3L);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("등록된 고수가 없는 서비스는 빈 목록을 반환한다")
+	void findCoveringExpertsWithUnknownSubItemTest() {
+		assertThat(expertGeoIndex.findCoveringExperts(99L, GANGNAM, 10)).isEmpty();
+	}
+
+	private int maxTravelDistanceOf(Long subItemId) {
+		Map<?, ?> subItemCells = (Map<?, ?>)ReflectionTestUtils.getField(expertGeoIndex, "subItemCells");
+
+		return (int)ReflectionTestUtils.getField(subItemCells.get(subItemId), "maxTravelDistance");
+	}
+}
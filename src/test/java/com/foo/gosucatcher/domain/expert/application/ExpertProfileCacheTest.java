@@ -0,0 +1,170 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertProfileResponse;
+import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.expert.domain.ExpertImageRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertItemRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.member.domain.Member;
+
+import redis.embedded.RedisServer;
+
+@ExtendWith(MockitoExtension.class)
+class ExpertProfileCacheTest {
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> cacheRedisTemplate;
+
+	@Mock
+	private ExpertRepository expertRepository;
+
+	@Mock
+	private ExpertItemRepository expertItemRepository;
+
+	@Mock
+	private ExpertImageRepository expertImageRepository;
+
+	private Expert expert;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int redisPort;
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			redisPort = serverSocket.getLocalPort();
+		}
+		redisServer = new RedisServer(redisPort);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort));
+		connectionFactory.afterPropertiesSet();
+
+		cacheRedisTemplate = new RedisTemplate<>();
+		cacheRedisTemplate.setConnectionFactory(connectionFactory);
+		cacheRedisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+		cacheRedisTemplate.setValueSerializer(StringRedisSerializer.UTF_8);
+		cacheRedisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		Member member = Member.builder()
+			.name("이홍섭")
+			.password("q1w2e3")
+			.email("sjun@naver.com")
+			.phoneNumber("010")
+			.build();
+
+		expert = Expert.builder()
+			.member(member)
+			.storeName("축구 레슨")
+			.location("서울시 강남구")
+			.maxTravelDistance(10)
+			.description("축구 레슨 해드립니다.")
+			.build();
+		ReflectionTestUtils.setField(expert, "id", 1L);
+
+		when(expertRepository.findWithMemberById(1L)).thenReturn(Optional.of(expert));
+		when(expertItemRepository.findSubItemsByExpertId(1L)).thenReturn(List.of());
+		when(expertImageRepository.findFilenamesByExpertId(1L)).thenReturn(List.of("expert.png"));
+	}
+
+	@AfterEach
+	void flushRedis() {
+		connectionFactory.getConnection().serverCommands().flushDb();
+	}
+
+	private ExpertProfileCache createCache() {
+		return new ExpertProfileCache(expertRepository, expertItemRepository, expertImageRepository,
+			cacheRedisTemplate, new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("처음 조회한 고수 프로필은 로컬 캐시와 Redis에 적재되어 다른 서버도 DB를 조회하지 않는다")
+	void getSuccessTest_readThrough() {
+		//given
+		ExpertProfileCache expertProfileCache = createCache();
+		ExpertProfileCache otherServerCache = createCache();
+
+		//when
+		ExpertProfileResponse profile = expertProfileCache.get(1L);
+		expertProfileCache.get(1L);
+		ExpertProfileResponse otherServerProfile = otherServerCache.get(1L);
+
+		//then
+		assertThat(profile.profile().storeName()).isEqualTo("축구 레슨");
+		assertThat(profile.images().filenames()).containsExactly("expert.png");
+		assertThat(otherServerProfile).isEqualTo(profile);
+		verify(expertRepository, times(1)).findWithMemberById(1L);
+	}
+
+	@Test
+	@DisplayName("무효화된 고수 프로필은 다음 조회 때 DB에서 다시 적재한다")
+	void evictSuccessTest() {
+		//given
+		ExpertProfileCache expertProfileCache = createCache();
+		expertProfileCache.get(1L);
+
+		//when
+		expertProfileCache.onExpertChanged(new ExpertChangedEvent(1L));
+		ReflectionTestUtils.setField(expert, "ratingSum", 5L);
+		ReflectionTestUtils.setField(expert, "reviewCount", 1);
+		ExpertProfileResponse profile = createCache().get(1L);
+
+		//then
+		assertThat(profile.profile().rating()).isEqualTo(5.0);
+		verify(expertRepository, times(2)).findWithMemberById(1L);
+	}
+
+	@Test
+	@DisplayName("적재하는 도중 무효화되면 오래된 프로필을 Redis에 저장하지 않는다")
+	void getSuccessTest_rejectStaleWrite() {
+		//given
+		ExpertProfileCache expertProfileCache = createCache();
+		ExpertProfileCache otherServerCache = createCache();
+		when(expertImageRepository.findFilenamesByExpertId(1L)).thenAnswer(invocation -> {
+			otherServerCache.evict(1L);
+
+			return List.of("expert.png");
+		}).thenReturn(List.of("expert.png"));
+
+		//when
+		expertProfileCache.get(1L);
+		createCache().get(1L);
+
+		//then
+		verify(expertRepository, times(2)).findWithMemberById(1L);
+	}
+}
@@ -0,0 +1,241 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.foo.gosucatcher.config.JpaConfig;
+import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.expert.infrastructure.ExpertRatingJdbcRepository;
+import com.foo.gosucatcher.domain.member.domain.Member;
+import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.domain.member.domain.Roles;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import redis.embedded.RedisServer;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import({JpaConfig.class, ExpertRatingJdbcRepository.class, ExpertRatingRecomputeJob.class,
+	ExpertRatingRecomputeJobTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpertRatingRecomputeJobTest {
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	@TestConfiguration
+	static class TestConfig {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		RedisTemplate<String, String> cacheRedisTemplate() {
+			RedisTemplate<String, String> cacheRedisTemplate = new RedisTemplate<>();
+			cacheRedisTemplate.setConnectionFactory(connectionFactory);
+			cacheRedisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+			cacheRedisTemplate.setValueSerializer(StringRedisSerializer.UTF_8);
+
+			return cacheRedisTemplate;
+		}
+	}
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int redisPort;
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			redisPort = serverSocket.getLocalPort();
+		}
+		redisServer = new RedisServer(redisPort);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@Autowired
+	private ExpertRatingRecomputeJob expertRatingRecomputeJob;
+
+	@Autowired
+	private ExpertRepository expertRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private RedisTemplate<String, String> cacheRedisTemplate;
+
+	private Expert driftedExpert;
+	private Expert consistentExpert;
+
+	@BeforeEach
+	void setUp() {
+		cacheRedisTemplate.delete(ExpertRatingRecomputeJob.WATERMARK_KEY);
+		cacheRedisTemplate.delete(ExpertRatingRecomputeJob.LOCK_KEY);
+		ReflectionTestUtils.setField(expertRatingRecomputeJob, "lastStartedAt", null);
+
+		jdbcTemplate.update("DELETE FROM reviews");
+		expertRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+
+		driftedExpert = saveExpert("drifted@gosu.com", "평점 틀어진 고수");
+		consistentExpert = saveExpert("consistent@gosu.com", "평점 정상 고수");
+
+		insertReview(driftedExpert, 5, LocalDateTime.now());
+		insertReview(driftedExpert, 4, LocalDateTime.now());
+		insertReview(consistentExpert, 3, LocalDateTime.now());
+		jdbcTemplate.update("UPDATE experts SET rating = 4.0, rating_sum = 4, review_count = 1 WHERE id = ?",
+			driftedExpert.getId());
+		jdbcTemplate.update("UPDATE experts SET rating = 3.0, rating_sum = 3, review_count = 1 WHERE id = ?",
+			consistentExpert.getId());
+	}
+
+	@Test
+	@DisplayName("전체 재계산은 리뷰 테이블 기준으로 어긋난 고수의 평점만 보정한다")
+	void recomputeAllTest() {
+		//given
+		double correctedBefore = correctedCount();
+
+		//when
+		ExpertRatingRecomputeResult result = expertRatingRecomputeJob.recomputeAll();
+
+		//then
+		assertThat(result.scannedCount()).isEqualTo(2);
+		assertThat(result.correctedCount()).isEqualTo(1);
+		assertThat(result.conflictedCount()).isZero();
+
+		Expert recomputed = expertRepository.findById(driftedExpert.getId()).get();
+		assertThat(recomputed.getRatingSum()).isEqualTo(9);
+		assertThat(recomputed.getReviewCount()).isEqualTo(2);
+		assertThat(recomputed.getRating()).isEqualTo(4.5);
+		assertThat(jdbcTemplate.queryForObject("SELECT rating FROM experts WHERE id = ?", Double.class,
+			driftedExpert.getId())).isEqualTo(4.5);
+		assertThat(correctedCount() - correctedBefore).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("증분 재계산은 직전 실행 이후 리뷰가 바뀐 고수만 다시 계산한다")
+	void recomputeTouchedTest() {
+		//given
+		expertRatingRecomputeJob.recomputeAll();
+		jdbcTemplate.update("UPDATE reviews SET updated_at = ?", LocalDateTime.now().minusDays(1));
+		jdbcTemplate.update("UPDATE experts SET rating_sum = 0, review_count = 0 WHERE id = ?",
+			consistentExpert.getId());
+		jdbcTemplate.update("UPDATE reviews SET is_deleted = true, updated_at = ? WHERE expert_id = ? AND rating = 5",
+			LocalDateTime.now(), driftedExpert.getId());
+
+		//when
+		ExpertRatingRecomputeResult result = expertRatingRecomputeJob.recomputeTouched();
+
+		//then
+		assertThat(result.scannedCount()).isEqualTo(1);
+		assertThat(result.correctedCount()).isEqualTo(1);
+
+		Expert touched = expertRepository.findById(driftedExpert.getId()).get();
+		assertThat(touched.getReviewCount()).isEqualTo(1);
+		assertThat(touched.getRating()).isEqualTo(4.0);
+
+		Expert untouched = expertRepository.findById(consistentExpert.getId()).get();
+		assertThat(untouched.getReviewCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("재시작 후에도 Redis에 저장된 기준 시각으로 증분 재계산한다")
+	void recomputeTouchedTest_afterRestart() {
+		//given
+		expertRatingRecomputeJob.recomputeAll();
+		ReflectionTestUtils.setField(expertRatingRecomputeJob, "lastStartedAt", null);
+		jdbcTemplate.update("UPDATE reviews SET updated_at = ?", LocalDateTime.now().minusDays(1));
+		jdbcTemplate.update("UPDATE reviews SET updated_at = ? WHERE expert_id = ?", LocalDateTime.now(),
+			driftedExpert.getId());
+
+		//when
+		ExpertRatingRecomputeResult result = expertRatingRecomputeJob.recomputeTouched();
+
+		//then
+		assertThat(result.scannedCount()).isEqualTo(1);
+		assertThat(cacheRedisTemplate.hasKey(ExpertRatingRecomputeJob.LOCK_KEY)).isFalse();
+	}
+
+	@Test
+	@DisplayName("다른 서버가 재계산 중이면 이번 실행은 건너뛴다")
+	void recomputeAllTest_locked() {
+		//given
+		cacheRedisTemplate.opsForValue().set(ExpertRatingRecomputeJob.LOCK_KEY, "other-node");
+
+		//when
+		ExpertRatingRecomputeResult result = expertRatingRecomputeJob.recomputeAll();
+
+		//then
+		assertThat(result.scannedCount()).isZero();
+		assertThat(expertRepository.findById(driftedExpert.getId()).get().getReviewCount()).isEqualTo(1);
+		assertThat(cacheRedisTemplate.opsForValue().get(ExpertRatingRecomputeJob.LOCK_KEY)).isEqualTo("other-node");
+	}
+
+	private double correctedCount() {
+		return meterRegistry.counter("expert.rating.recompute.experts", "mode", "full", "result", "corrected")
+			.count();
+	}
+
+	private Expert saveExpert(String email, String storeName) {
+		Member member = memberRepository.save(Member.builder()
+			.name("재계산")
+			.password("q1w2e3")
+			.email(email)
+			.phoneNumber("01012345678")
+			.role(Roles.ROLE_EXPERT)
+			.build());
+
+		return expertRepository.save(Expert.builder()
+			.member(member)
+			.storeName(storeName)
+			.location("서울시 강남구")
+			.maxTravelDistance(10)
+			.description("평점 재계산 대상 고수")
+			.build());
+	}
+
+	private void insertReview(Expert expert, int rating, LocalDateTime updatedAt) {
+		jdbcTemplate.update("""
+			INSERT INTO reviews (expert_id, content, rating, is_deleted, created_at, updated_at)
+			VALUES (?, ?, ?, false, ?, ?)
+			""", expert.getId(), "리뷰", rating, updatedAt, updatedAt);
+	}
+}
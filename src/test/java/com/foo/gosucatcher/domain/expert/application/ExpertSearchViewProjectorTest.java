@@ -0,0 +1,135 @@
+package com.foo.gosucatcher.domain.expert.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchView;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchViewRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ExpertSearchViewProjectorTest {
+
+	@Mock
+	private ExpertRepository expertRepository;
+
+	@Mock
+	private ExpertSearchViewRepository expertSearchViewRepository;
+
+	@Mock
+	private RedisTemplate<String, String> cacheRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Captor
+	private ArgumentCaptor<List<ExpertSearchView>> rowsCaptor;
+
+	@Captor
+	private ArgumentCaptor<Iterable<ExpertSearchView>> staleRowsCaptor;
+
+	private ExpertSearchViewProjector expertSearchViewProjector;
+
+	@BeforeEach
+	void setUp() {
+		expertSearchViewProjector = new ExpertSearchViewProjector(expertRepository, expertSearchViewRepository,
+			cacheRedisTemplate, transactionManager);
+	}
+
+	@Test
+	@DisplayName("고수 변경 시 전체 목록용 행과 서비스별 행을 다시 만든다")
+	void onExpertChangedTest() {
+		//given
+		when(expertRepository.findSearchViewSourcesByExpertId(1L)).thenReturn(List.of(
+			new ExpertSearchView(1L, 10L, "축구 레슨", "서울특별시 강남구", 10, "설명", 4.5, 2, "a.png"),
+			new ExpertSearchView(1L, 20L, "축구 레슨", "서울특별시 강남구", 10, "설명", 4.5, 2, "a.png")
+		));
+
+		//when
+		expertSearchViewProjector.onExpertChanged(new ExpertChangedEvent(1L));
+
+		//then
+		verify(expertSearchViewRepository).saveAll(rowsCaptor.capture());
+		assertThat(rowsCaptor.getValue()).extracting(ExpertSearchView::getSubItemId)
+			.containsExactly(ExpertSearchView.CATALOG_SUB_ITEM_ID, 10L, 20L);
+	}
+
+	@Test
+	@DisplayName("서비스를 등록하지 않은 고수는 전체 목록용 행만 만든다")
+	void onExpertChangedWithoutSubItemTest() {
+		//given
+		when(expertRepository.findSearchViewSourcesByExpertId(1L)).thenReturn(List.of(
+			new ExpertSearchView(1L, null, "축구 레슨", "서울특별시 강남구", 10, "설명", 0.0, 0, null)
+		));
+
+		//when
+		expertSearchViewProjector.onExpertChanged(new ExpertChangedEvent(1L));
+
+		//then
+		verify(expertSearchViewRepository).saveAll(rowsCaptor.capture());
+		assertThat(rowsCaptor.getValue()).extracting(ExpertSearchView::getSubItemId)
+			.containsExactly(ExpertSearchView.CATALOG_SUB_ITEM_ID);
+	}
+
+	@Test
+	@DisplayName("고수 변경 시 남아 있는 행은 갱신하고 빠진 서비스의 행만 지운다")
+	void onExpertChangedReconcileTest() {
+		//given
+		ExpertSearchView catalogRow = new ExpertSearchView(1L, null, "축구 레슨", "서울특별시 강남구", 10, "설명", 4.0, 1, null);
+		ExpertSearchView removedRow = new ExpertSearchView(1L, 20L, "축구 레슨", "서울특별시 강남구", 10, "설명", 4.0, 1, null);
+		when(expertSearchViewRepository.findAllByExpertId(1L)).thenReturn(List.of(catalogRow, removedRow));
+		when(expertRepository.findSearchViewSourcesByExpertId(1L)).thenReturn(List.of(
+			new ExpertSearchView(1L, 10L, "축구 레슨", "서울특별시 강남구", 10, "설명", 4.5, 2, "a.png")
+		));
+
+		//when
+		expertSearchViewProjector.onExpertChanged(new ExpertChangedEvent(1L));
+
+		//then
+		assertThat(catalogRow.getRating()).isEqualTo(4.5);
+		assertThat(catalogRow.getFilename()).isEqualTo("a.png");
+		verify(expertSearchViewRepository).deleteAllInBatch(staleRowsCaptor.capture());
+		assertThat(staleRowsCaptor.getValue()).containsExactly(removedRow);
+		verify(expertSearchViewRepository).saveAll(rowsCaptor.capture());
+		assertThat(rowsCaptor.getValue()).extracting(ExpertSearchView::getSubItemId).containsExactly(10L);
+	}
+
+	@Test
+	@DisplayName("다른 서버가 재구성 잠금을 잡고 있으면 시작 시 재구성을 건너뛴다")
+	void rebuildSkippedTest() {
+		//given
+		when(cacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(eq("expert_search_view::rebuild"), anyString(), any(Duration.class)))
+			.thenReturn(false);
+
+		//when
+		expertSearchViewProjector.rebuild();
+
+		//then
+		verify(expertRepository, never()).findAllSearchViewSources();
+		verify(expertSearchViewRepository, never()).findAll();
+	}
+}
@@ -3,6 +3,9 @@ package com.foo.gosucatcher.domain.expert.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,19 +21,33 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertSubItemRequest;
+import com.foo.gosucatcher.domain.expert.application.dto.response.CursorExpertsResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertProfileResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.NearbyExpertsResponse;
 import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.expert.domain.ExpertCursor;
 import com.foo.gosucatcher.domain.expert.domain.ExpertItem;
 import com.foo.gosucatcher.domain.expert.domain.ExpertItemRepository;
 import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchView;
+import com.foo.gosucatcher.domain.expert.domain.ExpertSearchViewRepository;
+import com.foo.gosucatcher.domain.expert.domain.SortType;
+import com.foo.gosucatcher.domain.image.application.dto.response.ImageResponse;
+import com.foo.gosucatcher.domain.item.application.ItemCatalogCache;
 import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
 import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
 import com.foo.gosucatcher.domain.item.domain.MainItem;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
-import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
 import com.foo.gosucatcher.domain.member.domain.Member;
+import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+import com.foo.gosucatcher.global.geo.GeoPoint;
+import com.foo.gosucatcher.global.geo.LocationGeocoder;
+import com.foo.gosucatcher.global.security.PrincipalCache;
 
 @ExtendWith(MockitoExtension.class)
 class ExpertServiceTest {
@@ -42,11 +59,29 @@ class ExpertServiceTest {
 	private ExpertRepository expertRepository;
 
 	@Mock
-	private SubItemRepository subItemRepository;
+	private ItemCatalogCache itemCatalogCache;
 
 	@Mock
 	private ExpertItemRepository expertItemRepository;
 
+	@Mock
+	private ExpertGeoIndex expertGeoIndex;
+
+	@Mock
+	private LocationGeocoder locationGeocoder;
+
+	@Mock
+	private ExpertSearchViewRepository expertSearchViewRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private PrincipalCache principalCache;
+
+	@Mock
+	private ExpertProfileCache expertProfileCache;
+
 	private Expert expert;
 	private Member member;
 	private MainItem mainItem;
@@ -95,8 +130,8 @@ class ExpertServiceTest {
 
 		when(expertRepository.findById(expert.getId()))
 			.thenReturn(Optional.of(expert));
-		when(subItemRepository.findByName(request.subItemName()))
-			.thenReturn(Optional.of(subItem));
+		when(itemCatalogCache.getSubItemReferenceByName(request.subItemName()))
+			.thenReturn(subItem);
 
 		//when
 		Long addedExpertId = expertService.addSubItem(expert.getId(), request);
@@ -131,7 +166,8 @@ class ExpertServiceTest {
 		ExpertSubItemRequest request = new ExpertSubItemRequest("세부 서비스 이름");
 
 		Mockito.when(expertRepository.findById(expertId)).thenReturn(Optional.of(expert));
-		Mockito.when(subItemRepository.findByName(request.subItemName())).thenReturn(Optional.empty());
+		Mockito.when(itemCatalogCache.getSubItemReferenceByName(request.subItemName()))
+			.thenThrow(new EntityNotFoundException(ErrorCode.NOT_FOUND_SUB_ITEM));
 
 		// when and then
 		assertThrows(EntityNotFoundException.class, () -> {
@@ -148,8 +184,8 @@ class ExpertServiceTest {
 
 		when(expertRepository.findById(expert.getId()))
 			.thenReturn(Optional.of(expert));
-		when(subItemRepository.findByName("세부 서비스 이름")).
-			thenReturn(Optional.of(subItem));
+		when(itemCatalogCache.getSubItemReferenceByName("세부 서비스 이름")).
+			thenReturn(subItem);
 		when(expertItemRepository.findByExpertAndSubItem(expert, subItem))
 			.thenReturn(Optional.of(expertItem));
 
@@ -171,8 +207,8 @@ class ExpertServiceTest {
 
 		when(expertRepository.findById(expert.getId()))
 			.thenReturn(Optional.of(expert));
-		when(subItemRepository.findByName("세부 서비스 이름")).
-			thenReturn(Optional.of(subItem));
+		when(itemCatalogCache.getSubItemReferenceByName("세부 서비스 이름")).
+			thenReturn(subItem);
 		when(expertItemRepository.findByExpertAndSubItem(expert, subItem))
 			.thenReturn(Optional.empty());
 
@@ -181,15 +217,62 @@ class ExpertServiceTest {
 			() -> expertService.removeSubItem(expert.getId(), removeSubItemRequest));
 	}
 
+	@Test
+	@DisplayName("커서 기반 고수 찾기 성공 - 다음 페이지가 있으면 마지막 고수로 커서를 만든다")
+	void findExpertsByCursorSuccessTest() {
+		//given
+		ExpertSearchView firstExpert = new ExpertSearchView(2L, 3L, "축구 레슨", "서울시 강남구", 10, "축구 레슨 해드립니다.",
+			4.5, 3, "a.png");
+		ExpertSearchView secondExpert = new ExpertSearchView(1L, 3L, "농구 레슨", "서울시 강남구", 10, "농구 레슨 해드립니다.",
+			4.0, 7, null);
+
+		when(itemCatalogCache.findSubItemIdByName("세부 서비스 이름"))
+			.thenReturn(Optional.of(3L));
+		when(expertSearchViewRepository.findExpertsOrderByRatingAfter(eq(3L), isNull(), eq(0), eq(0.0), isNull(),
+			any()))
+			.thenReturn(List.of(firstExpert, secondExpert));
+
+		//when
+		CursorExpertsResponse response = expertService.findExpertsByCursor("세부 서비스 이름", null, SortType.RATING,
+			null, 1);
+
+		//then
+		assertThat(response.hasNext()).isTrue();
+		assertThat(response.expertsResponse()).hasSize(1);
+		assertThat(response.expertsResponse().get(0).filename()).isEqualTo("a.png");
+		assertThat(ExpertCursor.decode(response.nextCursor()).id()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("주변 고수 찾기 - 요청 크기는 최대 페이지 크기로 제한된다")
+	void findNearbyExpertsTest_sizeCapped() {
+		//given
+		GeoPoint point = GeoPoint.of(37.5172, 127.0473);
+
+		when(itemCatalogCache.findSubItemIdByName("세부 서비스 이름"))
+			.thenReturn(Optional.of(1L));
+		when(expertGeoIndex.findCoveringExperts(1L, point, 100))
+			.thenReturn(List.of());
+
+		//when
+		NearbyExpertsResponse response = expertService.findNearbyExperts("세부 서비스 이름", null, 37.5172, 127.0473,
+			10_000);
+
+		//then
+		assertThat(response.nearbyExpertsResponse()).isEmpty();
+		verify(expertGeoIndex).findCoveringExperts(1L, point, 100);
+	}
+
 	@Test
 	@DisplayName("고수 서브 아이템 조회 성공")
 	void findAllByExpertIdSuccessTest() {
 		// given
-		when(expertRepository.findExpertWithSubItemsById(1L))
-			.thenReturn(Optional.of(expert));
-
 		expert.addExpertItem(expertItem);
 
+		when(expertProfileCache.get(1L))
+			.thenReturn(new ExpertProfileResponse(ExpertResponse.from(expert), SubItemsResponse.from(expert),
+				new ImageResponse(List.of())));
+
 		//when
 		SubItemsResponse subItemsResponse = expertService.getSubItemsByExpertId(1L);
 
@@ -204,8 +287,8 @@ class ExpertServiceTest {
 	@DisplayName("고수 서브 아이템 조회 실패 - 고수가 없는 경우")
 	void findAllByExpertIdFailTest_notFoundExpert() {
 		//given
-		when(expertRepository.findExpertWithSubItemsById(1L))
-			.thenReturn(Optional.empty());
+		when(expertProfileCache.get(1L))
+			.thenThrow(new EntityNotFoundException(ErrorCode.NOT_FOUND_EXPERT));
 
 		//when -> then
 		assertThrows(EntityNotFoundException.class, () -> {
@@ -0,0 +1,37 @@
+package com.foo.gosucatcher.domain.expert.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.foo.gosucatcher.global.error.exception.InvalidValueException;
+
+class ExpertCursorTest {
+
+	@Test
+	@DisplayName("커서는 인코딩 후 같은 값으로 디코딩된다")
+	void encodeAndDecodeTest() {
+		//given
+		ExpertCursor cursor = new ExpertCursor(12, 4.5, 30L);
+
+		//when
+		ExpertCursor decoded = ExpertCursor.decode(cursor.encode());
+
+		//then
+		assertThat(decoded).isEqualTo(cursor);
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지 커서를 반환한다")
+	void decodeEmptyCursorTest() {
+		assertThat(ExpertCursor.decode(null).id()).isNull();
+	}
+
+	@Test
+	@DisplayName("잘못된 커서는 디코딩에 실패한다")
+	void decodeInvalidCursorTest() {
+		assertThrows(InvalidValueException.class, () -> ExpertCursor.decode("not-a-cursor"));
+	}
+}
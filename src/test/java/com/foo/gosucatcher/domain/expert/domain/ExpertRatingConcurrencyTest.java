@@ -0,0 +1,136 @@
+package com.foo.gosucatcher.domain.expert.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.foo.gosucatcher.config.JpaConfig;
+import com.foo.gosucatcher.domain.member.domain.Member;
+import com.foo.gosucatcher.domain.member.domain.MemberRepository;
+import com.foo.gosucatcher.domain.member.domain.Roles;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpertRatingConcurrencyTest {
+
+	private static final int REVIEWER_COUNT = 64;
+
+	@Autowired
+	private ExpertRepository expertRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private Expert expert;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		expert = transactionTemplate.execute(status -> {
+			Member member = memberRepository.save(Member.builder()
+				.name("동시성")
+				.password("q1w2e3")
+				.email("concurrency@gosu.com")
+				.phoneNumber("01012345678")
+				.role(Roles.ROLE_EXPERT)
+				.build());
+
+			return expertRepository.save(Expert.builder()
+				.member(member)
+				.storeName("평점 동시성")
+				.location("서울시 강남구")
+				.maxTravelDistance(10)
+				.description("동시에 리뷰가 작성되는 고수")
+				.build());
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> {
+			expertRepository.deleteAllInBatch(List.of(expert));
+			memberRepository.deleteAllInBatch(List.of(expert.getMember()));
+		});
+	}
+
+	@Test
+	@DisplayName("64명이 동시에 리뷰를 작성해도 평점 합계와 리뷰 수가 유실되지 않는다")
+	void addRatingConcurrencyTest() throws Exception {
+		//given
+		ExecutorService executorService = Executors.newFixedThreadPool(REVIEWER_COUNT);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		long expectedRatingSum = 0;
+
+		for (int reviewer = 0; reviewer < REVIEWER_COUNT; reviewer++) {
+			int rating = reviewer % 5 + 1;
+			expectedRatingSum += rating;
+
+			results.add(executorService.submit(() -> {
+				startLatch.await();
+
+				return transactionTemplate.execute(status -> expertRepository.addRating(expert.getId(), rating));
+			}));
+		}
+
+		//when
+		startLatch.countDown();
+		for (Future<Integer> result : results) {
+			assertThat(result.get()).isEqualTo(1);
+		}
+		executorService.shutdown();
+
+		//then
+		Expert ratedExpert = expertRepository.findById(expert.getId()).orElseThrow();
+		double expectedAverage = Math.round((double)expectedRatingSum / REVIEWER_COUNT * 10) / 10.0;
+
+		assertThat(ratedExpert.getReviewCount()).isEqualTo(REVIEWER_COUNT);
+		assertThat(ratedExpert.getRatingSum()).isEqualTo(expectedRatingSum);
+		assertThat(ratedExpert.getRating()).isEqualTo(expectedAverage);
+	}
+
+	@Test
+	@DisplayName("리뷰 평점 수정과 삭제는 합계에서 차이만큼 반영하고 평균을 다시 계산한다")
+	void changeAndRemoveRatingTest() {
+		//given
+		transactionTemplate.executeWithoutResult(status -> {
+			expertRepository.addRating(expert.getId(), 5);
+			expertRepository.addRating(expert.getId(), 4);
+			expertRepository.addRating(expert.getId(), 4);
+		});
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> {
+			expertRepository.changeRating(expert.getId(), -3);
+			expertRepository.removeRating(expert.getId(), 5);
+		});
+
+		//then
+		Expert ratedExpert = expertRepository.findById(expert.getId()).orElseThrow();
+		assertThat(ratedExpert.getReviewCount()).isEqualTo(2);
+		assertThat(ratedExpert.getRatingSum()).isEqualTo(5);
+		assertThat(ratedExpert.getRating()).isEqualTo(2.5);
+	}
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.doNothing;
 import static org.mockito.BDDMockito.doThrow;
 import static org.mockito.BDDMockito.given;
@@ -39,10 +40,14 @@ import com.foo.gosucatcher.domain.expert.application.ExpertService;
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertCreateRequest;
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertSubItemRequest;
 import com.foo.gosucatcher.domain.expert.application.dto.request.ExpertUpdateRequest;
+import com.foo.gosucatcher.domain.expert.application.dto.response.CursorExpertsResponse;
 import com.foo.gosucatcher.domain.expert.application.dto.response.ExpertResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.NearbyExpertResponse;
+import com.foo.gosucatcher.domain.expert.application.dto.response.NearbyExpertsResponse;
 import com.foo.gosucatcher.domain.expert.application.dto.response.SlicedExpertsResponse;
 import com.foo.gosucatcher.domain.expert.domain.Expert;
 import com.foo.gosucatcher.domain.expert.domain.ExpertRepository;
+import com.foo.gosucatcher.domain.expert.domain.SortType;
 import com.foo.gosucatcher.domain.image.ImageService;
 import com.foo.gosucatcher.domain.image.application.dto.response.ImageResponse;
 import com.foo.gosucatcher.domain.image.application.dto.response.ImagesResponse;
@@ -437,6 +442,48 @@ class ExpertControllerTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("커서 기반 고수찾기 성공")
+	void searchExpertsByCursorSuccessTest() throws Exception {
+		// given
+		ExpertResponse expertResponse = new ExpertResponse(1L, "업체명1", "위치1", 100, "부가설명1", 4.5, 3, null);
+		CursorExpertsResponse cursorExpertsResponse = new CursorExpertsResponse(List.of(expertResponse), "next", true);
+		given(expertService.findExpertsByCursor(eq("세부서비스"), eq("위치1"), eq(SortType.RATING), isNull(), eq(20)))
+			.willReturn(cursorExpertsResponse);
+
+		// when -> then
+		mockMvc.perform(get("/api/v1/experts/search/cursor")
+				.param("subItem", "세부서비스")
+				.param("location", "위치1")
+				.param("sortType", "RATING"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.expertsResponse[0].storeName").value("업체명1"))
+			.andExpect(jsonPath("$.nextCursor").value("next"))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("주변 고수찾기 성공")
+	void searchNearbyExpertsSuccessTest() throws Exception {
+		// given
+		ExpertResponse expertResponse = new ExpertResponse(1L, "업체명1", "서울특별시 강남구", 10, "부가설명1", 0.0, 0,
+			"filename.jpg");
+		NearbyExpertsResponse nearbyExpertsResponse = new NearbyExpertsResponse(
+			List.of(new NearbyExpertResponse(expertResponse, 1.5)));
+		given(expertService.findNearbyExperts(eq("세부서비스"), eq("서울특별시 강남구"), any(), any(), eq(20)))
+			.willReturn(nearbyExpertsResponse);
+
+		// when -> then
+		mockMvc.perform(get("/api/v1/experts/search/nearby")
+				.param("subItem", "세부서비스")
+				.param("location", "서울특별시 강남구"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.nearbyExpertsResponse[0].expert.storeName").value("업체명1"))
+			.andExpect(jsonPath("$.nearbyExpertsResponse[0].distance").value(1.5))
+			.andDo(print());
+	}
+
 	@Test
 	@DisplayName("고수 서브 아이템 삭제 성공")
 	void removeSubItemSuccessTest() throws Exception {
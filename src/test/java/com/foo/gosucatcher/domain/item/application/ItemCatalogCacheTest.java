@@ -0,0 +1,115 @@
+package com.foo.gosucatcher.domain.item.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
+import com.foo.gosucatcher.domain.item.domain.MainItem;
+import com.foo.gosucatcher.domain.item.domain.MainItemRepository;
+import com.foo.gosucatcher.domain.item.domain.SubItem;
+import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
+import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCatalogCacheTest {
+
+	@Mock
+	private SubItemRepository subItemRepository;
+
+	@Mock
+	private MainItemRepository mainItemRepository;
+
+	@InjectMocks
+	private ItemCatalogCache itemCatalogCache;
+
+	private SubItem subItem;
+
+	@BeforeEach
+	void setUp() {
+		MainItem mainItem = MainItem.builder()
+			.name("레슨")
+			.description("레슨 설명")
+			.build();
+		ReflectionTestUtils.setField(mainItem, "id", 1L);
+
+		subItem = SubItem.builder()
+			.mainItem(mainItem)
+			.name("영어 회화")
+			.description("영어 회화 설명")
+			.build();
+		ReflectionTestUtils.setField(subItem, "id", 1L);
+	}
+
+	@Test
+	@DisplayName("같은 하위 서비스를 반복 조회하면 DB는 한 번만 조회한다")
+	void getSubItemCacheHitTest() {
+		//given
+		when(subItemRepository.findByIdWithMainItem(1L)).thenReturn(Optional.of(subItem));
+
+		//when
+		SubItemResponse first = itemCatalogCache.getSubItem(1L);
+		SubItemResponse second = itemCatalogCache.getSubItem(1L);
+
+		//then
+		assertThat(second).isEqualTo(first);
+		assertThat(second.mainItemName()).isEqualTo("레슨");
+		verify(subItemRepository, times(1)).findByIdWithMainItem(1L);
+	}
+
+	@Test
+	@DisplayName("무효화 후에는 DB에서 다시 조회한다")
+	void invalidateAllTest() {
+		//given
+		when(subItemRepository.findByName("영어 회화")).thenReturn(Optional.of(subItem));
+		itemCatalogCache.findSubItemIdByName("영어 회화");
+
+		//when
+		itemCatalogCache.invalidateAll();
+		Optional<Long> subItemId = itemCatalogCache.findSubItemIdByName("영어 회화");
+
+		//then
+		assertThat(subItemId).contains(1L);
+		verify(subItemRepository, times(2)).findByName("영어 회화");
+	}
+
+	@Test
+	@DisplayName("워밍업된 카탈로그는 DB 조회 없이 응답한다")
+	void warmUpTest() {
+		//given
+		when(subItemRepository.findAllWithMainItem()).thenReturn(List.of(subItem));
+		when(mainItemRepository.findAll()).thenReturn(List.of(subItem.getMainItem()));
+
+		//when
+		itemCatalogCache.warmUp();
+
+		//then
+		assertThat(itemCatalogCache.findSubItemIdByName("영어 회화")).contains(1L);
+		assertThat(itemCatalogCache.findAllSubItems().subItemsResponse()).hasSize(1);
+		verify(subItemRepository, times(1)).findAllWithMainItem();
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 하위 서비스 조회 시 예외가 발생한다")
+	void getSubItemNotFoundTest() {
+		//given
+		when(subItemRepository.findByIdWithMainItem(99L)).thenReturn(Optional.empty());
+
+		//when -> then
+		assertThrows(EntityNotFoundException.class, () -> itemCatalogCache.getSubItem(99L));
+	}
+}
@@ -6,6 +6,8 @@ import com.foo.gosucatcher.domain.item.application.dto.response.main.MainItemRes
 import com.foo.gosucatcher.domain.item.application.dto.response.main.MainItemsResponse;
 import com.foo.gosucatcher.domain.item.domain.MainItem;
 import com.foo.gosucatcher.domain.item.domain.MainItemRepository;
+import com.foo.gosucatcher.domain.search.application.SubItemSearchIndex;
+import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +39,12 @@ class MainItemServiceUnitTest {
     @Mock
     private MainItemRepository mainItemRepository;
 
+    @Mock
+    private SubItemSearchIndex subItemSearchIndex;
+
+    @Mock
+    private ItemCatalogCache itemCatalogCache;
+
     private MainItem mainItem;
 
     @BeforeEach
@@ -57,8 +65,8 @@ class MainItemServiceUnitTest {
         when(mainItemRepository.save(any(MainItem.class)))
             .thenReturn(mainItem);
 
-        when(mainItemRepository.findById(null))
-            .thenReturn(Optional.of(mainItem));
+        when(itemCatalogCache.getMainItem(null))
+            .thenReturn(MainItemResponse.from(mainItem));
 
         //when
         MainItemResponse mainItemResponse = mainItemService.create(mainItemCreateRequest);
@@ -91,8 +99,8 @@ class MainItemServiceUnitTest {
         //given
         Long mainItemId = 1L;
 
-        when(mainItemRepository.findById(mainItemId))
-            .thenReturn(Optional.of(mainItem));
+        when(itemCatalogCache.getMainItem(mainItemId))
+            .thenReturn(MainItemResponse.from(mainItem));
 
         //when
         MainItemResponse foundMainItem = mainItemService.findById(mainItemId);
@@ -110,8 +118,8 @@ class MainItemServiceUnitTest {
         //given
         Long mainItemId = 1L;
 
-        when(mainItemRepository.findById(mainItemId))
-            .thenReturn(Optional.empty());
+        when(itemCatalogCache.getMainItem(mainItemId))
+            .thenThrow(new EntityNotFoundException(ErrorCode.NOT_FOUND_MAIN_ITEM));
 
         //when -> then
         assertThrows(EntityNotFoundException.class, () -> mainItemService.findById(mainItemId));
@@ -124,8 +132,8 @@ class MainItemServiceUnitTest {
         //given
         List<MainItem> mainItemList = Collections.singletonList(mainItem);
 
-        when(mainItemRepository.findAll())
-            .thenReturn(mainItemList);
+        when(itemCatalogCache.findAllMainItems())
+            .thenReturn(MainItemsResponse.from(mainItemList));
 
         //when
         MainItemsResponse mainItemsResponse = mainItemService.findAll();
@@ -144,8 +152,8 @@ class MainItemServiceUnitTest {
         //given
         List<MainItem> mainItemList = Collections.emptyList();
 
-        when(mainItemRepository.findAll())
-            .thenReturn(mainItemList);
+        when(itemCatalogCache.findAllMainItems())
+            .thenReturn(MainItemsResponse.from(mainItemList));
 
         //when
         MainItemsResponse mainItemsResponse = mainItemService.findAll();
@@ -38,6 +38,8 @@ import com.foo.gosucatcher.domain.item.domain.MainItemRepository;
 import com.foo.gosucatcher.domain.item.domain.SubItem;
 import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
 import com.foo.gosucatcher.domain.member.domain.Member;
+import com.foo.gosucatcher.domain.search.application.SubItemSearchIndex;
+import com.foo.gosucatcher.global.error.ErrorCode;
 import com.foo.gosucatcher.global.error.exception.BusinessException;
 import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
 
@@ -56,6 +58,12 @@ class SubItemServiceUnitTest {
 	@Mock
 	private ExpertRepository expertRepository;
 
+	@Mock
+	private SubItemSearchIndex subItemSearchIndex;
+
+	@Mock
+	private ItemCatalogCache itemCatalogCache;
+
 	private Member member;
 	private MainItem mainItem;
 	private SubItem subItem;
@@ -161,8 +169,8 @@ class SubItemServiceUnitTest {
 		//given
 		List<SubItem> subItemList = Collections.singletonList(subItem);
 
-		when(subItemRepository.findAll())
-			.thenReturn(subItemList);
+		when(itemCatalogCache.findAllSubItems())
+			.thenReturn(SubItemsResponse.from(subItemList));
 
 		//when
 		SubItemsResponse subItemsResponse = subItemService.findAll();
@@ -182,8 +190,8 @@ class SubItemServiceUnitTest {
 		//given
 		Long subItemId = subItem.getId();
 
-		when(subItemRepository.findById(subItemId))
-			.thenReturn(Optional.of(subItem));
+		when(itemCatalogCache.getSubItem(subItemId))
+			.thenReturn(SubItemResponse.from(subItem));
 
 		//when
 		SubItemResponse subItemResponse = subItemService.findById(subItemId);
@@ -199,8 +207,8 @@ class SubItemServiceUnitTest {
 
 		//given
 		Long subItemId = subItem.getId();
-		when(subItemRepository.findById(subItemId))
-			.thenReturn(Optional.empty());
+		when(itemCatalogCache.getSubItem(subItemId))
+			.thenThrow(new EntityNotFoundException(ErrorCode.NOT_FOUND_SUB_ITEM));
 
 		//when -> then
 		assertThrows(EntityNotFoundException.class, () -> subItemService.findById(subItemId));
@@ -0,0 +1,145 @@
+package com.foo.gosucatcher.domain.mail.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.mail.internet.MimeMessage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.foo.gosucatcher.config.EmailAuthProperties;
+import com.foo.gosucatcher.domain.mail.domain.MailOutbox;
+import com.foo.gosucatcher.domain.mail.domain.MailOutboxRepository;
+import com.foo.gosucatcher.domain.mail.domain.MailOutboxStatus;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	@Mock
+	private MailOutboxRepository mailOutboxRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private MailOutbox authMail;
+	private MailOutbox recoveryMail;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+
+		authMail = MailOutbox.builder()
+			.recipient("sjun@naver.com")
+			.subject("고수캐쳐(GoSu-Catcher) 이메일 인증")
+			.body("<h1>123456</h1>")
+			.build();
+		ReflectionTestUtils.setField(authMail, "id", 1L);
+
+		recoveryMail = MailOutbox.builder()
+			.recipient("gosu@gmail.com")
+			.subject("임시 비밀번호 발급")
+			.body("<h1>temporary</h1>")
+			.build();
+		ReflectionTestUtils.setField(recoveryMail, "id", 2L);
+
+		when(mailOutboxRepository.findDueIds(eq(MailOutboxStatus.PENDING), any(LocalDateTime.class), any()))
+			.thenReturn(List.of(1L, 2L))
+			.thenReturn(List.of());
+		when(mailOutboxRepository.claim(anyList(), anyString(), any(LocalDateTime.class), eq(MailOutboxStatus.PENDING),
+			eq(MailOutboxStatus.SENDING)))
+			.thenReturn(2);
+		when(mailOutboxRepository.findAllByClaimTokenOrderByIdAsc(anyString()))
+			.thenReturn(List.of(authMail, recoveryMail));
+	}
+
+	private MailOutboxDispatcher createDispatcher(int smtpPort) {
+		JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+		javaMailSender.setHost("localhost");
+		javaMailSender.setPort(smtpPort);
+
+		EmailAuthProperties emailAuthProperties = new EmailAuthProperties();
+		emailAuthProperties.setSenderEmail("no-reply@gosu.com");
+
+		return new MailOutboxDispatcher(mailOutboxRepository, javaMailSender, transactionManager,
+			new SyncTaskExecutor(), emailAuthProperties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("적재된 메일을 한 번의 SMTP 세션으로 발송하고 발송 완료로 표시한다")
+	void drainSuccessTest() throws Exception {
+		//given
+		MailOutboxDispatcher mailOutboxDispatcher = createDispatcher(greenMail.getSmtp().getPort());
+
+		//when
+		mailOutboxDispatcher.requestDrain();
+
+		//then
+		MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+		assertThat(receivedMessages).hasSize(2);
+		assertThat(receivedMessages[0].getSubject()).isEqualTo("고수캐쳐(GoSu-Catcher) 이메일 인증");
+		assertThat(authMail.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+		assertThat(recoveryMail.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+		assertThat(authMail.getBody()).isNull();
+		assertThat(recoveryMail.getBody()).isNull();
+		assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("메일을 만들 수 없는 수신자는 재시도하지 않고 본문을 지운 채 최종 실패로 표시한다")
+	void drainFailTest_invalidRecipient() {
+		//given
+		ReflectionTestUtils.setField(authMail, "recipient", "<sjun@naver.com");
+		MailOutboxDispatcher mailOutboxDispatcher = createDispatcher(greenMail.getSmtp().getPort());
+
+		//when
+		mailOutboxDispatcher.requestDrain();
+
+		//then
+		assertThat(authMail.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+		assertThat(authMail.getBody()).isNull();
+		assertThat(recoveryMail.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+		assertThat(meterRegistry.counter("mail.outbox.failed").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("SMTP 서버에 연결할 수 없으면 백오프 후 재시도하도록 대기 상태로 되돌린다")
+	void drainFailTest_retryWithBackoff() {
+		//given
+		int closedPort = greenMail.getSmtp().getPort() + 1;
+		MailOutboxDispatcher mailOutboxDispatcher = createDispatcher(closedPort);
+
+		//when
+		mailOutboxDispatcher.requestDrain();
+
+		//then
+		assertThat(authMail.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+		assertThat(authMail.getAttemptCount()).isEqualTo(1);
+		assertThat(authMail.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(meterRegistry.counter("mail.outbox.retried").count()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,62 @@
+package com.foo.gosucatcher.domain.member.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.foo.gosucatcher.domain.member.domain.VerificationChannel;
+import com.foo.gosucatcher.domain.member.domain.VerificationResult;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationCodeRedisRepositoryTest {
+
+	@Mock
+	private RedisTemplate<String, String> verificationRedisTemplate;
+
+	@InjectMocks
+	private VerificationCodeRedisRepository verificationCodeRedisRepository;
+
+	@Test
+	@DisplayName("인증번호와 시도 횟수 키를 같은 해시 태그로 묶어 한 번에 저장한다")
+	void saveTest() {
+		//when
+		verificationCodeRedisRepository.save(VerificationChannel.SMS, "01012345678", "123456", 600L);
+
+		//then
+		verify(verificationRedisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+			eq(List.of("verification:{sms:01012345678}:code", "verification:{sms:01012345678}:attempts")),
+			eq("123456"), eq("600"));
+	}
+
+	@Test
+	@DisplayName("스크립트 결과를 인증 결과로 변환한다")
+	void verifyTest() {
+		//given
+		when(verificationRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), eq("123456"), eq("5")))
+			.thenReturn(0L, 2L, -2L, -1L);
+
+		//when -> then
+		assertThat(verificationCodeRedisRepository.verify(VerificationChannel.EMAIL, "sjun@naver.com", "123456"))
+			.isEqualTo(VerificationResult.VERIFIED);
+		assertThat(verificationCodeRedisRepository.verify(VerificationChannel.EMAIL, "sjun@naver.com", "123456"))
+			.isEqualTo(VerificationResult.MISMATCHED);
+		assertThat(verificationCodeRedisRepository.verify(VerificationChannel.EMAIL, "sjun@naver.com", "123456"))
+			.isEqualTo(VerificationResult.LOCKED);
+		assertThat(verificationCodeRedisRepository.verify(VerificationChannel.EMAIL, "sjun@naver.com", "123456"))
+			.isEqualTo(VerificationResult.EXPIRED);
+	}
+}
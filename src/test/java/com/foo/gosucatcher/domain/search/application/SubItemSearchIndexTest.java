@@ -0,0 +1,189 @@
+package com.foo.gosucatcher.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
+import com.foo.gosucatcher.domain.item.domain.MainItem;
+import com.foo.gosucatcher.domain.item.domain.SubItem;
+import com.foo.gosucatcher.domain.item.domain.SubItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SubItemSearchIndexTest {
+
+	@InjectMocks
+	private SubItemSearchIndex subItemSearchIndex;
+
+	@Mock
+	private SubItemRepository subItemRepository;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Mock
+	private RedisTemplate<String, String> cacheRedisTemplate;
+
+	private MainItem cleaning;
+	private MainItem lesson;
+
+	@BeforeEach
+	void setUp() {
+		cleaning = createMainItem(1L, "청소");
+		lesson = createMainItem(2L, "레슨");
+
+		when(subItemRepository.findAllWithMainItem()).thenReturn(List.of(
+			createSubItem(1L, cleaning, "이사 청소"),
+			createSubItem(2L, cleaning, "청소"),
+			createSubItem(3L, cleaning, "청소년 방 정리"),
+			createSubItem(4L, lesson, "영어 과외")
+		));
+
+		subItemSearchIndex.rebuild();
+	}
+
+	@DisplayName("정확히 일치하는 이름, 접두어, 부분 일치 순으로 정렬하여 검색한다")
+	@Test
+	void searchRankedByMatchTest() {
+		//when
+		List<SubItemResponse> result = subItemSearchIndex.search("청소");
+
+		//then
+		assertThat(result).extracting(SubItemResponse::id)
+			.containsExactly(2L, 3L, 1L);
+	}
+
+	@DisplayName("완성되지 않은 한글 음절로도 검색할 수 있다")
+	@Test
+	void searchPartialSyllableTest() {
+		//when
+		List<SubItemResponse> result = subItemSearchIndex.search("영ㅇ");
+
+		//then
+		assertThat(result).extracting(SubItemResponse::name)
+			.containsExactly("영어 과외");
+	}
+
+	@DisplayName("메인 서비스 이름으로도 하위 서비스를 검색할 수 있다")
+	@Test
+	void searchByMainItemNameTest() {
+		//when
+		List<SubItemResponse> result = subItemSearchIndex.search("레슨");
+
+		//then
+		assertThat(result).extracting(SubItemResponse::id)
+			.containsExactly(4L);
+	}
+
+	@DisplayName("하위 서비스 수정/삭제 시 색인이 갱신된다")
+	@Test
+	void updateIndexTest() {
+		//given
+		SubItem renamed = createSubItem(4L, lesson, "수학 과외");
+
+		//when
+		subItemSearchIndex.put(renamed);
+		subItemSearchIndex.remove(2L);
+
+		//then
+		assertThat(subItemSearchIndex.search("영어")).isEmpty();
+		assertThat(subItemSearchIndex.search("수학")).extracting(SubItemResponse::id).containsExactly(4L);
+		assertThat(subItemSearchIndex.search("청소")).extracting(SubItemResponse::id).containsExactly(3L, 1L);
+		verify(cacheRedisTemplate, times(2)).convertAndSend(SubItemSearchIndex.CHANGED_CHANNEL, "");
+	}
+
+	@DisplayName("다른 서버에서 색인 변경을 전파받으면 DB에서 색인을 다시 만든다")
+	@Test
+	void onMessageRebuildTest() {
+		//given
+		when(subItemRepository.findAllWithMainItem()).thenReturn(List.of(
+			createSubItem(5L, lesson, "수학 과외")
+		));
+
+		//when
+		subItemSearchIndex.onMessage(null, null);
+
+		//then
+		assertThat(subItemSearchIndex.search("청소")).isEmpty();
+		assertThat(subItemSearchIndex.search("수학")).extracting(SubItemResponse::id).containsExactly(5L);
+	}
+
+	@DisplayName("메인 서비스 이름 변경 시 하위 서비스 색인에 반영된다")
+	@Test
+	void renameMainItemTest() {
+		//when
+		subItemSearchIndex.renameMainItem(2L, "과외");
+
+		//then
+		assertThat(subItemSearchIndex.search("레슨")).isEmpty();
+		assertThat(subItemSearchIndex.search("과외")).extracting(SubItemResponse::mainItemName).containsExactly("과외");
+	}
+
+	@DisplayName("트랜잭션 안에서의 변경은 커밋된 뒤에만 색인에 반영된다")
+	@Test
+	void updateIndexAfterCommitTest() {
+		//given
+		SubItem renamed = createSubItem(4L, lesson, "수학 과외");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			//when
+			subItemSearchIndex.put(renamed);
+			subItemSearchIndex.remove(2L);
+
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+			//then
+			assertThat(subItemSearchIndex.search("수학")).isEmpty();
+			assertThat(subItemSearchIndex.search("청소")).extracting(SubItemResponse::id).containsExactly(2L, 3L, 1L);
+
+			synchronizations.forEach(synchronization ->
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+			assertThat(subItemSearchIndex.search("수학")).isEmpty();
+
+			synchronizations.forEach(synchronization ->
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+			assertThat(subItemSearchIndex.search("수학")).extracting(SubItemResponse::id).containsExactly(4L);
+			assertThat(subItemSearchIndex.search("청소")).extracting(SubItemResponse::id).containsExactly(3L, 1L);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private MainItem createMainItem(Long id, String name) {
+		MainItem mainItem = MainItem.builder()
+			.name(name)
+			.description(name + " 설명")
+			.build();
+		ReflectionTestUtils.setField(mainItem, "id", id);
+
+		return mainItem;
+	}
+
+	private SubItem createSubItem(Long id, MainItem mainItem, String name) {
+		SubItem subItem = SubItem.builder()
+			.mainItem(mainItem)
+			.name(name)
+			.description(name + " 설명")
+			.build();
+		ReflectionTestUtils.setField(subItem, "id", id);
+
+		return subItem;
+	}
+}
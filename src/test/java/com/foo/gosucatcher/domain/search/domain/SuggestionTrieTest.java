@@ -0,0 +1,54 @@
+package com.foo.gosucatcher.domain.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+	private final SuggestionTrie suggestionTrie = SuggestionTrie.build(Map.of(
+		"청소", 10L,
+		"청소년 과외", 3L,
+		"이사 청소", 20L,
+		"영어 과외", 7L,
+		"영상 편집", 1L
+	), 3);
+
+	@DisplayName("접두어로 시작하는 검색어를 가중치 순으로 추천한다")
+	@Test
+	void suggestByPrefixTest() {
+		//when
+		List<SuggestionTrie.Suggestion> suggestions = suggestionTrie.suggest("청", 10);
+
+		//then
+		assertThat(suggestions).extracting(SuggestionTrie.Suggestion::keyword)
+			.containsExactly("청소", "청소년 과외");
+	}
+
+	@DisplayName("완성되지 않은 한글 음절도 접두어로 사용할 수 있다")
+	@Test
+	void suggestByPartialSyllableTest() {
+		//when
+		List<SuggestionTrie.Suggestion> suggestions = suggestionTrie.suggest("영ㅇ", 10);
+
+		//then
+		assertThat(suggestions).extracting(SuggestionTrie.Suggestion::keyword)
+			.containsExactly("영어 과외");
+	}
+
+	@DisplayName("요청 개수와 최대 추천 개수 중 작은 값만큼 추천한다")
+	@Test
+	void suggestLimitTest() {
+		//when
+		List<SuggestionTrie.Suggestion> limited = suggestionTrie.suggest("영", 1);
+		List<SuggestionTrie.Suggestion> missing = suggestionTrie.suggest("수학", 10);
+
+		//then
+		assertThat(limited).extracting(SuggestionTrie.Suggestion::keyword).containsExactly("영어 과외");
+		assertThat(missing).isEmpty();
+	}
+}
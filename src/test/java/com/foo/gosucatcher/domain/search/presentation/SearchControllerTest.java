@@ -23,10 +23,14 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemResponse;
 import com.foo.gosucatcher.domain.item.application.dto.response.sub.SubItemsResponse;
 import com.foo.gosucatcher.domain.search.application.SearchService;
+import com.foo.gosucatcher.domain.search.application.SearchSuggestionService;
 import com.foo.gosucatcher.domain.search.application.dto.response.SearchListResponse;
 import com.foo.gosucatcher.domain.search.application.dto.response.SearchRankingListResponse;
 import com.foo.gosucatcher.domain.search.application.dto.response.SearchRankingResponse;
 import com.foo.gosucatcher.domain.search.application.dto.response.SearchResponse;
+import com.foo.gosucatcher.domain.search.application.dto.response.SearchSuggestionListResponse;
+import com.foo.gosucatcher.domain.search.application.dto.response.SearchSuggestionResponse;
+import com.foo.gosucatcher.domain.search.domain.RankingPeriod;
 
 @WebMvcTest(value = {SearchController.class}, excludeAutoConfiguration = {SecurityAutoConfiguration.class})
 class SearchControllerTest {
@@ -38,6 +42,9 @@ class SearchControllerTest {
 	@MockBean
 	private SearchService searchService;
 
+	@MockBean
+	private SearchSuggestionService searchSuggestionService;
+
 	@DisplayName("키워드로 검색시 연관 서비스 조회 성공")
 	@Test
 	void searchKeywordTest() throws Exception {
@@ -97,7 +104,7 @@ class SearchControllerTest {
 		//when
 		SearchRankingListResponse searchRankingListResponse = new SearchRankingListResponse(popularKeywords);
 
-		when(searchService.getPopularKeywords()).thenReturn(searchRankingListResponse);
+		when(searchService.getPopularKeywords(RankingPeriod.ALL)).thenReturn(searchRankingListResponse);
 
 		//then
 		mockMvc.perform(get("/api/v1/search/popularity")
@@ -111,4 +118,51 @@ class SearchControllerTest {
 			.andExpect(jsonPath("$.searchRankingList[2].keyword").value("REST"))
 			.andDo(print());
 	}
+
+	@Test
+	@DisplayName("기간별 인기 검색 목록 반환 성공")
+	void getPopularSearchListByPeriodTest() throws Exception {
+
+		//given
+		List<SearchRankingResponse> popularKeywords = List.of(
+			SearchRankingResponse.of(1, "영어"),
+			SearchRankingResponse.of(2, "청소"));
+
+		//when
+		SearchRankingListResponse searchRankingListResponse = new SearchRankingListResponse(popularKeywords);
+
+		when(searchService.getPopularKeywords(RankingPeriod.DAY)).thenReturn(searchRankingListResponse);
+
+		//then
+		mockMvc.perform(get("/api/v1/search/popularity")
+				.param("period", "DAY")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.searchRankingList[0].rating").value(1))
+			.andExpect(jsonPath("$.searchRankingList[0].keyword").value("영어"))
+			.andExpect(jsonPath("$.searchRankingList[1].keyword").value("청소"))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("검색어 자동완성 목록 반환 성공")
+	void suggestTest() throws Exception {
+
+		//given
+		SearchSuggestionListResponse suggestionListResponse = new SearchSuggestionListResponse(List.of(
+			new SearchSuggestionResponse("청소", 12L),
+			new SearchSuggestionResponse("청소년 과외", 3L)));
+
+		when(searchSuggestionService.suggest("청ㅅ", 5)).thenReturn(suggestionListResponse);
+
+		//then
+		mockMvc.perform(get("/api/v1/search/suggest")
+				.param("keyword", "청ㅅ")
+				.param("size", "5")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.suggestionList[0].keyword").value("청소"))
+			.andExpect(jsonPath("$.suggestionList[1].keyword").value("청소년 과외"))
+			.andDo(print());
+	}
 }
@@ -0,0 +1,119 @@
+package com.foo.gosucatcher.domain.sms.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.BusinessException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SmsDispatcherTest {
+
+	@Mock
+	private SmsSender smsSender;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SmsDispatcher smsDispatcher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+
+		TaskExecutor deferredExecutor = task -> {
+		};
+		smsDispatcher = new SmsDispatcher(smsSender, deferredExecutor, meterRegistry, Duration.ZERO, Duration.ZERO);
+	}
+
+	@Test
+	@DisplayName("대기 중인 SMS를 한 번의 요청으로 묶어서 발송한다")
+	void drainBatchTest() {
+		//given
+		SmsMessage first = new SmsMessage("01012345678", "인증번호: 123456");
+		SmsMessage second = new SmsMessage("01087654321", "인증번호: 654321");
+		when(smsSender.send(List.of(first, second))).thenReturn(Collections.emptyList());
+
+		smsDispatcher.enqueue(first);
+		smsDispatcher.enqueue(second);
+
+		//when
+		smsDispatcher.drain();
+
+		//then
+		verify(smsSender, times(1)).send(List.of(first, second));
+		assertThat(meterRegistry.counter("sms.dispatch.sent").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("같은 번호로 재발송 대기시간 안에 다시 요청하면 예외가 발생한다")
+	void enqueueFailTest_throttled() {
+		//given
+		smsDispatcher.enqueue(new SmsMessage("01012345678", "인증번호: 123456"));
+
+		//when -> then
+		assertThatThrownBy(() -> smsDispatcher.enqueue(new SmsMessage("01012345678", "인증번호: 654321")))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.TOO_MANY_SMS_REQUESTS);
+		assertThat(meterRegistry.counter("sms.dispatch.throttled").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("인증번호 저장에 실패하면 발송 대기열에 넣지 않고, 재발송 대기시간 안의 요청은 인증번호를 덮어쓰지 않는다")
+	void enqueueWithBeforeQueuedTest() {
+		//given
+		SmsMessage message = new SmsMessage("01012345678", "인증번호: 123456");
+		AtomicInteger savedCount = new AtomicInteger();
+
+		//when
+		assertThatThrownBy(() -> smsDispatcher.enqueue(message, () -> {
+			throw new IllegalStateException("redis unavailable");
+		})).isInstanceOf(IllegalStateException.class);
+
+		smsDispatcher.enqueue(message, savedCount::incrementAndGet);
+
+		assertThatThrownBy(() -> smsDispatcher.enqueue(message, savedCount::incrementAndGet))
+			.isInstanceOf(BusinessException.class);
+
+		//then
+		assertThat(savedCount.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("sms.dispatch.pending").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("발송에 실패한 SMS는 재시도하고 최대 시도 횟수를 넘기면 데드레터로 보관한다")
+	void drainFailTest_retryThenDeadLetter() {
+		//given
+		SmsMessage message = new SmsMessage("01012345678", "인증번호: 123456");
+		when(smsSender.send(anyList())).thenThrow(new IllegalStateException("provider unavailable"));
+
+		smsDispatcher.enqueue(message);
+
+		//when
+		smsDispatcher.drain();
+
+		//then
+		verify(smsSender, times(3)).send(List.of(message));
+		assertThat(meterRegistry.counter("sms.dispatch.retried").count()).isEqualTo(2);
+		assertThat(meterRegistry.counter("sms.dispatch.dead_lettered").count()).isEqualTo(1);
+		assertThat(smsDispatcher.getDeadLetters()).containsExactly(message);
+	}
+}
@@ -0,0 +1,67 @@
+package com.foo.gosucatcher.global.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+class CurrentArgumentBinderTest {
+
+	private final CurrentArgumentBinder memberIdBinder = new CurrentArgumentBinder(Long.class);
+
+	static class SampleController {
+
+		public void create(@PathVariable Long expertId, @RequestParam Long subItemId, Long memberId) {
+		}
+
+		public void findAll(@RequestParam Long memberId, @RequestParam Long page) {
+		}
+
+		public void search(@RequestParam String keyword) {
+		}
+	}
+
+	private Method sampleMethod(String name) {
+		for (Method method : SampleController.class.getMethods()) {
+			if (method.getName().equals(name)) {
+				return method;
+			}
+		}
+
+		throw new IllegalArgumentException(name);
+	}
+
+	@Test
+	@DisplayName("요청 값으로 바인딩되지 않는 파라미터에 회원 ID를 주입한다")
+	void findArgumentIndexTest() {
+		//when
+		int argumentIndex = memberIdBinder.findArgumentIndex(sampleMethod("create"));
+
+		//then
+		assertThat(argumentIndex).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("모든 파라미터가 요청 값이면 첫 번째 파라미터에 주입한다")
+	void findArgumentIndexTest_allBoundFromRequest() {
+		//when
+		int argumentIndex = memberIdBinder.findArgumentIndex(sampleMethod("findAll"));
+
+		//then
+		assertThat(argumentIndex).isZero();
+	}
+
+	@Test
+	@DisplayName("주입할 타입의 파라미터가 없으면 인덱스를 찾지 못한다")
+	void findArgumentIndexTest_notFound() {
+		//when
+		int argumentIndex = memberIdBinder.findArgumentIndex(sampleMethod("search"));
+
+		//then
+		assertThat(argumentIndex).isEqualTo(-1);
+	}
+}
@@ -0,0 +1,98 @@
+package com.foo.gosucatcher.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.member.domain.Member;
+import com.foo.gosucatcher.domain.member.domain.Roles;
+import com.foo.gosucatcher.global.error.ErrorCode;
+import com.foo.gosucatcher.global.error.exception.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+	@Mock
+	private CustomUserDetailsService customUserDetailsService;
+
+	@Mock
+	private PrincipalCache principalCache;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private Member member;
+	private Expert expert;
+
+	@BeforeEach
+	void setUp() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setAccessTokenSecretKey("ACCESS_TOKEN_SECRET_KEY_FOR_TEST");
+		jwtProperties.setRefreshTokenSecretKey("REFRESH_TOKEN_SECRET_KEY_FOR_TEST");
+		jwtProperties.setAccessTokenExpiredTime(1L);
+		jwtProperties.setRefreshTokenExpiredTime(14L);
+
+		jwtTokenProvider = new JwtTokenProvider(customUserDetailsService, principalCache, jwtProperties);
+
+		member = Member.builder()
+			.name("이홍섭")
+			.password("q1w2e3")
+			.email("sjun@naver.com")
+			.phoneNumber("010")
+			.role(Roles.ROLE_USER)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+
+		expert = Expert.builder()
+			.member(member)
+			.build();
+		ReflectionTestUtils.setField(expert, "id", 2L);
+	}
+
+	@Test
+	@DisplayName("액세스 토큰의 클레임만으로 인증 정보를 만든다")
+	void getAccessTokenAuthenticationTest() {
+		//given
+		String accessToken = jwtTokenProvider.createAccessToken(member, expert);
+		when(principalCache.isIssuedAfterLastChange(eq(1L), any(Instant.class))).thenReturn(true);
+
+		//when
+		Authentication authentication = jwtTokenProvider.getAccessTokenAuthentication(accessToken);
+
+		//then
+		AuthenticatedMember principal = (AuthenticatedMember)authentication.getPrincipal();
+		assertThat(principal.memberId()).isEqualTo(1L);
+		assertThat(principal.expertId()).isEqualTo(2L);
+		assertThat(principal.email()).isEqualTo("sjun@naver.com");
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+			.containsExactly("ROLE_USER");
+		verifyNoInteractions(customUserDetailsService);
+	}
+
+	@Test
+	@DisplayName("회원 정보가 바뀌기 전에 발급된 토큰은 DB에서 인증 정보를 다시 확인한다")
+	void getAccessTokenAuthenticationTest_changedMember() {
+		//given
+		String accessToken = jwtTokenProvider.createAccessToken(member, expert);
+		when(principalCache.isIssuedAfterLastChange(eq(1L), any(Instant.class))).thenReturn(false);
+		when(principalCache.get(eq(1L), any(Instant.class), any()))
+			.thenThrow(new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+
+		//when -> then
+		assertThrows(EntityNotFoundException.class, () -> jwtTokenProvider.getAccessTokenAuthentication(accessToken));
+	}
+}
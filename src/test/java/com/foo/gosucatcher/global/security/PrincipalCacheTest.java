@@ -0,0 +1,139 @@
+package com.foo.gosucatcher.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.foo.gosucatcher.domain.expert.domain.Expert;
+import com.foo.gosucatcher.domain.member.domain.Member;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+	@Mock
+	private RedisTemplate<String, String> cacheRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private PrincipalCache principalCache;
+	private final AtomicInteger loadCount = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setAccessTokenExpiredTime(1L);
+		principalCache = new PrincipalCache(cacheRedisTemplate, jwtProperties);
+	}
+
+	private CustomUserDetails load() {
+		loadCount.incrementAndGet();
+		Member member = Member.builder()
+			.name("이홍섭")
+			.password("q1w2e3")
+			.email("sjun@naver.com")
+			.phoneNumber("010")
+			.build();
+
+		return new CustomUserDetails(member, Expert.builder().member(member).build());
+	}
+
+	@Test
+	@DisplayName("같은 회원의 인증 정보는 한 번만 조회한다")
+	void getCacheHitTest() {
+		//given
+		Instant expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+
+		//when
+		CustomUserDetails first = principalCache.get(1L, expiration, this::load);
+		CustomUserDetails second = principalCache.get(1L, expiration, this::load);
+
+		//then
+		assertThat(second).isSameAs(first);
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("무효화하면 인증 정보를 다시 조회하고 버전을 올려 다른 서버에 알린다")
+	void invalidateTest() {
+		//given
+		Instant expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+		when(cacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		principalCache.get(1L, expiration, this::load);
+
+		//when
+		principalCache.invalidate(1L);
+		principalCache.get(1L, expiration, this::load);
+
+		//then
+		assertThat(loadCount).hasValue(2);
+		verify(valueOperations).set(eq("principal_version::{1}"), anyString(), eq(Duration.ofDays(1)));
+		verify(cacheRedisTemplate).convertAndSend(PrincipalCache.INVALIDATION_CHANNEL, "1");
+	}
+
+	@Test
+	@DisplayName("다른 서버의 무효화 메시지를 받으면 캐시된 인증 정보를 지운다")
+	void onMessageTest() {
+		//given
+		Instant expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+		principalCache.get(1L, expiration, this::load);
+
+		//when
+		principalCache.onMessage(new DefaultMessage(
+			PrincipalCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"1".getBytes(StandardCharsets.UTF_8)), null);
+		principalCache.get(1L, expiration, this::load);
+
+		//then
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("회원 정보가 바뀐 뒤에 발급된 토큰만 클레임을 그대로 믿는다")
+	void isIssuedAfterLastChangeTest() {
+		//given
+		Instant changedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		when(cacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("principal_version::{1}")).thenReturn(String.valueOf(changedAt.toEpochMilli()));
+		when(valueOperations.get("principal_version::{2}")).thenReturn(null);
+
+		//when -> then
+		assertThat(principalCache.isIssuedAfterLastChange(1L, changedAt.minusSeconds(60))).isFalse();
+		assertThat(principalCache.isIssuedAfterLastChange(1L, changedAt)).isFalse();
+		assertThat(principalCache.isIssuedAfterLastChange(1L, changedAt.plusSeconds(1))).isTrue();
+		assertThat(principalCache.isIssuedAfterLastChange(2L, changedAt.minusSeconds(60))).isTrue();
+	}
+
+	@Test
+	@DisplayName("만료된 토큰으로 조회한 인증 정보는 캐시하지 않는다")
+	void expiredTokenTest() {
+		//given
+		Instant expiration = Instant.now().minus(1, ChronoUnit.MINUTES);
+
+		//when
+		principalCache.get(1L, expiration, this::load);
+		principalCache.get(1L, expiration, this::load);
+
+		//then
+		assertThat(loadCount).hasValue(2);
+	}
+}
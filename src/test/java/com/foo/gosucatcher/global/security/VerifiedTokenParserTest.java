@@ -0,0 +1,73 @@
+package com.foo.gosucatcher.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.foo.gosucatcher.global.security.exception.JwtExpiredException;
+import com.foo.gosucatcher.global.security.exception.JwtParseException;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class VerifiedTokenParserTest {
+
+	private static final String SECRET_KEY = Base64.getEncoder()
+		.encodeToString("ACCESS_TOKEN_SECRET_KEY_FOR_TEST".getBytes());
+
+	private final VerifiedTokenParser verifiedTokenParser = new VerifiedTokenParser(SECRET_KEY);
+
+	private String createToken(String secretKey, long expiredAfterMillis) {
+		Date now = new Date();
+
+		return Jwts.builder()
+			.claim("memberEmail", "sjun@naver.com")
+			.setIssuedAt(now)
+			.setExpiration(new Date(now.getTime() + expiredAfterMillis))
+			.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey)), SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	@Test
+	@DisplayName("한 번 검증한 토큰은 서명을 다시 검증하지 않고 캐시된 클레임을 반환한다")
+	void parseCacheHitTest() {
+		//given
+		String token = createToken(SECRET_KEY, 60_000);
+
+		//when
+		Claims first = verifiedTokenParser.parse(token);
+		Claims second = verifiedTokenParser.parse(token);
+
+		//then
+		assertThat(second).isSameAs(first);
+		assertThat(second.get("memberEmail")).isEqualTo("sjun@naver.com");
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명된 토큰은 검증에 실패한다")
+	void parseFailTest_invalidSignature() {
+		//given
+		String otherSecretKey = Base64.getEncoder().encodeToString("OTHER_TOKEN_SECRET_KEY_FOR_TEST!".getBytes());
+		String token = createToken(otherSecretKey, 60_000);
+
+		//when -> then
+		assertThrows(JwtParseException.class, () -> verifiedTokenParser.parse(token));
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 검증에 실패한다")
+	void parseFailTest_expired() {
+		//given
+		String token = createToken(SECRET_KEY, -1_000);
+
+		//when -> then
+		assertThrows(JwtExpiredException.class, () -> verifiedTokenParser.parse(token));
+	}
+}